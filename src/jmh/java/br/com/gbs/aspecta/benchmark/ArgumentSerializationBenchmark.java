@@ -0,0 +1,68 @@
+package br.com.gbs.aspecta.benchmark;
+
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.utils.SensitiveDataMasker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of large arguments within the default {@code logger.serialization} limits,
+ * against the former unbounded {@code toString} rendering, in both serialization formats.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArgumentSerializationBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int elements;
+
+    private SensitiveDataMasker masker;
+    private SensitiveDataMasker jsonMasker;
+    private Object[] args;
+
+    @Setup
+    public void setUp() {
+        masker = new SensitiveDataMasker(new LoggerProperties(), List.of());
+        LoggerProperties json = new LoggerProperties();
+        json.getSerialization().setFormat(LoggerProperties.SerializationFormat.JSON);
+        jsonMasker = new SensitiveDataMasker(json, List.of());
+        List<String> list = new ArrayList<>(elements);
+        for (int i = 0; i < elements; i++) {
+            list.add("item-" + i);
+        }
+        args = new Object[]{list, new byte[elements]};
+    }
+
+    @Benchmark
+    public String bounded() {
+        return masker.sanitizeArgs(args, true);
+    }
+
+    @Benchmark
+    public String boundedJson() {
+        return jsonMasker.sanitizeArgs(args, true);
+    }
+
+    @Benchmark
+    public String unbounded() {
+        return args[0] + ", " + Arrays.toString((byte[]) args[1]);
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.gbs.aspecta.benchmark;
+
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
+import br.com.gbs.aspecta.logger.service.AsyncLoggerService;
+import br.com.gbs.aspecta.logger.service.BatchingAsyncLogger;
+import br.com.gbs.aspecta.logger.service.OverflowPolicyHandler;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cost seen by request threads of handing an event with MDC to the async logger, in
+ * {@code executor} mode (one task per event) and {@code batching} mode. The appender only
+ * counts events, so the hand-off and the consumer's per-event overhead dominate; a full
+ * queue makes the caller write the event itself, as configured by default.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class AsyncDispatchBenchmark {
+
+    @Param({"executor", "batching"})
+    public String mode;
+
+    private final LongAdder written = new LongAdder();
+    private Logger serviceLogger;
+    private AppenderBase<ILoggingEvent> appender;
+    private ThreadPoolTaskExecutor executor;
+    private BatchingAsyncLogger batching;
+    private AsyncLogger asyncLogger;
+
+    @Setup
+    public void setUp() {
+        serviceLogger = (Logger) LoggerFactory.getLogger(AsyncLoggerService.class);
+        serviceLogger.setLevel(Level.INFO);
+        serviceLogger.setAdditive(false);
+        appender = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                written.increment();
+            }
+        };
+        appender.setContext((LoggerContext) LoggerFactory.getILoggerFactory());
+        appender.start();
+        serviceLogger.addAppender(appender);
+
+        LoggerProperties props = new LoggerProperties();
+        if (mode.equals("batching")) {
+            batching = new BatchingAsyncLogger(props);
+            batching.afterPropertiesSet();
+            asyncLogger = batching;
+        } else {
+            executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(props.getAsync().getCorePoolSize());
+            executor.setMaxPoolSize(props.getAsync().getMaxPoolSize());
+            executor.setQueueCapacity(props.getAsync().getQueueCapacity());
+            OverflowPolicyHandler overflow = new OverflowPolicyHandler(props.getAsync());
+            executor.setRejectedExecutionHandler(overflow);
+            executor.setTaskDecorator(runnable -> {
+                Map<String, String> mdc = MDC.getCopyOfContextMap();
+                return () -> {
+                    MDC.setContextMap(mdc);
+                    try {
+                        runnable.run();
+                    } finally {
+                        MDC.clear();
+                    }
+                };
+            });
+            executor.initialize();
+            asyncLogger = new AsyncLoggerService(executor, overflow);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        if (batching != null) batching.destroy();
+        if (executor != null) executor.shutdown();
+        serviceLogger.detachAppender(appender);
+        serviceLogger.setAdditive(true);
+        serviceLogger.setLevel(null);
+    }
+
+    @State(Scope.Thread)
+    public static class Request {
+        @Setup
+        public void setUp() {
+            MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+            MDC.put("spanId", "00f067aa0ba902b7");
+        }
+    }
+
+    @Benchmark
+    public void logInfo(Request request) {
+        asyncLogger.logInfo("order {} processed in {} ms", "order-42", 12);
+    }
+}
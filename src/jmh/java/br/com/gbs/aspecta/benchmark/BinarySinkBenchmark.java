@@ -0,0 +1,128 @@
+package br.com.gbs.aspecta.benchmark;
+
+import br.com.gbs.aspecta.logger.anotations.LogOn;
+import br.com.gbs.aspecta.logger.aspect.LoggerAspect;
+import br.com.gbs.aspecta.logger.binary.BinaryAsyncLogger;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
+import br.com.gbs.aspecta.logger.providers.DefaultMessageProvider;
+import br.com.gbs.aspecta.logger.providers.DelegatingMessageProvider;
+import br.com.gbs.aspecta.logger.service.AsyncLoggerService;
+import br.com.gbs.aspecta.logger.service.OverflowPolicyHandler;
+import br.com.gbs.aspecta.logger.utils.SensitiveDataMasker;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An advised call written on the caller thread to a file: as the plain text line, through
+ * Logback's {@link FileAppender} with a buffered, non-flushing encoder, versus as a binary record
+ * appended to a memory-mapped segment by {@link BinaryAsyncLogger}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinarySinkBenchmark {
+
+    @Param({"text-file", "binary"})
+    public String sink;
+
+    private Path directory;
+    private FileAppender<ILoggingEvent> appender;
+    private Logger logger;
+    private BinaryAsyncLogger binary;
+    private OrderService advised;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("aspecta-bench");
+        LoggerProperties props = new LoggerProperties();
+        props.setProjectName("BENCH");
+        props.setEnableI18n(false);
+        props.getBinary().setDirectory(directory.toString());
+        props.getBinary().setMaxSegments(2);
+        AsyncLoggerService direct = new AsyncLoggerService(Runnable::run, new OverflowPolicyHandler(props.getAsync()));
+
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        logger = context.getLogger(AsyncLoggerService.class);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        AsyncLogger asyncLogger;
+        if ("binary".equals(sink)) {
+            binary = new BinaryAsyncLogger(props, direct);
+            asyncLogger = binary;
+        } else {
+            PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+            encoder.setContext(context);
+            encoder.setPattern("%d{ISO8601} %-5level [%thread] %logger{36} - %msg%n");
+            encoder.start();
+            appender = new FileAppender<>();
+            appender.setContext(context);
+            appender.setEncoder(encoder);
+            appender.setImmediateFlush(false);
+            appender.setFile(directory.resolve("aspecta.log").toString());
+            appender.start();
+            logger.addAppender(appender);
+            asyncLogger = direct;
+        }
+
+        LoggerAspect aspect = new LoggerAspect(props, asyncLogger,
+                new DelegatingMessageProvider(props, null, new DefaultMessageProvider(props)),
+                new SensitiveDataMasker(props, List.of()));
+        AspectJProxyFactory factory = new AspectJProxyFactory(new OrderService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        advised = factory.getProxy();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (binary != null) binary.destroy();
+        if (appender != null) {
+            logger.detachAppender(appender);
+            appender.stop();
+        }
+        logger.setAdditive(true);
+        logger.setLevel(null);
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public String advised() {
+        return advised.find("order-42", "note with \"quotes\" and \\ backslashes");
+    }
+
+    public static class OrderService {
+        @LogOn
+        public String find(String id, String note) {
+            return id + ":" + note.length();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.gbs.aspecta.benchmark;
+
+import br.com.gbs.aspecta.logger.masking.CardNumberMaskingStrategy;
+import br.com.gbs.aspecta.logger.masking.CnpjMaskingStrategy;
+import br.com.gbs.aspecta.logger.masking.CpfMaskingStrategy;
+import br.com.gbs.aspecta.logger.masking.EmailMaskingStrategy;
+import br.com.gbs.aspecta.logger.masking.MaskingPipeline;
+import br.com.gbs.aspecta.logger.masking.MaskingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * The built-in CPF, CNPJ, card number and e-mail scanners against the naive {@code Pattern}
+ * strategies users used to register, over text with and without sensitive values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BuiltInMaskingBenchmark {
+
+    private static final Pattern CPF = Pattern.compile("\\d{3}\\.?\\d{3}\\.?\\d{3}-?\\d{2}");
+    private static final Pattern CNPJ = Pattern.compile("\\d{2}\\.?\\d{3}\\.?\\d{3}/?\\d{4}-?\\d{2}");
+    private static final Pattern CARD = Pattern.compile("\\b\\d{4}[- ]?\\d{4}[- ]?\\d{4}[- ]?\\d{4}\\b");
+    private static final Pattern EMAIL = Pattern.compile("[\\w.+-]+@[\\w-]+(\\.[\\w-]+)+");
+
+    /** {@code true}: one sensitive value per line; {@code false}: plain text with numbers only. */
+    @Param({"true", "false"})
+    public boolean sensitive;
+
+    private MaskingPipeline builtIn;
+    private MaskingPipeline regex;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        builtIn = MaskingPipeline.of(List.of(new CpfMaskingStrategy(), new CnpjMaskingStrategy(),
+                new CardNumberMaskingStrategy(), new EmailMaskingStrategy()));
+        regex = MaskingPipeline.of(List.<MaskingStrategy>of(
+                in -> CPF.matcher(in).replaceAll("***.***.***-**"),
+                in -> CNPJ.matcher(in).replaceAll("**.***.***/****-**"),
+                in -> CARD.matcher(in).replaceAll("****-****-****-****"),
+                in -> EMAIL.matcher(in).replaceAll("***@***")));
+        String[] values = {"529.982.247-25", "11.222.333/0001-81", "4111 1111 1111 1111", "john.doe@example.com"};
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 16; i++) {
+            sb.append("order ").append(100_000 + i).append(" total 1234.56 status shipped");
+            if (sensitive) sb.append(" customer ").append(values[i % values.length]);
+            sb.append('\n');
+        }
+        input = sb.toString();
+    }
+
+    @Benchmark
+    public String builtIn() {
+        return builtIn.apply(input);
+    }
+
+    @Benchmark
+    public String regex() {
+        return regex.apply(input);
+    }
+}
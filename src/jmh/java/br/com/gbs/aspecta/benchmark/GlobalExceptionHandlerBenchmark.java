@@ -0,0 +1,60 @@
+package br.com.gbs.aspecta.benchmark;
+
+import br.com.gbs.aspecta.exception.ExceptionType;
+import br.com.gbs.aspecta.exception.exception.ApiErrorException;
+import br.com.gbs.aspecta.exception.handler.GlobalExceptionHandler;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GlobalExceptionHandler#handleApiErrorException} for each {@link ExceptionType},
+ * resolving the message through the bundled {@code messages} files.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlobalExceptionHandlerBenchmark {
+
+    @Param({"BASIC", "COMPLETE", "PROBLEM_DETAIL"})
+    public ExceptionType type;
+
+    private GlobalExceptionHandler handler;
+    private ApiErrorException exception;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+
+        handler = new GlobalExceptionHandler(messageSource, new LoggerProperties());
+        exception = new ApiErrorException(type, "exception.handler.not.found", "Not found",
+                HttpStatus.NOT_FOUND, "ORDER_NOT_FOUND");
+        request = new MockHttpServletRequest("GET", "/orders/42");
+    }
+
+    @Benchmark
+    public ResponseEntity<?> handleApiErrorException() {
+        return handler.handleApiErrorException(exception, request);
+    }
+}
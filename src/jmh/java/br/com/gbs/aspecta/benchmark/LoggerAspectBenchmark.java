@@ -0,0 +1,119 @@
+package br.com.gbs.aspecta.benchmark;
+
+import br.com.gbs.aspecta.logger.anotations.LogOn;
+import br.com.gbs.aspecta.logger.aspect.LogEvent;
+import br.com.gbs.aspecta.logger.aspect.LoggerAspect;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
+import br.com.gbs.aspecta.logger.providers.DefaultMessageProvider;
+import br.com.gbs.aspecta.logger.providers.DelegatingMessageProvider;
+import br.com.gbs.aspecta.logger.utils.SensitiveDataMasker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of the {@code @LogOn} advice: the same call made directly on the target,
+ * through a proxy without advice, and through the advised proxy in plain and structured
+ * output modes. The {@link AsyncLogger} keeps a copy of each event, as the asynchronous
+ * sinks do, and discards it, so only the caller-side cost is measured: rendering belongs
+ * to the logging thread.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggerAspectBenchmark {
+
+    @Param({"false", "true"})
+    public boolean structured;
+
+    private OrderService target;
+    private OrderService unadvised;
+    private OrderService advised;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        LoggerProperties props = new LoggerProperties();
+        props.setProjectName("BENCH");
+        props.setEnableI18n(false);
+        props.setStructuredOutput(structured);
+
+        LoggerAspect aspect = new LoggerAspect(props, new BlackholeAsyncLogger(blackhole),
+                new DelegatingMessageProvider(props, null, new DefaultMessageProvider(props)),
+                new SensitiveDataMasker(props, List.of()));
+
+        target = new OrderService();
+        unadvised = new AspectJProxyFactory(new OrderService()).getProxy();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new OrderService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        advised = factory.getProxy();
+    }
+
+    @Benchmark
+    public String baseline() {
+        return target.find("order-42", 3);
+    }
+
+    @Benchmark
+    public String unadvisedProxy() {
+        return unadvised.find("order-42", 3);
+    }
+
+    @Benchmark
+    public String advised() {
+        return advised.find("order-42", 3);
+    }
+
+    public static class OrderService {
+        @LogOn
+        public String find(String id, int page) {
+            return id + ":" + page;
+        }
+    }
+
+    /** Hands every event to the blackhole so the call is not eliminated. */
+    private record BlackholeAsyncLogger(Blackhole blackhole) implements AsyncLogger {
+
+        @Override
+        public void log(LogEvent event) {
+            blackhole.consume(event.copy());
+        }
+
+        @Override
+        public void logDebug(String message, Object... args) {
+            blackhole.consume(args);
+        }
+
+        @Override
+        public void logInfo(String message, Object... args) {
+            blackhole.consume(args);
+        }
+
+        @Override
+        public void logWarn(String message, Object... args) {
+            blackhole.consume(args);
+        }
+
+        @Override
+        public void logError(String message, Object... args) {
+            blackhole.consume(args);
+        }
+    }
+}
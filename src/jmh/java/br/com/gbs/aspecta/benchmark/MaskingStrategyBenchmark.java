@@ -0,0 +1,100 @@
+package br.com.gbs.aspecta.benchmark;
+
+import br.com.gbs.aspecta.logger.masking.MaskingPipeline;
+import br.com.gbs.aspecta.logger.masking.MaskingSpans;
+import br.com.gbs.aspecta.logger.masking.MaskingStrategy;
+import br.com.gbs.aspecta.logger.masking.SpanMaskingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Six regex strategies (CPF, CNPJ, card PAN, e-mail, phone, IBAN) chained through
+ * {@code apply}, against the same patterns as {@link SpanMaskingStrategy} beans with a
+ * {@code mightMatch} hint, merged by {@link MaskingPipeline} into a single output.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MaskingStrategyBenchmark {
+
+    private static final String[][] RULES = {
+            {"\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2}", "-", "***.***.***-**"},
+            {"\\d{2}\\.\\d{3}\\.\\d{3}/\\d{4}-\\d{2}", "/", "**.***.***/****-**"},
+            {"\\b\\d{4}[- ]\\d{4}[- ]\\d{4}[- ]\\d{4}\\b", "-", "****-****-****-****"},
+            {"[\\w.+-]+@[\\w-]+(\\.[\\w-]+)+", "@", "***@***"},
+            {"\\+\\d{2} \\d{2} \\d{4,5}-\\d{4}", "+", "+** ** *****-****"},
+            {"\\b[A-Z]{2}\\d{2}[A-Z0-9]{11,30}\\b", null, "IBAN****"},
+    };
+
+    /** {@code true}: one sensitive value per line; {@code false}: plain text only. */
+    @Param({"true", "false"})
+    public boolean sensitive;
+
+    private MaskingPipeline chained;
+    private MaskingPipeline merged;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        List<MaskingStrategy> plain = new ArrayList<>();
+        List<MaskingStrategy> spans = new ArrayList<>();
+        for (String[] rule : RULES) {
+            Pattern pattern = Pattern.compile(rule[0]);
+            plain.add(in -> pattern.matcher(in).replaceAll(rule[2]));
+            spans.add(new PatternSpans(pattern, rule[1], rule[2]));
+        }
+        chained = MaskingPipeline.of(plain);
+        merged = MaskingPipeline.of(spans);
+        StringBuilder sb = new StringBuilder();
+        String[] values = {"123.456.789-00", "12.345.678/0001-90", "4111-1111-1111-1111",
+                "ana@example.com", "+55 11 91234-5678", "DE89370400440532013000"};
+        for (int i = 0; i < 12; i++) {
+            sb.append("order ").append(i).append(" status shipped");
+            if (sensitive) sb.append(" value ").append(values[i % values.length]);
+            sb.append('\n');
+        }
+        input = sb.toString();
+    }
+
+    @Benchmark
+    public String chainedApply() {
+        return chained.apply(input);
+    }
+
+    @Benchmark
+    public String mergedSpans() {
+        return merged.apply(input);
+    }
+
+    private record PatternSpans(Pattern pattern, String hint, String replacement) implements SpanMaskingStrategy {
+
+        @Override
+        public boolean mightMatch(String input) {
+            return hint == null || input.contains(hint);
+        }
+
+        @Override
+        public void findMatches(String input, MaskingSpans spans) {
+            Matcher m = pattern.matcher(input);
+            while (m.find()) spans.add(m.start(), m.end(), replacement);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.gbs.aspecta.benchmark;
+
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.utils.MdcCapture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost on the request thread of capturing an MDC of twelve entries, as set up by a typical
+ * tracing configuration, for one async log event in each {@code logger.async.mdc-capture}
+ * mode. The MDC does not change between events, as within a single request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MdcCaptureBenchmark {
+
+    @Param({"FULL", "KEYS", "SHARED"})
+    public LoggerProperties.MdcCaptureMode mode;
+
+    private MdcCapture capture;
+
+    @Setup
+    public void setUp() {
+        MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+        MDC.put("spanId", "00f067aa0ba902b7");
+        MDC.put("tenant", "acme");
+        for (int i = 0; i < 9; i++) MDC.put("baggage" + i, "value-" + i);
+        LoggerProperties.Async cfg = new LoggerProperties().getAsync();
+        cfg.setMdcCapture(mode);
+        cfg.setMdcKeys(List.of("traceId", "spanId", "tenant"));
+        capture = MdcCapture.of(cfg);
+    }
+
+    @TearDown
+    public void tearDown() {
+        MDC.clear();
+    }
+
+    @Benchmark
+    public Map<String, String> capture() {
+        return capture.capture();
+    }
+}
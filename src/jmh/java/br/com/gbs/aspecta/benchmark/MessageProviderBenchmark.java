@@ -0,0 +1,67 @@
+package br.com.gbs.aspecta.benchmark;
+
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.providers.DefaultMessageProvider;
+import br.com.gbs.aspecta.logger.providers.DelegatingMessageProvider;
+import br.com.gbs.aspecta.logger.providers.I18nMessageProvider;
+import br.com.gbs.aspecta.logger.service.I18NLoggerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry, exit and error message rendering through {@link DelegatingMessageProvider},
+ * with i18n disabled (string concatenation) and enabled (bundled {@code messages} files).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageProviderBenchmark {
+
+    @Param({"false", "true"})
+    public boolean i18n;
+
+    private DelegatingMessageProvider provider;
+
+    @Setup
+    public void setUp() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+
+        LoggerProperties props = new LoggerProperties();
+        props.setEnableI18n(i18n);
+        provider = new DelegatingMessageProvider(props,
+                new I18nMessageProvider(new I18NLoggerService(messageSource)),
+                new DefaultMessageProvider(props));
+    }
+
+    @Benchmark
+    public String entryMessage() {
+        return provider.entryMessage("find", "order-42, 3");
+    }
+
+    @Benchmark
+    public String exitMessage() {
+        return provider.exitMessage("find", "order-42:3");
+    }
+
+    @Benchmark
+    public String errorMessage() {
+        return provider.errorMessage("find", "IllegalStateException", "order not found");
+    }
+}
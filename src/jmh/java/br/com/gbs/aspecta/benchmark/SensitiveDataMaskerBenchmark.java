@@ -0,0 +1,82 @@
+package br.com.gbs.aspecta.benchmark;
+
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.utils.SensitiveDataMasker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SensitiveDataMasker#sanitizeArgs} over JSON-like payloads of increasing size,
+ * with a growing number of configured sensitive keys. About one field in eight is sensitive;
+ * {@link #sanitizeArgsNoKeys} logs a payload of the same size where no key occurs at all.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SensitiveDataMaskerBenchmark {
+
+    @Param({"128", "2048", "32768"})
+    public int payloadSize;
+
+    @Param({"1", "10", "50"})
+    public int keyCount;
+
+    private SensitiveDataMasker masker;
+    private Object[] args;
+    private Object[] cleanArgs;
+
+    @Setup
+    public void setUp() {
+        List<String> keys = new ArrayList<>();
+        keys.add("password");
+        for (int i = 1; i < keyCount; i++) {
+            keys.add("secret" + i);
+        }
+        LoggerProperties props = new LoggerProperties();
+        props.setSensitiveKeys(keys);
+        masker = new SensitiveDataMasker(props, List.of());
+        args = new Object[]{payload(payloadSize, "password"), 42L};
+        cleanArgs = new Object[]{payload(payloadSize, "username"), 42L};
+    }
+
+    @Benchmark
+    public String sanitizeArgs() {
+        return masker.sanitizeArgs(args, true);
+    }
+
+    @Benchmark
+    public String sanitizeArgsUnmasked() {
+        return masker.sanitizeArgs(args, false);
+    }
+
+    @Benchmark
+    public String sanitizeArgsNoKeys() {
+        return masker.sanitizeArgs(cleanArgs, true);
+    }
+
+    private static String payload(int size, String sensitiveKey) {
+        StringBuilder sb = new StringBuilder(size + 32).append('{');
+        for (int i = 0; sb.length() < size; i++) {
+            if (i > 0) sb.append(',');
+            String key = i % 8 == 0 ? sensitiveKey : "field" + i;
+            sb.append('"').append(key).append("\":\"value-").append(i).append('"');
+        }
+        return sb.append('}').toString();
+    }
+}
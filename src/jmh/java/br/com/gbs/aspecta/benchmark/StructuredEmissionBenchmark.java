@@ -0,0 +1,125 @@
+package br.com.gbs.aspecta.benchmark;
+
+import br.com.gbs.aspecta.logger.anotations.LogOn;
+import br.com.gbs.aspecta.logger.aspect.LoggerAspect;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.providers.DefaultMessageProvider;
+import br.com.gbs.aspecta.logger.providers.DelegatingMessageProvider;
+import br.com.gbs.aspecta.logger.service.AsyncLoggerService;
+import br.com.gbs.aspecta.logger.service.OverflowPolicyHandler;
+import br.com.gbs.aspecta.logger.utils.SensitiveDataMasker;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An advised call in structured mode, written synchronously through Logback's
+ * {@link JsonEncoder} to a stream that only counts bytes, with the JSON built by the aspect
+ * and logged as the message versus the fields passed as SLF4J key-value pairs. The bytes
+ * written per call are printed at the end of each trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StructuredEmissionBenchmark {
+
+    @Param({"MESSAGE", "KEY_VALUE"})
+    public LoggerProperties.StructuredEmission emission;
+
+    private final CountingStream out = new CountingStream();
+    private OutputStreamAppender<ILoggingEvent> appender;
+    private Logger logger;
+    private OrderService advised;
+    private long calls;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        JsonEncoder encoder = new JsonEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(out);
+        appender.start();
+        logger = context.getLogger(AsyncLoggerService.class);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+
+        LoggerProperties props = new LoggerProperties();
+        props.setProjectName("BENCH");
+        props.setEnableI18n(false);
+        props.setStructuredOutput(true);
+        props.setStructuredEmission(emission);
+        LoggerAspect aspect = new LoggerAspect(props,
+                new AsyncLoggerService(Runnable::run, new OverflowPolicyHandler(props.getAsync())),
+                new DelegatingMessageProvider(props, null, new DefaultMessageProvider(props)),
+                new SensitiveDataMasker(props, List.of()));
+        AspectJProxyFactory factory = new AspectJProxyFactory(new OrderService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        advised = factory.getProxy();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%n%s: %d bytes per call%n", emission, calls == 0 ? 0 : out.count / calls);
+        logger.detachAppender(appender);
+        appender.stop();
+        logger.setAdditive(true);
+        logger.setLevel(null);
+    }
+
+    @Benchmark
+    public String advised() {
+        calls++;
+        return advised.find("order-42", "note with \"quotes\" and \\ backslashes");
+    }
+
+    public static class OrderService {
+        @LogOn
+        public String find(String id, String note) {
+            return id + ":" + note.length();
+        }
+    }
+
+    private static final class CountingStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
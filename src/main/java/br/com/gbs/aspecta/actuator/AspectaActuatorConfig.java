@@ -1,6 +1,7 @@
 package br.com.gbs.aspecta.actuator;
 
 import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -17,7 +18,8 @@ public class AspectaActuatorConfig {
     @ConditionalOnMissingBean
     public AspectaActuatorEndpoint aspectaActuatorEndpoint(
             LoggerProperties loggerProperties,
-            @Qualifier("aspectaLoggerExecutor") ThreadPoolTaskExecutor executor) {
-        return new AspectaActuatorEndpoint(loggerProperties, executor);
+            @Qualifier("aspectaLoggerExecutor") ThreadPoolTaskExecutor executor,
+            AsyncLogger asyncLogger) {
+        return new AspectaActuatorEndpoint(loggerProperties, executor, asyncLogger);
     }
 }
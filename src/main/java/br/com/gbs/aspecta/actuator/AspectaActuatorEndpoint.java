@@ -1,6 +1,7 @@
 package br.com.gbs.aspecta.actuator;
 
 import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
@@ -11,7 +12,8 @@ import java.util.Map;
 
 /**
  * Spring Actuator endpoint that exposes the current Aspecta configuration and
- * real-time health of the async logging executor.
+ * real-time health of the async logging executor, including the events discarded
+ * by {@code logger.async.overflow-policy}.
  * <p>
  * Accessible at {@code /actuator/aspecta} when {@code spring-boot-starter-actuator}
  * is on the classpath and the endpoint is enabled.
@@ -26,6 +28,7 @@ public class AspectaActuatorEndpoint {
 
     private final LoggerProperties loggerProperties;
     private final ThreadPoolTaskExecutor executor;
+    private final AsyncLogger asyncLogger;
 
     @ReadOperation
     public Map<String, Object> info() {
@@ -37,12 +40,15 @@ public class AspectaActuatorEndpoint {
                 : 0.0;
 
         Map<String, Object> asyncStats = new LinkedHashMap<>();
+        asyncStats.put("executor",       loggerProperties.getAsync().getExecutor().name());
         asyncStats.put("corePoolSize",   loggerProperties.getAsync().getCorePoolSize());
         asyncStats.put("maxPoolSize",    loggerProperties.getAsync().getMaxPoolSize());
         asyncStats.put("queueCapacity",  queueCapacity);
         asyncStats.put("activeThreads",  activeThreads);
         asyncStats.put("queueSize",      queueSize);
         asyncStats.put("queueUsagePct",  usagePct);
+        asyncStats.put("overflowPolicy", overflowPolicy());
+        asyncStats.put("droppedEvents",  asyncLogger.droppedEvents());
 
         Map<String, Object> result = new LinkedHashMap<>();
         result.put("enabled",          loggerProperties.isEnabled());
@@ -53,4 +59,9 @@ public class AspectaActuatorEndpoint {
         result.put("async",            asyncStats);
         return result;
     }
+
+    private String overflowPolicy() {
+        LoggerProperties.OverflowPolicy policy = loggerProperties.getAsync().getOverflowPolicy();
+        return policy != null ? policy.name() : "DEFAULT";
+    }
 }
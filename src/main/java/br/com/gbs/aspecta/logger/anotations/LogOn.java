@@ -21,4 +21,41 @@ public @interface LogOn {
      * those fields in plain text while still masking everything else.
      */
     String[] excludeFromMask() default {};
+
+    /**
+     * Fraction of calls to log, from {@code 0.0} to {@code 1.0}. Negative (default)
+     * inherits {@code logger.sampling.rate}.
+     */
+    double sampleRate() default -1;
+
+    /**
+     * Maximum logged calls per second for this method; {@code 0} means unlimited.
+     * Negative (default) inherits {@code logger.sampling.max-per-second}.
+     */
+    int maxPerSecond() default -1;
+
+    /**
+     * When positive, entry and exit are only logged for calls that take at least this many
+     * milliseconds or that throw; arguments of fast calls are never serialized. {@code 0}
+     * logs every call. Negative (default) inherits {@code logger.slow-threshold-ms}.
+     */
+    long slowThresholdMs() default -1;
+
+    /**
+     * Characters kept per argument and return value before they are cut and marked as
+     * truncated. Negative (default) inherits {@code logger.serialization.max-chars}.
+     */
+    int maxChars() default -1;
+
+    /**
+     * Elements written per array, collection or map. Negative (default) inherits
+     * {@code logger.serialization.max-elements}.
+     */
+    int maxElements() default -1;
+
+    /**
+     * Nesting levels of arrays, collections and maps that are expanded. Negative (default)
+     * inherits {@code logger.serialization.max-depth}.
+     */
+    int maxDepth() default -1;
 }
@@ -0,0 +1,25 @@
+package br.com.gbs.aspecta.logger.anotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Masks a single field, record component or getter of a DTO whenever it is logged as an
+ * argument or return value of a {@link LogOn} method with {@link LogOn#sensitiveData()}
+ * enabled, regardless of {@code logger.sensitive-keys} and {@link LogOn#excludeFromMask()}.
+ * <p>
+ * Example: {@code @Sensitive(keepLast = 4) String cardNumber} logs {@code ***1111}.
+ * When the visible characters would cover the whole value, it is masked entirely.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.RECORD_COMPONENT, ElementType.METHOD})
+public @interface Sensitive {
+
+    /** Leading characters left visible. */
+    int keepFirst() default 0;
+
+    /** Trailing characters left visible. */
+    int keepLast() default 0;
+}
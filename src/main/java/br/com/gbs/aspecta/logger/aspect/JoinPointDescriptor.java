@@ -0,0 +1,72 @@
+package br.com.gbs.aspecta.logger.aspect;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.anotations.LogOn;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.CallMetrics;
+import br.com.gbs.aspecta.logger.utils.SerializationLimits;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Static facts about an advised method, resolved once per {@code (method, target class)}
+ * and cached by {@link LoggerAspect} so the advice does not repeat reflection,
+ * annotation lookups or list allocations on every call.
+ */
+final class JoinPointDescriptor {
+
+    /** Marks a class-level join point whose target class carries no {@link LogOn}. */
+    static final JoinPointDescriptor NOT_ANNOTATED = new JoinPointDescriptor();
+
+    final String className;
+    final String methodName;
+    final LogLevel level;
+    final boolean sensitiveData;
+    final boolean logStackTrace;
+    final List<String> excludeFromMask;
+    final SamplingPolicy sampling;
+    /** Entry and exit are only logged for calls at least this slow (or failing); {@code 0} disables it. */
+    final long slowThresholdMs;
+    final CallMetrics.Recorder metrics;
+    final SerializationLimits serializationLimits;
+
+    private JoinPointDescriptor(Method method, Class<?> targetClass, LogOn logOn, LoggerProperties defaults,
+                                CallMetrics callMetrics) {
+        this.className = targetClass.getSimpleName();
+        this.methodName = method.getName();
+        this.level = logOn.level();
+        this.sensitiveData = logOn.sensitiveData();
+        this.logStackTrace = logOn.logStackTrace();
+        this.excludeFromMask = List.of(logOn.excludeFromMask());
+        this.sampling = SamplingPolicy.of(logOn, defaults.getSampling());
+        this.slowThresholdMs = logOn.slowThresholdMs() >= 0 ? logOn.slowThresholdMs() : defaults.getSlowThresholdMs();
+        this.metrics = callMetrics.forMethod(className, methodName);
+        this.serializationLimits = SerializationLimits.of(defaults.getSerialization())
+                .withOverrides(logOn.maxChars(), logOn.maxElements(), logOn.maxDepth());
+    }
+
+    private JoinPointDescriptor() {
+        this.className = null;
+        this.methodName = null;
+        this.level = null;
+        this.sensitiveData = false;
+        this.logStackTrace = false;
+        this.excludeFromMask = List.of();
+        this.sampling = SamplingPolicy.ALWAYS;
+        this.slowThresholdMs = 0;
+        this.metrics = CallMetrics.Recorder.NOOP;
+        this.serializationLimits = null;
+    }
+
+    static JoinPointDescriptor of(Method method, Class<?> targetClass, LogOn logOn, LoggerProperties defaults,
+                                  CallMetrics callMetrics) {
+        return logOn != null
+                ? new JoinPointDescriptor(method, targetClass, logOn, defaults, callMetrics)
+                : NOT_ANNOTATED;
+    }
+
+    /** Cache key: the same method may be advised on several concrete target classes. */
+    record Key(Method method, Class<?> targetClass) {
+    }
+}
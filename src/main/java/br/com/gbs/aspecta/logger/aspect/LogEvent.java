@@ -0,0 +1,184 @@
+package br.com.gbs.aspecta.logger.aspect;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.util.function.Supplier;
+
+/**
+ * A {@code @LogOn} entry, exit or error carried unrendered from the advice to the
+ * {@link br.com.gbs.aspecta.logger.interfaces.AsyncLogger}: the raw fields plus the renderer
+ * that turns them into the log line. Rendering happens once, at the sink, by {@link #render()}.
+ * <p>
+ * The advice fills a per-thread instance and passes it to {@code AsyncLogger.log}; the event
+ * is only valid during that call and is cleared for reuse afterwards. Sinks that write later
+ * must copy it into storage they own: the ring buffer into the event preallocated in each
+ * slot, the other modes into one {@link #copy()}.
+ * <p>
+ * Instances are not thread-safe; a copy belongs to the sink that made it.
+ */
+public final class LogEvent {
+
+    public enum Kind {
+        ENTRY("entry"), EXIT("exit"), ERROR("error");
+
+        private final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+
+        /** Name of the event in the structured output. */
+        public String label() {
+            return label;
+        }
+    }
+
+    /** Turns a filled event into its log line. */
+    @FunctionalInterface
+    public interface Renderer {
+        String render(LogEvent event);
+
+        /** Writes the event through {@code builder}; by default as the rendered line. */
+        default void write(LogEvent event, LoggingEventBuilder builder) {
+            builder.log(render(event));
+        }
+    }
+
+    private static final ThreadLocal<LogEvent> SCRATCH = ThreadLocal.withInitial(LogEvent::new);
+
+    @Getter private Kind kind;
+    @Getter private LogLevel level;
+    @Getter private String project;
+    @Getter private String className;
+    @Getter private String method;
+    /** Arguments (entry), result (exit) or exception name (error). */
+    @Getter private String payload;
+    /** Exception message (error only). */
+    @Getter private String detail;
+    /** Call duration; negative for entry events, which have none. */
+    @Getter private long durationNanos;
+    @Getter private String traceId;
+    private Supplier<String> deferredPayload;
+    private Supplier<String> deferredDetail;
+    private Renderer renderer;
+    private boolean inUse;
+
+    /**
+     * Returns this thread's reusable event, or a fresh one when it is already out, e.g. when
+     * rendering on the caller runs advised code that logs in turn. Pair with {@link #release()}.
+     */
+    static LogEvent acquire() {
+        LogEvent event = SCRATCH.get();
+        if (event.inUse) return new LogEvent();
+        event.inUse = true;
+        return event;
+    }
+
+    /** Clears the event and gives it back to its thread. */
+    void release() {
+        clear();
+        inUse = false;
+    }
+
+    public LogEvent fill(Kind kind, LogLevel level, String project, String className, String method,
+                         long durationNanos, String traceId, Renderer renderer) {
+        this.kind = kind;
+        this.level = level;
+        this.project = project;
+        this.className = className;
+        this.method = method;
+        this.durationNanos = durationNanos;
+        this.traceId = traceId;
+        this.renderer = renderer;
+        return this;
+    }
+
+    public LogEvent payload(String payload, String detail) {
+        this.payload = payload;
+        this.detail = detail;
+        return this;
+    }
+
+    /** Payload and detail computed at render time, on the sink's thread; {@code detail} may be {@code null}. */
+    public LogEvent deferredPayload(Supplier<String> payload, Supplier<String> detail) {
+        this.deferredPayload = payload;
+        this.deferredDetail = detail;
+        return this;
+    }
+
+    /** Whether the payload is still to be computed by {@link #render()}. */
+    public boolean isDeferred() {
+        return deferredPayload != null;
+    }
+
+    /** Whether the event holds nothing, as after {@link #clear()}. */
+    public boolean isEmpty() {
+        return kind == null;
+    }
+
+    /** Overwrites this event with {@code source}'s fields; the source is left untouched. */
+    public LogEvent copyFrom(LogEvent source) {
+        this.kind = source.kind;
+        this.level = source.level;
+        this.project = source.project;
+        this.className = source.className;
+        this.method = source.method;
+        this.payload = source.payload;
+        this.detail = source.detail;
+        this.durationNanos = source.durationNanos;
+        this.traceId = source.traceId;
+        this.deferredPayload = source.deferredPayload;
+        this.deferredDetail = source.deferredDetail;
+        this.renderer = source.renderer;
+        return this;
+    }
+
+    public LogEvent copy() {
+        return new LogEvent().copyFrom(this);
+    }
+
+    /** Computes a deferred payload, if any, and renders the log line. */
+    public String render() {
+        resolve();
+        return renderer.render(this);
+    }
+
+    /**
+     * Computes a deferred payload, if any, and writes the event to {@code logger} at
+     * {@code level}: as the rendered line, or as key-value pairs when the renderer emits them.
+     */
+    public void writeTo(Logger logger, Level level) {
+        resolve();
+        renderer.write(this, logger.atLevel(level));
+    }
+
+    /** Computes a deferred payload, if any; sinks that read the fields directly call this first. */
+    public void resolve() {
+        if (deferredPayload != null) {
+            payload = deferredPayload.get();
+            detail = deferredDetail != null ? deferredDetail.get() : null;
+            deferredPayload = null;
+            deferredDetail = null;
+        }
+    }
+
+    /** Drops every reference so a reused event does not keep payloads alive. */
+    public void clear() {
+        kind = null;
+        level = null;
+        project = null;
+        className = null;
+        method = null;
+        payload = null;
+        detail = null;
+        durationNanos = 0;
+        traceId = null;
+        deferredPayload = null;
+        deferredDetail = null;
+        renderer = null;
+    }
+}
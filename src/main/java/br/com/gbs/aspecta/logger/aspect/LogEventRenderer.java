@@ -0,0 +1,125 @@
+package br.com.gbs.aspecta.logger.aspect;
+
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.MessageProvider;
+import br.com.gbs.aspecta.logger.utils.JsonWriter;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders a {@link LogEvent} as a plain {@code [project][class][traceId=...] message} line or,
+ * with {@code logger.structured-output}, as one JSON object. With
+ * {@code logger.structured-emission=key-value}, structured events are instead written as
+ * SLF4J key-value pairs, without building the JSON. Output settings are read at render time,
+ * so they apply to events already queued.
+ */
+final class LogEventRenderer implements LogEvent.Renderer {
+
+    private final LoggerProperties loggerProperties;
+    private final MessageProvider messageProvider;
+
+    LogEventRenderer(LoggerProperties loggerProperties, MessageProvider messageProvider) {
+        this.loggerProperties = loggerProperties;
+        this.messageProvider = messageProvider;
+    }
+
+    @Override
+    public String render(LogEvent event) {
+        return loggerProperties.isStructuredOutput() ? renderJson(event) : renderPlain(event);
+    }
+
+    @Override
+    public void write(LogEvent event, LoggingEventBuilder builder) {
+        if (loggerProperties.isStructuredOutput()
+                && loggerProperties.getStructuredEmission() == LoggerProperties.StructuredEmission.KEY_VALUE) {
+            writeKeyValues(event, builder);
+        } else {
+            builder.log(render(event));
+        }
+    }
+
+    private String renderPlain(LogEvent event) {
+        StringBuilder sb = new StringBuilder(160)
+                .append('[').append(event.getProject()).append("][").append(event.getClassName()).append(']');
+        String traceId = event.getTraceId();
+        if (traceId != null && !traceId.isBlank()) sb.append("[traceId=").append(traceId).append(']');
+        sb.append(' ');
+        // Messages are appended straight into the line, so template providers need no intermediate strings
+        switch (event.getKind()) {
+            case ENTRY -> messageProvider.appendEntry(sb, event.getMethod(), event.getPayload());
+            case EXIT  -> {
+                messageProvider.appendExit(sb, event.getMethod(), event.getPayload());
+                appendDuration(sb, event.getDurationNanos());
+            }
+            default    -> {
+                messageProvider.appendError(sb, event.getMethod(), event.getPayload(), event.getDetail());
+                appendDuration(sb, event.getDurationNanos());
+            }
+        }
+        return sb.toString();
+    }
+
+    /** {@code " | 12ms"}, followed by {@code " | 12345us"} or {@code " | 12345678ns"} for finer precisions. */
+    private void appendDuration(StringBuilder sb, long durationNanos) {
+        sb.append(" | ").append(TimeUnit.NANOSECONDS.toMillis(durationNanos)).append("ms");
+        switch (loggerProperties.getDurationPrecision()) {
+            case MICROS -> sb.append(" | ").append(TimeUnit.NANOSECONDS.toMicros(durationNanos)).append("us");
+            case NANOS  -> sb.append(" | ").append(durationNanos).append("ns");
+            default     -> { }
+        }
+    }
+
+    private String renderJson(LogEvent event) {
+        JsonWriter json = JsonWriter.local().beginObject()
+                .field("event",   event.getKind().label())
+                .field("project", event.getProject())
+                .field("class",   event.getClassName())
+                .field("method",  event.getMethod());
+        switch (event.getKind()) {
+            case ENTRY -> json.field("args", event.getPayload());
+            case EXIT  -> writeDuration(json.field("result", event.getPayload()), event.getDurationNanos());
+            default    -> writeDuration(json.field("exception", event.getPayload()).field("message", event.getDetail()),
+                    event.getDurationNanos());
+        }
+        String traceId = event.getTraceId();
+        if (traceId != null && !traceId.isBlank()) json.field("traceId", traceId);
+        return json.endObject().toString();
+    }
+
+    /** The fields of {@link #renderJson}, in the same order and under the same keys. */
+    private void writeKeyValues(LogEvent event, LoggingEventBuilder builder) {
+        builder.addKeyValue("event", event.getKind().label())
+                .addKeyValue("project", event.getProject())
+                .addKeyValue("class",   event.getClassName())
+                .addKeyValue("method",  event.getMethod());
+        switch (event.getKind()) {
+            case ENTRY -> builder.addKeyValue("args", event.getPayload());
+            case EXIT  -> addDuration(builder.addKeyValue("result", event.getPayload()), event.getDurationNanos());
+            default    -> addDuration(builder.addKeyValue("exception", event.getPayload())
+                    .addKeyValue("message", event.getDetail()), event.getDurationNanos());
+        }
+        String traceId = event.getTraceId();
+        if (traceId != null && !traceId.isBlank()) builder.addKeyValue("traceId", traceId);
+        builder.log(event.getKind().label());
+    }
+
+    private void addDuration(LoggingEventBuilder builder, long durationNanos) {
+        builder.addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        switch (loggerProperties.getDurationPrecision()) {
+            case MICROS -> builder.addKeyValue("durationMicros", TimeUnit.NANOSECONDS.toMicros(durationNanos));
+            case NANOS  -> builder.addKeyValue("durationNanos", durationNanos);
+            default     -> { }
+        }
+    }
+
+    /** Always writes {@code durationMs}; finer precisions add {@code durationMicros} or {@code durationNanos}. */
+    private void writeDuration(JsonWriter json, long durationNanos) {
+        json.field("durationMs", TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        switch (loggerProperties.getDurationPrecision()) {
+            case MICROS -> json.field("durationMicros", TimeUnit.NANOSECONDS.toMicros(durationNanos));
+            case NANOS  -> json.field("durationNanos", durationNanos);
+            default     -> { }
+        }
+    }
+}
@@ -4,40 +4,62 @@ import br.com.gbs.aspecta.logger.anotations.LogLevel;
 import br.com.gbs.aspecta.logger.anotations.LogOn;
 import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
 import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
+import br.com.gbs.aspecta.logger.interfaces.CallMetrics;
 import br.com.gbs.aspecta.logger.providers.DelegatingMessageProvider;
 import br.com.gbs.aspecta.logger.utils.SensitiveDataMasker;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-import java.util.List;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Aspect
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class LoggerAspect {
 
-    private static final String LOG_TEMPLATE = "[{}][{}] {}";
+    /** Duration passed for entry events, which have none. */
+    private static final long NO_DURATION = -1;
 
     private final LoggerProperties loggerProperties;
     private final AsyncLogger asyncLoggerService;
-    private final DelegatingMessageProvider messageProvider;
     private final SensitiveDataMasker masker;
+    private final LogEventRenderer renderer;
+
+    private final ConcurrentMap<JoinPointDescriptor.Key, JoinPointDescriptor> descriptors = new ConcurrentHashMap<>();
+
+    private CallMetrics callMetrics = CallMetrics.NOOP;
+
+    public LoggerAspect(LoggerProperties loggerProperties, AsyncLogger asyncLoggerService,
+                        DelegatingMessageProvider messageProvider, SensitiveDataMasker masker) {
+        this.loggerProperties = loggerProperties;
+        this.asyncLoggerService = asyncLoggerService;
+        this.masker = masker;
+        this.renderer = new LogEventRenderer(loggerProperties, messageProvider);
+    }
+
+    /** Optional metrics backend (see {@code AspectaMetricsConfig}); must be set before the first advised call. */
+    @Autowired(required = false)
+    public void setCallMetrics(CallMetrics callMetrics) {
+        this.callMetrics = callMetrics;
+    }
 
     // ── Method-level @LogOn ───────────────────────────────────────────────────
 
     @Around("@annotation(logOn)")
     public Object logAnnotatedMethods(ProceedingJoinPoint joinPoint, LogOn logOn) throws Throwable {
         if (!loggerProperties.isEnabled()) return joinPoint.proceed();
-        return doLog(joinPoint, logOn);
+        return doLog(joinPoint, describe(joinPoint, logOn));
     }
 
     // ── Class-level @LogOn ────────────────────────────────────────────────────
@@ -48,123 +70,142 @@ public class LoggerAspect {
             + "&& !@annotation(br.com.gbs.aspecta.logger.anotations.LogSkip)")
     public Object logClassAnnotatedMethods(ProceedingJoinPoint joinPoint) throws Throwable {
         if (!loggerProperties.isEnabled()) return joinPoint.proceed();
-        LogOn logOn = AnnotationUtils.findAnnotation(joinPoint.getTarget().getClass(), LogOn.class);
-        if (logOn == null) return joinPoint.proceed();
-        return doLog(joinPoint, logOn);
+        JoinPointDescriptor descriptor = describe(joinPoint, null);
+        if (descriptor == JoinPointDescriptor.NOT_ANNOTATED) return joinPoint.proceed();
+        return doLog(joinPoint, descriptor);
     }
 
-    // ── Core logging logic ────────────────────────────────────────────────────
-
-    private Object doLog(ProceedingJoinPoint joinPoint, LogOn logOn) throws Throwable {
-        LogLevel level = logOn.level();
-        if (!isLogLevelActive(level)) return joinPoint.proceed();
-
-        MethodSignature sig  = (MethodSignature) joinPoint.getSignature();
-        String projectName   = loggerProperties.getProjectName();
-        String className     = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName    = sig.getName();
-        List<String> exclude = Arrays.asList(logOn.excludeFromMask());
+    /**
+     * Returns the cached descriptor for this join point, resolving it on first use.
+     * When {@code logOn} is {@code null} the annotation is looked up on the target class.
+     */
+    private JoinPointDescriptor describe(ProceedingJoinPoint joinPoint, LogOn logOn) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = joinPoint.getTarget().getClass();
+        JoinPointDescriptor.Key key = new JoinPointDescriptor.Key(method, targetClass);
+        JoinPointDescriptor descriptor = descriptors.get(key);
+        if (descriptor != null) return descriptor;
+        return descriptors.computeIfAbsent(key, k -> JoinPointDescriptor.of(method, targetClass,
+                logOn != null ? logOn : AnnotationUtils.findAnnotation(targetClass, LogOn.class),
+                loggerProperties, callMetrics));
+    }
 
-        String argsSanitized = masker.sanitizeArgs(joinPoint.getArgs(), logOn.sensitiveData(), exclude);
-        emit(level, projectName, className, methodName, "entry", argsSanitized, null, -1);
+    // ── Core logging logic ────────────────────────────────────────────────────
 
-        long start = System.currentTimeMillis();
+    private Object doLog(ProceedingJoinPoint joinPoint, JoinPointDescriptor jp) throws Throwable {
+        boolean logging = isLogLevelActive(jp.level);
+        if (!logging && jp.metrics == CallMetrics.Recorder.NOOP) return joinPoint.proceed();
+
+        // Unsampled calls skip entry/exit, but errors and slow exits may still be logged.
+        // With a slow threshold the entry is held back until the call turns out slow or fails.
+        boolean sampled = logging && jp.sampling.sample();
+        boolean holdEntry = sampled && jp.slowThresholdMs > 0;
+        Object[] args = joinPoint.getArgs();
+        if (sampled && !holdEntry) logEntry(jp, args);
+        // A held entry must show the arguments as passed, so mutable ones are serialized now
+        String heldArgs = holdEntry && !masker.isShareable(args) ? sanitizeArgs(jp, args) : null;
+
+        // Monotonic clock: wall-clock time is coarse and may jump backwards on NTP adjustments
+        long start = System.nanoTime();
         try {
-            Object result   = joinPoint.proceed();
-            long   duration = System.currentTimeMillis() - start;
-            String resultSanitized = masker.sanitizeResult(result, logOn.sensitiveData(), exclude);
-            emit(level, projectName, className, methodName, "exit", resultSanitized, null, duration);
+            Object result = joinPoint.proceed();
+            long   nanos  = System.nanoTime() - start;
+            jp.metrics.recordSuccess(nanos);
+            if (!logging) return result;
+            long   millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            if (holdEntry) {
+                if (millis < jp.slowThresholdMs) return result;
+                logHeldEntry(jp, args, heldArgs);
+            } else if (!sampled && !jp.sampling.isSlow(millis)) {
+                return result;
+            }
+            logExit(jp, result, nanos);
             return result;
         } catch (Throwable ex) {
-            long duration = System.currentTimeMillis() - start;
-            // Mask the exception message before logging — it may contain sensitive field values
-            String safeMessage = masker.sanitizeMessage(
-                    ex.getMessage(), logOn.sensitiveData(), exclude);
-            emit(level, projectName, className, methodName, "error",
-                    ex.getClass().getSimpleName(), safeMessage, duration);
-            if (logOn.logStackTrace()) {
-                logStackTrace(level, ex);
-            }
+            long nanos = System.nanoTime() - start;
+            jp.metrics.recordFailure(nanos, ex);
+            if (!logging) throw ex;
+            if (holdEntry) logHeldEntry(jp, args, heldArgs);
+            else if (!sampled && !jp.sampling.logsErrorsAnyway()) throw ex;
+            logError(jp, ex, nanos);
             throw ex;
         }
     }
 
-    // ── Emit: structured vs plain ─────────────────────────────────────────────
-
-    private void emit(LogLevel level, String project, String className, String method,
-                      String event, String field1, String field2, long durationMs) {
-        String traceId = MDC.get("traceId");
-        if (loggerProperties.isStructuredOutput()) {
-            dispatchRaw(level, buildStructuredJson(
-                    event, project, className, method, field1, field2, durationMs, traceId));
+    private void logEntry(JoinPointDescriptor jp, Object[] args) {
+        if (loggerProperties.isDeferredSerialization() && masker.isShareable(args)) {
+            emitDeferred(jp, LogEvent.Kind.ENTRY, () -> sanitizeArgs(jp, args), null, NO_DURATION);
         } else {
-            String msg = buildPlainMessage(event, method, field1, field2, durationMs);
-            String tmpl = (traceId != null && !traceId.isBlank())
-                    ? "[{}][{}][traceId=" + traceId + "] {}"
-                    : LOG_TEMPLATE;
-            dispatchTemplate(level, tmpl, project, className, msg);
+            emit(jp, LogEvent.Kind.ENTRY, sanitizeArgs(jp, args), null, NO_DURATION);
         }
     }
 
-    private String buildPlainMessage(String event, String method,
-                                     String field1, String field2, long durationMs) {
-        return switch (event) {
-            case "entry" -> messageProvider.entryMessage(method, field1);
-            case "exit"  -> messageProvider.exitMessage(method, field1) + " | " + durationMs + "ms";
-            default      -> messageProvider.errorMessage(method, field1, field2) + " | " + durationMs + "ms";
-        };
+    /** Logs an entry held back by the slow threshold; {@code sanitized} is set for mutable arguments. */
+    private void logHeldEntry(JoinPointDescriptor jp, Object[] args, String sanitized) {
+        if (sanitized != null) emit(jp, LogEvent.Kind.ENTRY, sanitized, null, NO_DURATION);
+        else logEntry(jp, args);
     }
 
-    private String buildStructuredJson(String event, String project, String className,
-                                       String method, String field1, String field2,
-                                       long durationMs, String traceId) {
-        StringBuilder sb = new StringBuilder("{");
-        appendStr(sb, "event",   event);
-        appendStr(sb, "project", project);
-        appendStr(sb, "class",   className);
-        appendStr(sb, "method",  method);
-        switch (event) {
-            case "entry" -> appendStr(sb, "args", field1);
-            case "exit"  -> { appendStr(sb, "result", field1); appendNum(sb, "durationMs", durationMs); }
-            default      -> { appendStr(sb, "exception", field1);
-                              appendStr(sb, "message", field2);
-                              appendNum(sb, "durationMs", durationMs); }
-        }
-        if (traceId != null && !traceId.isBlank()) appendStr(sb, "traceId", traceId);
-        sb.append("}");
-        return sb.toString();
+    private String sanitizeArgs(JoinPointDescriptor jp, Object[] args) {
+        return masker.sanitizeArgs(args, jp.sensitiveData, jp.excludeFromMask, jp.serializationLimits);
     }
 
-    private void appendStr(StringBuilder sb, String key, String value) {
-        if (sb.length() > 1) sb.append(",");
-        String safe = value == null ? "" : value.replace("\\", "\\\\").replace("\"", "\\\"");
-        sb.append("\"").append(key).append("\":\"").append(safe).append("\"");
+    private void logExit(JoinPointDescriptor jp, Object result, long durationNanos) {
+        if (loggerProperties.isDeferredSerialization() && masker.isShareable(result)) {
+            emitDeferred(jp, LogEvent.Kind.EXIT,
+                    () -> masker.sanitizeResult(result, jp.sensitiveData, jp.excludeFromMask, jp.serializationLimits), null, durationNanos);
+        } else {
+            String resultSanitized = masker.sanitizeResult(result, jp.sensitiveData, jp.excludeFromMask, jp.serializationLimits);
+            emit(jp, LogEvent.Kind.EXIT, resultSanitized, null, durationNanos);
+        }
     }
 
-    private void appendNum(StringBuilder sb, String key, long value) {
-        if (sb.length() > 1) sb.append(",");
-        sb.append("\"").append(key).append("\":").append(value);
+    private void logError(JoinPointDescriptor jp, Throwable ex, long durationNanos) {
+        String exceptionName = ex.getClass().getSimpleName();
+        String rawMessage = ex.getMessage();
+        // Mask the exception message before logging — it may contain sensitive field values
+        if (loggerProperties.isDeferredSerialization()) {
+            emitDeferred(jp, LogEvent.Kind.ERROR, () -> exceptionName,
+                    () -> masker.sanitizeMessage(rawMessage, jp.sensitiveData, jp.excludeFromMask), durationNanos);
+        } else {
+            String safeMessage = masker.sanitizeMessage(rawMessage, jp.sensitiveData, jp.excludeFromMask);
+            emit(jp, LogEvent.Kind.ERROR, exceptionName, safeMessage, durationNanos);
+        }
+        if (jp.logStackTrace) {
+            logStackTrace(jp.level, ex);
+        }
     }
 
-    // ── Level dispatch ────────────────────────────────────────────────────────
+    // ── Emit: hand the raw event to the sink, which renders it ────────────────
 
-    private void dispatchTemplate(LogLevel level, String tmpl,
-                                  String project, String className, String message) {
-        switch (level) {
-            case DEBUG -> asyncLoggerService.logDebug(tmpl, project, className, message);
-            case WARN  -> asyncLoggerService.logWarn(tmpl, project, className, message);
-            default    -> asyncLoggerService.logInfo(tmpl, project, className, message);
+    private void emit(JoinPointDescriptor jp, LogEvent.Kind kind, String payload, String detail, long durationNanos) {
+        LogEvent event = LogEvent.acquire();
+        try {
+            asyncLoggerService.log(fill(event, jp, kind, durationNanos).payload(payload, detail));
+        } finally {
+            event.release();
         }
     }
 
-    private void dispatchRaw(LogLevel level, String json) {
-        switch (level) {
-            case DEBUG -> asyncLoggerService.logDebug(json);
-            case WARN  -> asyncLoggerService.logWarn(json);
-            default    -> asyncLoggerService.logInfo(json);
+    /**
+     * Like {@link #emit}, but the payload suppliers, and so masking and serialization, run on
+     * the logging thread. Only used for payloads that are safe to share.
+     */
+    private void emitDeferred(JoinPointDescriptor jp, LogEvent.Kind kind, Supplier<String> payload,
+                              Supplier<String> detail, long durationNanos) {
+        LogEvent event = LogEvent.acquire();
+        try {
+            asyncLoggerService.log(fill(event, jp, kind, durationNanos).deferredPayload(payload, detail));
+        } finally {
+            event.release();
         }
     }
 
+    private LogEvent fill(LogEvent event, JoinPointDescriptor jp, LogEvent.Kind kind, long durationNanos) {
+        return event.fill(kind, jp.level, loggerProperties.getProjectName(), jp.className, jp.methodName,
+                durationNanos, MDC.get("traceId"), renderer);
+    }
+
     // ── logStackTrace: INFO level now correctly maps to log.info() ───────────
 
     void logStackTrace(LogLevel level, Throwable ex) {
@@ -0,0 +1,105 @@
+package br.com.gbs.aspecta.logger.aspect;
+
+import br.com.gbs.aspecta.logger.anotations.LogOn;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import org.slf4j.MDC;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-method decision of whether a call is logged, combining fixed-ratio sampling and a
+ * token-bucket rate limit. One instance is kept per advised method in its
+ * {@link JoinPointDescriptor}; {@link #sample()} is lock-free.
+ * <p>
+ * With a {@code traceId} the ratio decision is a hash of the id, so every method with the
+ * same rate takes the same decision for a request (and lower rates select a subset of the
+ * requests kept by higher ones). Without one, calls are sampled at random.
+ * <p>
+ * The rate limit is a single-{@link AtomicLong} GCRA bucket holding the theoretical arrival
+ * time of the next call: it refills at {@code maxPerSecond} and allows bursts of up to
+ * {@code maxPerSecond} calls.
+ */
+final class SamplingPolicy {
+
+    /** Logs every call; used when sampling is not configured. */
+    static final SamplingPolicy ALWAYS = new SamplingPolicy(1.0, 0, true, 0, System::nanoTime);
+
+    private static final double UNSIGNED_INT_RANGE = 4294967296.0;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /** Calls whose 32-bit hash is below this bound are sampled. */
+    private final long bound;
+    private final boolean everyCall;
+    private final long intervalNanos;
+    private final AtomicLong nextArrival;
+    private final LongSupplier clock;
+    private final boolean alwaysLogErrors;
+    private final long alwaysLogSlowerThanMs;
+
+    SamplingPolicy(double rate, int maxPerSecond, boolean alwaysLogErrors, long alwaysLogSlowerThanMs,
+                   LongSupplier clock) {
+        this.bound = (long) (Math.min(1.0, Math.max(0.0, rate)) * UNSIGNED_INT_RANGE);
+        this.everyCall = rate >= 1.0 && maxPerSecond <= 0;
+        this.intervalNanos = maxPerSecond > 0 ? NANOS_PER_SECOND / maxPerSecond : 0;
+        this.nextArrival = maxPerSecond > 0 ? new AtomicLong(clock.getAsLong()) : null;
+        this.clock = clock;
+        this.alwaysLogErrors = alwaysLogErrors;
+        this.alwaysLogSlowerThanMs = alwaysLogSlowerThanMs;
+    }
+
+    /** Resolves the effective policy of a method: annotation attributes override the global defaults. */
+    static SamplingPolicy of(LogOn logOn, LoggerProperties.Sampling defaults) {
+        double rate = logOn.sampleRate() >= 0 ? logOn.sampleRate() : defaults.getRate();
+        int maxPerSecond = logOn.maxPerSecond() >= 0 ? logOn.maxPerSecond() : defaults.getMaxPerSecond();
+        if (rate >= 1.0 && maxPerSecond <= 0) return ALWAYS;
+        return new SamplingPolicy(rate, maxPerSecond, defaults.isAlwaysLogErrors(),
+                defaults.getAlwaysLogSlowerThanMs(), System::nanoTime);
+    }
+
+    /** Decides whether the entry and exit of the current call are logged, using the MDC {@code traceId}. */
+    boolean sample() {
+        return everyCall || sample(MDC.get("traceId"));
+    }
+
+    boolean sample(String traceId) {
+        if (everyCall) return true;
+        long hash = traceId != null && !traceId.isBlank()
+                ? Integer.toUnsignedLong(mix(traceId.hashCode()))
+                : Integer.toUnsignedLong(ThreadLocalRandom.current().nextInt());
+        if (hash >= bound) return false;
+        return nextArrival == null || tryAcquire();
+    }
+
+    /** Whether an unsampled call that threw must still log its error. */
+    boolean logsErrorsAnyway() {
+        return alwaysLogErrors;
+    }
+
+    /** Whether an unsampled call that took {@code durationMs} must still log its exit. */
+    boolean isSlow(long durationMs) {
+        return alwaysLogSlowerThanMs > 0 && durationMs >= alwaysLogSlowerThanMs;
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            long arrival = nextArrival.get();
+            long now = clock.getAsLong();
+            long next = Math.max(arrival, now) + intervalNanos;
+            if (next - now > NANOS_PER_SECOND) return false;
+            if (nextArrival.compareAndSet(arrival, next)) return true;
+        }
+    }
+
+    /** MurmurHash3 finalizer: spreads similar trace ids over the whole range. */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.gbs.aspecta.logger.binary;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.aspect.LogEvent;
+import br.com.gbs.aspecta.logger.configurations.ConditionalOnAsyncMode;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
+import br.com.gbs.aspecta.logger.service.AsyncLoggerService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncLogger} that writes {@code @LogOn} events as compact binary records to
+ * memory-mapped segment files instead of the logging backend.
+ * <p>
+ * Enabled with {@code logger.async.mode=binary}; the files are configured under
+ * {@code logger.binary}. Each event is appended on the calling thread: its payload, already
+ * masked by the aspect, is encoded to UTF-8 before taking the writer lock, and the record is
+ * then copied into the mapped segment with no system call and no queue hand-off. Class and
+ * method names are interned per segment and durations stored as varints, so a record is a
+ * fraction of the size of the rendered line. Output settings such as
+ * {@code logger.structured-output} do not apply; {@link BinaryLogDecoder} turns segments into
+ * JSON lines.
+ * <p>
+ * Plain messages, such as the write-failure warnings below, are not {@code @LogOn} events and
+ * still go to the backend through {@link AsyncLoggerService}. Records that cannot be written,
+ * because they are larger than a segment or the file system failed, are counted in
+ * {@link #droppedEvents()}; a file system failure is also reported at WARN through the backend,
+ * once until an append succeeds again.
+ */
+@Service
+@Primary
+@ConditionalOnAsyncMode(LoggerProperties.Mode.BINARY)
+public class BinaryAsyncLogger implements AsyncLogger, DisposableBean {
+
+    private final BinarySegmentWriter writer;
+    private final AsyncLoggerService delegate;
+    private final LongAdder dropped = new LongAdder();
+    /** Whether the last append failed with an {@link IOException}, so the failure is reported once. */
+    private final AtomicBoolean failing = new AtomicBoolean();
+
+    public BinaryAsyncLogger(LoggerProperties loggerProperties, AsyncLoggerService delegate) throws IOException {
+        LoggerProperties.Binary cfg = loggerProperties.getBinary();
+        this.writer = new BinarySegmentWriter(Path.of(cfg.getDirectory()), cfg.getSegmentSizeMb() << 20,
+                cfg.getMaxSegments(), System.currentTimeMillis());
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void logDebug(String message, Object... args) {
+        delegate.logDebug(message, args);
+    }
+
+    @Override
+    public void logInfo(String message, Object... args) {
+        delegate.logInfo(message, args);
+    }
+
+    @Override
+    public void logWarn(String message, Object... args) {
+        delegate.logWarn(message, args);
+    }
+
+    @Override
+    public void logError(String message, Object... args) {
+        delegate.logError(message, args);
+    }
+
+    @Override
+    public void logDeferred(LogLevel level, Supplier<String> message) {
+        delegate.logDeferred(level, message);
+    }
+
+    /** Appends {@code event} to the current segment before returning. */
+    @Override
+    public void log(LogEvent event) {
+        event.resolve();
+        try {
+            if (!writer.append(event, System.currentTimeMillis(),
+                    utf8(event.getTraceId()), utf8(event.getPayload()), utf8(event.getDetail()))) {
+                dropped.increment();
+            } else if (failing.get() && failing.compareAndSet(true, false)) {
+                delegate.logInfo("Binary log segments are being written again");
+            }
+        } catch (IOException ex) {
+            // A full disk or a failed rotation must not break the advised call
+            dropped.increment();
+            if (failing.compareAndSet(false, true)) {
+                delegate.logWarn("Could not write to the binary log segments, dropping events until it succeeds again",
+                        ex);
+            }
+        }
+    }
+
+    @Override
+    public long droppedEvents() {
+        return dropped.sum() + delegate.droppedEvents();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        writer.close();
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+}
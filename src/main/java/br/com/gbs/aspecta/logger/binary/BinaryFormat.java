@@ -0,0 +1,88 @@
+package br.com.gbs.aspecta.logger.binary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Layout of the segment files written by {@link BinarySegmentWriter} and read by
+ * {@link BinaryLogDecoder}.
+ * <p>
+ * A segment starts with a {@value #HEADER_SIZE}-byte header: the magic {@code "ASPB"}, the
+ * format version, three reserved bytes and the epoch millis the segment was opened at. Records
+ * follow back to back, each starting with its type byte; the zero-filled rest of the file
+ * reads as {@link #END}.
+ * <ul>
+ *     <li>{@link #STRING}: varint id, then the UTF-8 bytes. Ids are assigned from {@code 1} in
+ *     each segment, before the first event that uses them.</li>
+ *     <li>{@link #EVENT}: one byte with the kind ordinal in bits 0-1 and the level ordinal in
+ *     bits 2-3; zigzag varint millis since the segment's base; varint ids of project, class and
+ *     method ({@code 0} for none); varint duration nanos plus one ({@code 0} for entries); then
+ *     trace id, payload and detail as byte fields.</li>
+ * </ul>
+ * Byte fields are a varint length plus one, {@code 0} standing for {@code null}, followed by the
+ * bytes.
+ */
+final class BinaryFormat {
+
+    static final int MAGIC = 0x41535042;
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 16;
+
+    static final byte END = 0;
+    static final byte STRING = 1;
+    static final byte EVENT = 2;
+
+    static final String PREFIX = "aspecta-";
+    static final String SUFFIX = ".aspb";
+
+    /** Longest encoding of a 64-bit varint. */
+    static final int MAX_VARLONG_SIZE = 10;
+
+    private BinaryFormat() {
+    }
+
+    static void putVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IOException("Malformed varint at offset " + in.position());
+    }
+
+    static void putZigZag(ByteBuffer out, long value) {
+        putVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long getZigZag(ByteBuffer in) throws IOException {
+        long raw = getVarLong(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    static void putBytes(ByteBuffer out, byte[] bytes) {
+        if (bytes == null) {
+            out.put((byte) 0);
+        } else {
+            putVarLong(out, bytes.length + 1L);
+            out.put(bytes);
+        }
+    }
+
+    static byte[] getBytes(ByteBuffer in) throws IOException {
+        long length = getVarLong(in) - 1;
+        if (length < 0) return null;
+        if (length > in.remaining()) throw new IOException("Truncated record at offset " + in.position());
+        byte[] bytes = new byte[(int) length];
+        in.get(bytes);
+        return bytes;
+    }
+}
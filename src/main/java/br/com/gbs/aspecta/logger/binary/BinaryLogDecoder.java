@@ -0,0 +1,177 @@
+package br.com.gbs.aspecta.logger.binary;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.aspect.LogEvent;
+import br.com.gbs.aspecta.logger.utils.JsonWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Converts segment files written in {@code logger.async.mode=binary} to JSON lines, one
+ * object per event:
+ * <pre>
+ * java -cp aspecta.jar br.com.gbs.aspecta.logger.binary.BinaryLogDecoder logs/aspecta &gt; events.jsonl
+ * </pre>
+ * Each argument is a segment or a directory, whose segments are decoded oldest first. Objects
+ * carry {@code timestamp} (epoch millis), {@code level} and the fields of
+ * {@code logger.structured-output}, with the duration always in both {@code durationMs} and
+ * {@code durationNanos}.
+ */
+public final class BinaryLogDecoder {
+
+    private BinaryLogDecoder() {
+    }
+
+    public static void main(String[] args) {
+        PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16),
+                false, StandardCharsets.UTF_8);
+        int status = run(args, out, System.err);
+        if (status != 0) System.exit(status);
+    }
+
+    /** Decodes every argument to {@code out}; returns the process exit status. */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        if (args.length == 0) {
+            err.println("Usage: " + BinaryLogDecoder.class.getName() + " <segment-or-directory>...");
+            return 2;
+        }
+        try {
+            for (String arg : args) {
+                for (Path segment : segments(Path.of(arg))) decode(segment, out);
+            }
+            return 0;
+        } catch (IOException ex) {
+            err.println(ex.getMessage());
+            return 1;
+        } finally {
+            out.flush();
+        }
+    }
+
+    /**
+     * Writes the events of {@code segment} to {@code out} as JSON lines.
+     *
+     * @return the number of events written
+     * @throws IOException if the file is not a segment or holds a corrupt record; the events
+     *                     before it have been written
+     */
+    public static long decode(Path segment, Appendable out) throws IOException {
+        ByteBuffer in;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (in.remaining() < BinaryFormat.HEADER_SIZE || in.getInt() != BinaryFormat.MAGIC) {
+            throw new IOException(segment + " is not an Aspecta binary log segment");
+        }
+        byte version = in.get();
+        if (version != BinaryFormat.VERSION) {
+            throw new IOException(segment + " has unsupported format version " + version);
+        }
+        in.position(in.position() + 3);
+        long baseMillis = in.getLong();
+        List<String> strings = new ArrayList<>();
+        long events = 0;
+        try {
+            while (in.hasRemaining()) {
+                int offset = in.position();
+                switch (in.get()) {
+                    case BinaryFormat.END -> {
+                        return events;
+                    }
+                    case BinaryFormat.STRING -> {
+                        long id = BinaryFormat.getVarLong(in);
+                        byte[] bytes = BinaryFormat.getBytes(in);
+                        if (id != strings.size() + 1 || bytes == null) throw corrupt(segment, offset);
+                        strings.add(new String(bytes, StandardCharsets.UTF_8));
+                    }
+                    case BinaryFormat.EVENT -> {
+                        writeEvent(in, baseMillis, strings, segment, offset, out);
+                        out.append('\n');
+                        events++;
+                    }
+                    default -> throw corrupt(segment, offset);
+                }
+            }
+            return events;
+        } catch (BufferUnderflowException ex) {
+            throw new IOException("Truncated record at the end of " + segment, ex);
+        }
+    }
+
+    private static void writeEvent(ByteBuffer in, long baseMillis, List<String> strings,
+                                   Path segment, int offset, Appendable out) throws IOException {
+        int flags = in.get();
+        int kindOrdinal = flags & 0x3;
+        int levelOrdinal = flags >> 2 & 0x3;
+        if (kindOrdinal >= LogEvent.Kind.values().length || levelOrdinal >= LogLevel.values().length) {
+            throw corrupt(segment, offset);
+        }
+        LogEvent.Kind kind = LogEvent.Kind.values()[kindOrdinal];
+        long timestamp = baseMillis + BinaryFormat.getZigZag(in);
+        String project = string(strings, BinaryFormat.getVarLong(in), segment, offset);
+        String className = string(strings, BinaryFormat.getVarLong(in), segment, offset);
+        String method = string(strings, BinaryFormat.getVarLong(in), segment, offset);
+        long durationNanos = BinaryFormat.getVarLong(in) - 1;
+        String traceId = utf8(BinaryFormat.getBytes(in));
+        String payload = utf8(BinaryFormat.getBytes(in));
+        String detail = utf8(BinaryFormat.getBytes(in));
+
+        JsonWriter json = JsonWriter.local().beginObject()
+                .field("timestamp", timestamp)
+                .field("level",     LogLevel.values()[levelOrdinal].name())
+                .field("event",     kind.label())
+                .field("project",   project)
+                .field("class",     className)
+                .field("method",    method);
+        switch (kind) {
+            case ENTRY -> json.field("args", payload);
+            case EXIT  -> json.field("result", payload);
+            default    -> json.field("exception", payload).field("message", detail);
+        }
+        if (kind != LogEvent.Kind.ENTRY) {
+            json.field("durationMs", TimeUnit.NANOSECONDS.toMillis(durationNanos)).field("durationNanos", durationNanos);
+        }
+        if (traceId != null && !traceId.isBlank()) json.field("traceId", traceId);
+        json.endObject().writeTo(out);
+    }
+
+    private static String string(List<String> strings, long id, Path segment, int offset) throws IOException {
+        if (id == 0) return null;
+        if (id < 0 || id > strings.size()) throw corrupt(segment, offset);
+        return strings.get((int) id - 1);
+    }
+
+    private static String utf8(byte[] bytes) {
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static IOException corrupt(Path segment, int offset) {
+        return new IOException(segment + " has a corrupt record at offset " + offset);
+    }
+
+    /** {@code path} itself, or the segments in it oldest first when it is a directory. */
+    private static List<Path> segments(Path path) throws IOException {
+        if (!Files.isDirectory(path)) return List.of(path);
+        try (Stream<Path> files = Files.list(path)) {
+            return files.filter(file -> BinarySegmentWriter.index(file) > 0)
+                    .sorted(Comparator.comparingLong(BinarySegmentWriter::index))
+                    .toList();
+        }
+    }
+}
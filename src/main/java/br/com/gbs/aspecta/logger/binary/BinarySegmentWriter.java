@@ -0,0 +1,220 @@
+package br.com.gbs.aspecta.logger.binary;
+
+import br.com.gbs.aspecta.logger.aspect.LogEvent;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Appends {@link LogEvent}s in the {@link BinaryFormat} to memory-mapped segment files
+ * named {@code aspecta-000001.aspb}, {@code aspecta-000002.aspb}, ... in one directory.
+ * <p>
+ * Each segment is mapped whole when it is opened, so an append is a copy into memory with no
+ * system call; the operating system writes the pages back. A record that does not fit in what
+ * is left of the segment starts the next one, and the oldest segments beyond
+ * {@code maxSegments} are deleted, or retried on the next rotation when the platform refuses to
+ * delete a file that is still mapped. Rotation does not wait for the full segment to reach the
+ * disk, since it runs on a request thread holding the writer lock; only {@link #close()}
+ * forces the current segment. Numbering continues after the highest segment already in the
+ * directory, so restarts never overwrite earlier output.
+ * <p>
+ * Project, class and method names are written once per segment and referenced by id after that,
+ * so every segment decodes on its own, including after older ones were deleted.
+ */
+final class BinarySegmentWriter implements Closeable {
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile(
+            Pattern.quote(BinaryFormat.PREFIX) + "(\\d{6,18})" + Pattern.quote(BinaryFormat.SUFFIX));
+
+    /** Fixed part of a record beyond its strings and byte fields, rounded up. */
+    private static final int RECORD_OVERHEAD = 128;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final Deque<Path> segments = new ArrayDeque<>();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private int nextId = 1;
+    private long nextIndex = 1;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long baseMillis;
+    private ByteBuffer scratch = ByteBuffer.allocate(1024);
+    private boolean closed;
+
+    BinarySegmentWriter(Path directory, int segmentSize, int maxSegments, long nowMillis) throws IOException {
+        if (segmentSize <= BinaryFormat.HEADER_SIZE) {
+            throw new IllegalArgumentException("Segment size must exceed the " + BinaryFormat.HEADER_SIZE + "-byte header");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        try (Stream<Path> files = Files.list(this.directory)) {
+            files.filter(file -> index(file) > 0)
+                    .sorted(Comparator.comparingLong(BinarySegmentWriter::index))
+                    .forEach(segments::add);
+        }
+        if (!segments.isEmpty()) nextIndex = index(segments.getLast()) + 1;
+        open(nowMillis);
+    }
+
+    /**
+     * Appends one event written at {@code nowMillis}, rotating first when it does not fit in
+     * the current segment. The byte fields are already encoded, so callers can do that outside
+     * the lock.
+     *
+     * @return {@code false} when the writer is closed or the record is larger than a segment
+     */
+    synchronized boolean append(LogEvent event, long nowMillis,
+                                byte[] traceId, byte[] payload, byte[] detail) throws IOException {
+        if (closed) return false;
+        int firstNewId = nextId;
+        encode(event, nowMillis, traceId, payload, detail);
+        if (scratch.remaining() > buffer.remaining()) {
+            forget(firstNewId);
+            if (buffer.position() == BinaryFormat.HEADER_SIZE) return false;
+            rotate(nowMillis);
+            encode(event, nowMillis, traceId, payload, detail);
+            if (scratch.remaining() > buffer.remaining()) {
+                forget(1);
+                return false;
+            }
+        }
+        buffer.put(scratch);
+        return true;
+    }
+
+    /** Segment files currently kept, oldest first. */
+    synchronized Deque<Path> segments() {
+        return new ArrayDeque<>(segments);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        buffer.force();
+        channel.close();
+    }
+
+    private void encode(LogEvent event, long nowMillis, byte[] traceId, byte[] payload, byte[] detail) {
+        int bound = RECORD_OVERHEAD + length(traceId) + length(payload) + length(detail)
+                + 3 * (length(event.getProject()) + length(event.getClassName()) + length(event.getMethod()));
+        if (scratch.capacity() < bound) scratch = ByteBuffer.allocate(Math.max(bound, scratch.capacity() * 2));
+        scratch.clear();
+        int project = intern(event.getProject());
+        int className = intern(event.getClassName());
+        int method = intern(event.getMethod());
+        scratch.put(BinaryFormat.EVENT);
+        scratch.put((byte) (event.getKind().ordinal() | event.getLevel().ordinal() << 2));
+        BinaryFormat.putZigZag(scratch, nowMillis - baseMillis);
+        BinaryFormat.putVarLong(scratch, project);
+        BinaryFormat.putVarLong(scratch, className);
+        BinaryFormat.putVarLong(scratch, method);
+        BinaryFormat.putVarLong(scratch, Math.max(event.getDurationNanos(), -1) + 1);
+        BinaryFormat.putBytes(scratch, traceId);
+        BinaryFormat.putBytes(scratch, payload);
+        BinaryFormat.putBytes(scratch, detail);
+        scratch.flip();
+    }
+
+    /** Id of {@code value} in this segment, writing its {@link BinaryFormat#STRING} record on first use. */
+    private int intern(String value) {
+        if (value == null) return 0;
+        Integer id = ids.get(value);
+        if (id != null) return id;
+        ids.put(value, nextId);
+        scratch.put(BinaryFormat.STRING);
+        BinaryFormat.putVarLong(scratch, nextId);
+        BinaryFormat.putBytes(scratch, value.getBytes(StandardCharsets.UTF_8));
+        return nextId++;
+    }
+
+    /** Drops the ids assigned from {@code firstId} on, whose records were not written. */
+    private void forget(int firstId) {
+        ids.values().removeIf(id -> id >= firstId);
+        nextId = firstId;
+    }
+
+    private void rotate(long nowMillis) throws IOException {
+        channel.close();
+        open(nowMillis);
+    }
+
+    /**
+     * Creates and maps the next segment. Nothing changes when that fails, except that a name
+     * already taken by another file is skipped, so the next rotation retries with a fresh one.
+     */
+    private void open(long nowMillis) throws IOException {
+        Path segment = directory.resolve(String.format("%s%06d%s", BinaryFormat.PREFIX, nextIndex, BinaryFormat.SUFFIX));
+        FileChannel opened;
+        try {
+            opened = FileChannel.open(segment,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (FileAlreadyExistsException ex) {
+            nextIndex++;
+            throw ex;
+        }
+        MappedByteBuffer mapped;
+        try {
+            mapped = opened.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException | RuntimeException ex) {
+            opened.close();
+            Files.deleteIfExists(segment);
+            throw ex;
+        }
+        nextIndex++;
+        channel = opened;
+        buffer = mapped;
+        baseMillis = nowMillis;
+        buffer.putInt(BinaryFormat.MAGIC).put(BinaryFormat.VERSION).put(new byte[3]).putLong(baseMillis);
+        ids.clear();
+        nextId = 1;
+        segments.addLast(segment);
+        while (segments.size() > maxSegments && delete(segments.getFirst())) segments.removeFirst();
+    }
+
+    /**
+     * Deletes an old segment, or returns {@code false} when the platform refuses, for instance
+     * while its pages are still mapped; the next rotation tries again.
+     */
+    private static boolean delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+            return true;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    /** Number of a segment file, or {@code 0} for other files. */
+    static long index(Path file) {
+        Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
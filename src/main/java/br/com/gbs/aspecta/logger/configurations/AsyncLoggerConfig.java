@@ -1,7 +1,10 @@
 package br.com.gbs.aspecta.logger.configurations;
 
+import br.com.gbs.aspecta.logger.service.OverflowPolicyHandler;
+import br.com.gbs.aspecta.logger.utils.MdcCapture;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.MDC;
+import org.slf4j.event.Level;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -13,11 +16,17 @@ import java.util.Map;
  * Configures a dedicated async executor for Aspecta logging.
  * <p>
  * Uses a <strong>named</strong> bean ({@code aspectaLoggerExecutor}) so that only
- * Aspecta's {@code @Async} methods are affected — the consumer application's
+ * Aspecta's log events run on it — the consumer application's
  * own async configuration is left completely untouched.
  * <p>
  * A {@code TaskDecorator} propagates the MDC context (traceId, spanId, etc.)
- * from the calling thread to each worker thread, preserving full request traceability.
+ * from the calling thread to each worker thread, preserving full request traceability;
+ * {@code logger.async.mdc-capture} controls how much of it is copied per event.
+ * With {@code logger.async.executor=virtual} the workers are virtual threads, with the
+ * same queue, MDC propagation and overflow handling.
+ * <p>
+ * When the queue is full, the {@link OverflowPolicyHandler} applies
+ * {@code logger.async.overflow-policy} instead of always running the event on the caller.
  */
 @Configuration
 @EnableAsync
@@ -26,31 +35,56 @@ public class AsyncLoggerConfig {
 
     private final LoggerProperties loggerProperties;
 
+    @Bean
+    public OverflowPolicyHandler aspectaLoggerOverflowHandler() {
+        return new OverflowPolicyHandler(loggerProperties.getAsync());
+    }
+
     @Bean(name = "aspectaLoggerExecutor")
     public ThreadPoolTaskExecutor aspectaLoggerExecutor() {
         LoggerProperties.Async cfg = loggerProperties.getAsync();
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(cfg.getCorePoolSize());
-        executor.setMaxPoolSize(cfg.getMaxPoolSize());
+        // With virtual workers the pool size only limits concurrent writes; idle ones are discarded
+        boolean virtual = cfg.getExecutor() == LoggerProperties.ExecutorType.VIRTUAL;
+        executor.setCorePoolSize(virtual ? cfg.getVirtualMaxConcurrency() : cfg.getCorePoolSize());
+        executor.setMaxPoolSize(virtual ? cfg.getVirtualMaxConcurrency() : cfg.getMaxPoolSize());
+        executor.setAllowCoreThreadTimeOut(virtual);
         executor.setQueueCapacity(cfg.getQueueCapacity());
         executor.setThreadNamePrefix("aspecta-logger-");
-        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadFactory(virtual ? Thread.ofVirtual().name("aspecta-logger-vt-", 0).factory() : null);
+        executor.setRejectedExecutionHandler(aspectaLoggerOverflowHandler());
 
         // Propagate MDC context from calling thread to async worker thread
-        executor.setTaskDecorator(runnable -> {
-            Map<String, String> mdcCopy = MDC.getCopyOfContextMap();
-            return () -> {
-                try {
-                    if (mdcCopy != null) MDC.setContextMap(mdcCopy);
-                    else MDC.clear();
-                    runnable.run();
-                } finally {
-                    MDC.clear();
-                }
-            };
-        });
+        MdcCapture mdcCapture = MdcCapture.of(cfg);
+        executor.setTaskDecorator(runnable -> new MdcTask(runnable, mdcCapture.capture()));
 
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Runs {@code task} with the caller's MDC; keeps its level visible to the overflow policy.
+     * The previous MDC of the running thread is restored afterwards, since {@code caller-runs}
+     * runs the task on the request thread itself.
+     */
+    private record MdcTask(Runnable task, Map<String, String> mdc) implements Runnable, OverflowPolicyHandler.Leveled {
+
+        @Override
+        public void run() {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            try {
+                if (mdc != null) MDC.setContextMap(mdc);
+                else MDC.clear();
+                task.run();
+            } finally {
+                if (previous != null) MDC.setContextMap(previous);
+                else MDC.clear();
+            }
+        }
+
+        @Override
+        public Level level() {
+            return task instanceof OverflowPolicyHandler.Leveled leveled ? leveled.level() : Level.ERROR;
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package br.com.gbs.aspecta.logger.configurations;
+
+import org.springframework.context.annotation.Conditional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Matches when {@code logger.async.mode} is the given {@link LoggerProperties.Mode}.
+ * <p>
+ * The property is bound to the enum the same way {@link LoggerProperties} binds it, so
+ * {@code ring-buffer}, {@code ring_buffer} and {@code RING_BUFFER} all select the same bean;
+ * a plain {@code @ConditionalOnProperty(havingValue = ...)} would only match one spelling.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Documented
+@Conditional(OnAsyncModeCondition.class)
+public @interface ConditionalOnAsyncMode {
+
+    LoggerProperties.Mode value();
+}
@@ -1,10 +1,14 @@
 package br.com.gbs.aspecta.logger.configurations;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.Setter;
+import org.slf4j.event.Level;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
@@ -38,9 +42,67 @@ public class LoggerProperties {
      */
     private boolean structuredOutput = false;
 
+    /**
+     * How structured events reach the logging backend. {@code message} (default) logs the
+     * JSON object as the message; {@code key-value} passes each field as an SLF4J key-value
+     * pair with the event name as the message, so a key-value aware encoder (e.g. Logback's
+     * {@code JsonEncoder} or {@code %kvp}) serializes them natively instead of escaping a
+     * JSON string inside its own. Only applies with {@link #structuredOutput}.
+     */
+    private StructuredEmission structuredEmission = StructuredEmission.MESSAGE;
+
+    /**
+     * When true, arguments and return values that are immutable — or whose type is listed in
+     * {@link #safeTypes} — are handed to the logging thread by reference, and serialization,
+     * masking and message formatting happen there instead of on the request thread.
+     * Payloads that may still be mutated by the caller are serialized eagerly, as before.
+     */
+    private boolean deferredSerialization = false;
+
+    /**
+     * Fully-qualified class names, in addition to the built-in immutable JDK types, records of
+     * such types and enums, whose instances are safe to share with the logging thread.
+     * A listed type also covers its subclasses and implementations.
+     */
+    private List<String> safeTypes = List.of();
+
+    /**
+     * Default for {@code @LogOn(slowThresholdMs)}: when positive, only calls at least this slow,
+     * or that throw, are logged, with their entry emitted together with the exit.
+     * {@code 0} (default) logs every call.
+     */
+    @Min(0)
+    private long slowThresholdMs = 0;
+
+    /**
+     * Precision of the call durations, always measured with a monotonic clock: {@code millis}
+     * (default) logs {@code durationMs} only; {@code micros} and {@code nanos} keep
+     * {@code durationMs} for existing parsers and add {@code durationMicros} or
+     * {@code durationNanos} (plain output: {@code | 12us} or {@code | 12345ns}).
+     */
+    private DurationPrecision durationPrecision = DurationPrecision.MILLIS;
+
     @Valid
     private Async async = new Async();
 
+    @Valid
+    private Sampling sampling = new Sampling();
+
+    @Valid
+    private Metrics metrics = new Metrics();
+
+    @Valid
+    private Serialization serialization = new Serialization();
+
+    @Valid
+    private Masking masking = new Masking();
+
+    @Valid
+    private Messages messages = new Messages();
+
+    @Valid
+    private Binary binary = new Binary();
+
     @Getter
     @Setter
     public static class Async {
@@ -52,5 +114,244 @@ public class LoggerProperties {
 
         @Min(1) @Max(5000)
         private int queueCapacity = 500;
+
+        /**
+         * How log events reach the logging backend: {@code executor} (default) submits each
+         * event to the {@code aspectaLoggerExecutor} thread pool;
+         * {@code ring-buffer} publishes into a preallocated lock-free ring drained by a
+         * single dedicated thread; {@code batching} queues events for a single thread that
+         * drains and writes them in groups of up to {@link #batchSize}; {@code binary} writes
+         * {@code @LogOn} events as compact binary records to the memory-mapped segment files
+         * configured under {@code logger.binary}, and hands other messages to the executor.
+         */
+        private Mode mode = Mode.EXECUTOR;
+
+        /** Number of slots of the ring buffer ({@code ring-buffer} mode); rounded up to a power of two. */
+        @Min(16) @Max(1 << 20)
+        private int ringBufferSize = 4096;
+
+        /**
+         * How the ring-buffer consumer waits for events, and producers wait for free slots
+         * when the ring is full: {@code spin} (lowest latency, burns a core), {@code yield}
+         * or {@code park} (default, idle-friendly).
+         */
+        private WaitStrategy waitStrategy = WaitStrategy.PARK;
+
+        /** Maximum events written per wake-up of the {@code batching} consumer (default: {@code 128}). */
+        @Min(1) @Max(5000)
+        private int batchSize = 128;
+
+        /**
+         * How long the {@code batching} consumer waits for more events after taking a partial
+         * batch, in microseconds; {@code 0} writes what is queued right away (default: {@code 100}).
+         */
+        @Min(0) @Max(1_000_000)
+        private long batchLingerMicros = 100;
+
+        /**
+         * Threads of {@code aspectaLoggerExecutor} ({@code executor} mode): {@code platform}
+         * (default) sizes the pool with {@link #corePoolSize} and {@link #maxPoolSize};
+         * {@code virtual} (Java 21+) runs every worker on a virtual thread, so a blocking
+         * appender parks it instead of holding a carrier thread, and at most
+         * {@link #virtualMaxConcurrency} events are written at once.
+         */
+        private ExecutorType executor = ExecutorType.PLATFORM;
+
+        /** Events written concurrently by the {@code virtual} executor (default: {@code 64}). */
+        @Min(1) @Max(10_000)
+        private int virtualMaxConcurrency = 64;
+
+        /**
+         * What happens to an event when the executor queue or the ring is full:
+         * {@code caller-runs} writes it on the calling thread; {@code drop-newest} discards it;
+         * {@code drop-oldest} discards the oldest pending event to make room;
+         * {@code drop-below-level} discards it when below {@link #overflowLevel} and otherwise
+         * behaves like {@code block}; {@code block} waits up to {@link #overflowTimeoutMs} for
+         * room and then discards it. When unset, {@code executor} and {@code batching} modes run
+         * it on the caller and {@code ring-buffer} mode waits for room without a timeout, as before.
+         * Discarded events are counted and reported by the {@code aspecta} actuator endpoint.
+         */
+        private OverflowPolicy overflowPolicy;
+
+        /** Lowest level kept by the {@code drop-below-level} policy (default: {@code WARN}). */
+        private Level overflowLevel = Level.WARN;
+
+        /** How long {@code block} and {@code drop-below-level} wait for room before discarding (default: {@code 100}). */
+        @Min(0)
+        private long overflowTimeoutMs = 100;
+
+        /**
+         * How the caller's MDC is captured for each event: {@code full} (default) copies the
+         * whole context; {@code keys} copies only {@link #mdcKeys}; {@code shared} reuses one
+         * immutable snapshot for every event logged until the MDC changes (Logback only; other
+         * backends fall back to {@code full}).
+         */
+        private MdcCaptureMode mdcCapture = MdcCaptureMode.FULL;
+
+        /** MDC keys copied to each event in {@code keys} capture mode. */
+        private List<String> mdcKeys = List.of("traceId", "spanId");
+    }
+
+    /**
+     * Global sampling defaults for {@code @LogOn} methods; each method may override the
+     * rate and the limit through the annotation.
+     */
+    @Getter
+    @Setter
+    public static class Sampling {
+        /**
+         * Fraction of calls whose entry and exit are logged, from {@code 0.0} to {@code 1.0}
+         * (default, log everything). When MDC holds a {@code traceId} the decision is derived
+         * from it, so a sampled request is logged end to end.
+         */
+        @DecimalMin("0.0") @DecimalMax("1.0")
+        private double rate = 1.0;
+
+        /** Maximum logged calls per second for each method; {@code 0} (default) means unlimited. */
+        @Min(0)
+        private int maxPerSecond = 0;
+
+        /** Log the error event of calls that were not sampled (default: {@code true}). */
+        private boolean alwaysLogErrors = true;
+
+        /**
+         * Log the exit event of calls that were not sampled when they take at least this
+         * many milliseconds; {@code 0} (default) disables it.
+         */
+        @Min(0)
+        private long alwaysLogSlowerThanMs = 0;
+    }
+
+    /** Micrometer binding, active when {@code micrometer-core} is on the classpath. */
+    @Getter
+    @Setter
+    public static class Metrics {
+        /** Record a timer and an exception counter for every {@code @LogOn} method (default: {@code true}). */
+        private boolean enabled = true;
+
+        /** Publish percentile histogram buckets for the call timer (default: {@code true}). */
+        private boolean percentileHistogram = true;
+    }
+
+    /**
+     * Size limits for serializing each argument and return value; each {@code @LogOn} method
+     * may override them through the annotation. Values over the limits are cut and marked
+     * with {@code ... (truncated)}.
+     */
+    @Getter
+    @Setter
+    public static class Serialization {
+        /** Characters kept per argument or return value (default: {@code 10000}). */
+        @Min(16)
+        private int maxChars = 10_000;
+
+        /** Elements written per array, collection or map; the rest are counted as {@code ... (N more)}. */
+        @Min(1)
+        private int maxElements = 100;
+
+        /** Nesting levels of arrays, collections and maps that are expanded (default: {@code 8}). */
+        @Min(1)
+        private int maxDepth = 8;
+
+        /** Log {@code byte[]} as {@code byte[<length>]} instead of its contents (default: {@code true}). */
+        private boolean summarizeBinary = true;
+
+        /**
+         * How arrays, collections, maps and beans are written: {@code to-string} (default)
+         * renders them with {@code toString()} and masks keys that appear JSON-like in the
+         * text; {@code json} walks them with Jackson's streaming generator and masks
+         * properties and map keys by their real names as they are written, with no regex pass.
+         */
+        private SerializationFormat format = SerializationFormat.TO_STRING;
+    }
+
+    /**
+     * Built-in masking strategies, applied after the key-based masking to every argument,
+     * return value and exception message. All are disabled by default.
+     */
+    @Getter
+    @Setter
+    public static class Masking {
+        /** Mask CPF numbers with valid check digits, formatted or not. */
+        private boolean cpf = false;
+
+        /** Mask CNPJ numbers with valid check digits, formatted or not. */
+        private boolean cnpj = false;
+
+        /** Mask payment card numbers that pass the Luhn check, keeping the last four digits. */
+        private boolean cardNumber = false;
+
+        /** Mask the local part of e-mail addresses, keeping its first character and the domain. */
+        private boolean email = false;
+    }
+
+    /**
+     * Templates of the plain-text entry, exit and error messages when {@code enable-i18n} is
+     * off. They use the {@code messages.properties} syntax: {@code {0}} is the method name,
+     * {@code {1}} the arguments, the return value or the exception name, and {@code {2}} the
+     * exception message; {@code ''} writes a single quote. Parsed once at startup.
+     */
+    @Getter
+    @Setter
+    public static class Messages {
+        @NotBlank
+        private String entry = "Entrando no método: {0}() com | Args: {1}";
+
+        @NotBlank
+        private String exit = "Saindo do método: {0}() retornou | Retorno: {1}";
+
+        @NotBlank
+        private String error = "Erro no método {0}: {1} - {2}";
+    }
+
+    public enum SerializationFormat {
+        TO_STRING, JSON
+    }
+
+    /**
+     * Segment files written in {@code logger.async.mode=binary}. Each segment is a
+     * memory-mapped file of {@code segment-size-mb}, preallocated when it is opened; when it
+     * is full the next one is started and only the newest {@code max-segments} are kept.
+     * Decode them to JSON lines with {@code BinaryLogDecoder}.
+     */
+    @Getter
+    @Setter
+    public static class Binary {
+        @NotBlank
+        private String directory = "logs/aspecta";
+
+        @Min(1) @Max(1024)
+        private int segmentSizeMb = 64;
+
+        @Min(1) @Max(10_000)
+        private int maxSegments = 16;
+    }
+
+    public enum StructuredEmission {
+        MESSAGE, KEY_VALUE
+    }
+
+    public enum DurationPrecision {
+        MILLIS, MICROS, NANOS
+    }
+
+    public enum Mode {
+        EXECUTOR, RING_BUFFER, BATCHING, BINARY
+    }
+
+    public enum WaitStrategy {
+        SPIN, YIELD, PARK
+    }
+
+    public enum ExecutorType {
+        PLATFORM, VIRTUAL
+    }
+
+    public enum MdcCaptureMode {
+        FULL, KEYS, SHARED
+    }
+
+    public enum OverflowPolicy {
+        CALLER_RUNS, DROP_NEWEST, DROP_OLDEST, DROP_BELOW_LEVEL, BLOCK
     }
 }
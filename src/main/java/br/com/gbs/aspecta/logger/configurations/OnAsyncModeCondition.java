@@ -0,0 +1,29 @@
+package br.com.gbs.aspecta.logger.configurations;
+
+import org.springframework.boot.autoconfigure.condition.ConditionMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import java.util.Map;
+
+/** Backs {@link ConditionalOnAsyncMode}. */
+class OnAsyncModeCondition extends SpringBootCondition {
+
+    static final String PROPERTY = "logger.async.mode";
+
+    @Override
+    public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        Map<String, Object> attributes = metadata.getAnnotationAttributes(ConditionalOnAsyncMode.class.getName());
+        LoggerProperties.Mode expected = (LoggerProperties.Mode) attributes.get("value");
+        LoggerProperties.Mode mode = Binder.get(context.getEnvironment())
+                .bind(PROPERTY, LoggerProperties.Mode.class)
+                .orElse(LoggerProperties.Mode.EXECUTOR);
+        ConditionMessage.Builder message = ConditionMessage.forCondition(ConditionalOnAsyncMode.class, expected);
+        return mode == expected
+                ? ConditionOutcome.match(message.foundExactly(PROPERTY + "=" + mode))
+                : ConditionOutcome.noMatch(message.found(PROPERTY).items(mode));
+    }
+}
@@ -1,5 +1,10 @@
 package br.com.gbs.aspecta.logger.interfaces;
 
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.aspect.LogEvent;
+
+import java.util.function.Supplier;
+
 public interface AsyncLogger {
 
     void logDebug(String message, Object... args);
@@ -9,4 +14,43 @@ public interface AsyncLogger {
     void logWarn(String message, Object... args);
 
     void logError(String message, Object... args);
+
+    /**
+     * Logs a message that is rendered only when the event is written, so serialization,
+     * masking and formatting run on the logging thread instead of the caller.
+     * <p>
+     * The default implementation renders on the calling thread; asynchronous
+     * implementations override it to hand the supplier over unevaluated.
+     */
+    default void logDeferred(LogLevel level, Supplier<String> message) {
+        switch (level) {
+            case DEBUG -> logDebug(message.get());
+            case WARN  -> logWarn(message.get());
+            default    -> logInfo(message.get());
+        }
+    }
+
+    /**
+     * Logs a {@code @LogOn} event, rendering it with {@link LogEvent#render()} exactly once.
+     * <p>
+     * {@code event} is only valid during this call. The default implementation renders it on
+     * the calling thread and logs the line as the message; asynchronous implementations copy it
+     * and write it with {@link LogEvent#writeTo}, which also supports key-value emission.
+     */
+    default void log(LogEvent event) {
+        String line = event.render();
+        switch (event.getLevel()) {
+            case DEBUG -> logDebug(line);
+            case WARN  -> logWarn(line);
+            default    -> logInfo(line);
+        }
+    }
+
+    /**
+     * Events discarded by {@code logger.async.overflow-policy}, or lost because writing them
+     * threw, since startup; always {@code 0} for implementations that never drop.
+     */
+    default long droppedEvents() {
+        return 0;
+    }
 }
@@ -0,0 +1,20 @@
+package br.com.gbs.aspecta.logger.interfaces;
+
+/**
+ * Receives the size and latency of every batch written by the {@code batching} async mode.
+ * Called once per batch on the consumer thread, never on request threads.
+ */
+@FunctionalInterface
+public interface BatchMetrics {
+
+    /** Records nothing; used when no metrics backend is configured. */
+    BatchMetrics NOOP = (size, latencyNanos) -> {
+    };
+
+    /**
+     * @param size         events written in the batch
+     * @param latencyNanos time from the publication of the oldest event of the batch until
+     *                     the whole batch was written
+     */
+    void recordBatch(int size, long latencyNanos);
+}
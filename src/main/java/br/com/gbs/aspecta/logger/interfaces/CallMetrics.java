@@ -0,0 +1,32 @@
+package br.com.gbs.aspecta.logger.interfaces;
+
+/**
+ * Receives the duration and outcome of every {@code @LogOn} call, independently of sampling
+ * and log level. Implementations resolve their meters once per method in
+ * {@link #forMethod(String, String)}; the returned recorder is cached with the join point,
+ * so nothing is looked up on the hot path.
+ */
+public interface CallMetrics {
+
+    /** Records nothing; used when no metrics backend is configured. */
+    CallMetrics NOOP = (className, methodName) -> Recorder.NOOP;
+
+    Recorder forMethod(String className, String methodName);
+
+    interface Recorder {
+
+        Recorder NOOP = new Recorder() {
+            @Override
+            public void recordSuccess(long durationNanos) {
+            }
+
+            @Override
+            public void recordFailure(long durationNanos, Throwable ex) {
+            }
+        };
+
+        void recordSuccess(long durationNanos);
+
+        void recordFailure(long durationNanos, Throwable ex);
+    }
+}
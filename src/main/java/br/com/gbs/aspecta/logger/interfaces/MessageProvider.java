@@ -4,4 +4,22 @@ public interface MessageProvider {
     String entryMessage(String method, String args);
     String exitMessage(String method, Object result);
     String errorMessage(String method, String exceptionName, String message);
+
+    /**
+     * Appends {@link #entryMessage} to {@code out}. Providers with precompiled templates
+     * override the {@code append*} methods to render straight into the event buffer.
+     */
+    default void appendEntry(StringBuilder out, String method, String args) {
+        out.append(entryMessage(method, args));
+    }
+
+    /** Appends {@link #exitMessage} to {@code out}. */
+    default void appendExit(StringBuilder out, String method, Object result) {
+        out.append(exitMessage(method, result));
+    }
+
+    /** Appends {@link #errorMessage} to {@code out}. */
+    default void appendError(StringBuilder out, String method, String exceptionName, String message) {
+        out.append(errorMessage(method, exceptionName, message));
+    }
 }
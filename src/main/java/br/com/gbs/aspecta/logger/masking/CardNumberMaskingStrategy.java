@@ -0,0 +1,82 @@
+package br.com.gbs.aspecta.logger.masking;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Masks payment card numbers (PANs): runs of 13 to 19 digits, optionally grouped by single
+ * spaces or hyphens, that pass the Luhn check. All digits but the last four are replaced,
+ * keeping the grouping: {@code 4111 1111 1111 1111} becomes {@code **** **** **** 1111}.
+ * Enabled with {@code logger.masking.card-number=true}.
+ * <p>
+ * A number is only recognized as a whole run, so one glued by a separator to other digits
+ * ({@code 10 4111 1111 1111 1111}) is checked as a single, longer number.
+ */
+@Component
+@ConditionalOnProperty(prefix = "logger.masking", name = "card-number", havingValue = "true")
+public class CardNumberMaskingStrategy implements SpanMaskingStrategy {
+
+    private static final int MIN_DIGITS = 13;
+    private static final int MAX_DIGITS = 19;
+    private static final int VISIBLE = 4;
+
+    @Override
+    public boolean mightMatch(String input) {
+        return input.length() >= MIN_DIGITS;
+    }
+
+    @Override
+    public void findMatches(String input, MaskingSpans spans) {
+        int[] digits = new int[MAX_DIGITS];
+        int n = input.length();
+        for (int i = 0; i < n; i++) {
+            if (!DocumentScanner.isDigit(input.charAt(i))) continue;
+            // Read the whole run: digits, each pair possibly split by one separator
+            int count = 0;
+            int p = i;
+            while (true) {
+                if (count < MAX_DIGITS) digits[count] = input.charAt(p) - '0';
+                count++;
+                p++;
+                if (p < n && DocumentScanner.isDigit(input.charAt(p))) continue;
+                if (p + 1 < n && isSeparator(input.charAt(p)) && DocumentScanner.isDigit(input.charAt(p + 1))) {
+                    p++;
+                    continue;
+                }
+                break;
+            }
+            if (count >= MIN_DIGITS && count <= MAX_DIGITS && luhn(digits, count)) {
+                spans.add(i, p, mask(input, i, p));
+            }
+            i = p - 1;
+        }
+    }
+
+    static boolean luhn(int[] digits, int count) {
+        int sum = 0;
+        for (int i = count - 1, k = 0; i >= 0; i--, k++) {
+            int d = digits[i];
+            if ((k & 1) == 1) {
+                d *= 2;
+                if (d > 9) d -= 9;
+            }
+            sum += d;
+        }
+        return sum % 10 == 0;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '-';
+    }
+
+    private static String mask(String input, int start, int end) {
+        char[] out = input.substring(start, end).toCharArray();
+        int visible = VISIBLE;
+        for (int i = out.length - 1; i >= 0; i--) {
+            if (!DocumentScanner.isDigit(out[i])) continue;
+            if (visible > 0) visible--;
+            else out[i] = '*';
+        }
+        return new String(out);
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.gbs.aspecta.logger.masking;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Masks CNPJ numbers, formatted ({@code 11.222.333/0001-81}) or not ({@code 11222333000181}),
+ * whose check digits are valid. Enabled with {@code logger.masking.cnpj=true}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "logger.masking", name = "cnpj", havingValue = "true")
+public class CnpjMaskingStrategy implements SpanMaskingStrategy {
+
+    static final String MASK = "**.***.***/****-**";
+
+    private static final DocumentScanner SCANNER = new DocumentScanner("dd.ddd.ddd/dddd-dd");
+
+    private static final int[] WEIGHTS = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+
+    @Override
+    public boolean mightMatch(String input) {
+        return input.length() >= SCANNER.digits();
+    }
+
+    @Override
+    public void findMatches(String input, MaskingSpans spans) {
+        SCANNER.scan(input, spans, CnpjMaskingStrategy::valid, MASK);
+    }
+
+    static boolean valid(int[] d) {
+        if (DocumentScanner.repeated(d)) return false;
+        return d[12] == checkDigit(d, 12) && d[13] == checkDigit(d, 13);
+    }
+
+    /** Check digit over the first {@code count} digits, using the last {@code count} weights. */
+    private static int checkDigit(int[] d, int count) {
+        int sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += d[i] * WEIGHTS[WEIGHTS.length - count + i];
+        }
+        int rest = sum % 11;
+        return rest < 2 ? 0 : 11 - rest;
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.gbs.aspecta.logger.masking;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Masks CPF numbers, formatted ({@code 123.456.789-09}) or not ({@code 12345678909}), whose
+ * check digits are valid. Enabled with {@code logger.masking.cpf=true}.
+ * <p>
+ * A hand-written scanner instead of a regex: one pass over the input, and digit runs that
+ * merely look like a CPF (order ids, phone numbers) are left alone unless the checksum holds.
+ */
+@Component
+@ConditionalOnProperty(prefix = "logger.masking", name = "cpf", havingValue = "true")
+public class CpfMaskingStrategy implements SpanMaskingStrategy {
+
+    static final String MASK = "***.***.***-**";
+
+    private static final DocumentScanner SCANNER = new DocumentScanner("ddd.ddd.ddd-dd");
+
+    @Override
+    public boolean mightMatch(String input) {
+        return input.length() >= SCANNER.digits();
+    }
+
+    @Override
+    public void findMatches(String input, MaskingSpans spans) {
+        SCANNER.scan(input, spans, CpfMaskingStrategy::valid, MASK);
+    }
+
+    static boolean valid(int[] d) {
+        if (DocumentScanner.repeated(d)) return false;
+        return d[9] == checkDigit(d, 9) && d[10] == checkDigit(d, 10);
+    }
+
+    /** Check digit over the first {@code count} digits, with weights {@code count + 1} down to {@code 2}. */
+    private static int checkDigit(int[] d, int count) {
+        int sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += d[i] * (count + 1 - i);
+        }
+        int rest = sum * 10 % 11;
+        return rest == 10 ? 0 : rest;
+    }
+}
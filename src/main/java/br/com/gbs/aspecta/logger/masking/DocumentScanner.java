@@ -0,0 +1,73 @@
+package br.com.gbs.aspecta.logger.masking;
+
+/**
+ * Shared scanning for fixed-layout document numbers such as CPF and CNPJ. A layout is
+ * written with {@code d} for each digit; any other character is a separator that may be
+ * present or absent, so {@code ddd.ddd.ddd-dd} accepts both {@code 123.456.789-09} and
+ * {@code 12345678909}. Matching is a single forward pass, with no backtracking.
+ */
+final class DocumentScanner {
+
+    private final String layout;
+    private final int digits;
+
+    DocumentScanner(String layout) {
+        this.layout = layout;
+        this.digits = (int) layout.chars().filter(c -> c == 'd').count();
+    }
+
+    /** Digits in the layout, which is also the shortest input that can match. */
+    int digits() {
+        return digits;
+    }
+
+    /**
+     * Reports every number of {@code input} that follows the layout, is not part of a longer
+     * digit run and passes {@code checkDigits}, replaced with {@code replacement}.
+     */
+    void scan(String input, MaskingSpans spans, CheckDigits checkDigits, String replacement) {
+        int[] found = new int[digits];
+        int n = input.length();
+        for (int i = 0; i + digits <= n; i++) {
+            if (!isDigit(input.charAt(i)) || (i > 0 && isDigit(input.charAt(i - 1)))) continue;
+            int end = read(input, i, found);
+            if (end > 0 && (end == n || !isDigit(input.charAt(end))) && checkDigits.valid(found)) {
+                spans.add(i, end, replacement);
+                i = end - 1;
+            }
+        }
+    }
+
+    /** Returns the end of the layout read from {@code from} into {@code found}, or {@code -1}. */
+    private int read(String input, int from, int[] found) {
+        int p = from;
+        int d = 0;
+        for (int k = 0; k < layout.length(); k++) {
+            char expected = layout.charAt(k);
+            if (expected == 'd') {
+                if (p >= input.length() || !isDigit(input.charAt(p))) return -1;
+                found[d++] = input.charAt(p++) - '0';
+            } else if (p < input.length() && input.charAt(p) == expected) {
+                p++;
+            }
+        }
+        return p;
+    }
+
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /** Whether every digit is the same, as in {@code 111.111.111-11}, which the checksums accept. */
+    static boolean repeated(int[] digits) {
+        for (int digit : digits) {
+            if (digit != digits[0]) return false;
+        }
+        return true;
+    }
+
+    @FunctionalInterface
+    interface CheckDigits {
+        boolean valid(int[] digits);
+    }
+}
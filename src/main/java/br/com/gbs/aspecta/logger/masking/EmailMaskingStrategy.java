@@ -0,0 +1,69 @@
+package br.com.gbs.aspecta.logger.masking;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Masks the local part of e-mail addresses, keeping its first character and the domain:
+ * {@code john.doe@example.com} becomes {@code j***@example.com}. Enabled with
+ * {@code logger.masking.email=true}.
+ * <p>
+ * Scans from each {@code @}: backwards over the local part, forwards over a domain of at
+ * least two labels ending in a top-level domain of two or more letters. Each character is
+ * visited a bounded number of times, unlike the usual backtracking e-mail regexes.
+ */
+@Component
+@ConditionalOnProperty(prefix = "logger.masking", name = "email", havingValue = "true")
+public class EmailMaskingStrategy implements SpanMaskingStrategy {
+
+    static final String MASK = "***";
+
+    @Override
+    public boolean mightMatch(String input) {
+        return input.indexOf('@') >= 0;
+    }
+
+    @Override
+    public void findMatches(String input, MaskingSpans spans) {
+        for (int at = input.indexOf('@'); at >= 0; at = input.indexOf('@', at + 1)) {
+            int start = at;
+            while (start > 0 && isLocal(input.charAt(start - 1))) start--;
+            while (start < at && input.charAt(start) == '.') start++;
+            if (start == at || !hasDomain(input, at + 1)) continue;
+            spans.add(at - start > 1 ? start + 1 : start, at, MASK);
+        }
+    }
+
+    /** Whether {@code from} starts {@code label(.label)+} whose last label has two or more letters. */
+    private static boolean hasDomain(String s, int from) {
+        int labels = 0;
+        int p = from;
+        boolean alphaOnly;
+        int labelLength;
+        while (true) {
+            int labelStart = p;
+            alphaOnly = true;
+            while (p < s.length() && isDomain(s.charAt(p))) {
+                alphaOnly &= Character.isLetter(s.charAt(p));
+                p++;
+            }
+            labelLength = p - labelStart;
+            if (labelLength == 0) break;
+            labels++;
+            if (p + 1 < s.length() && s.charAt(p) == '.' && isDomain(s.charAt(p + 1))) {
+                p++;
+            } else {
+                break;
+            }
+        }
+        return labels >= 2 && alphaOnly && labelLength >= 2;
+    }
+
+    private static boolean isLocal(char c) {
+        return c < 128 && (Character.isLetterOrDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-');
+    }
+
+    private static boolean isDomain(char c) {
+        return c < 128 && (Character.isLetterOrDigit(c) || c == '-');
+    }
+}
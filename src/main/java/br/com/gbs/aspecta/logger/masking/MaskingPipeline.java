@@ -0,0 +1,71 @@
+package br.com.gbs.aspecta.logger.masking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the registered {@link MaskingStrategy} beans in order.
+ * <p>
+ * Strategies whose {@link MaskingStrategy#mightMatch} rejects the input are skipped.
+ * Consecutive {@link SpanMaskingStrategy} beans form a group: their ranges are collected over
+ * the same input and the output is built once for the group. Other strategies are applied
+ * one after the other, as before. Instances are immutable and thread-safe.
+ */
+public final class MaskingPipeline {
+
+    private static final MaskingPipeline EMPTY = new MaskingPipeline(new MaskingStrategy[0]);
+
+    private final MaskingStrategy[] stages;
+
+    private MaskingPipeline(MaskingStrategy[] stages) {
+        this.stages = stages;
+    }
+
+    public static MaskingPipeline of(List<? extends MaskingStrategy> strategies) {
+        if (strategies == null || strategies.isEmpty()) return EMPTY;
+        List<MaskingStrategy> stages = new ArrayList<>();
+        List<SpanMaskingStrategy> group = new ArrayList<>();
+        for (MaskingStrategy strategy : strategies) {
+            if (strategy instanceof SpanMaskingStrategy span) {
+                group.add(span);
+            } else {
+                addGroup(stages, group);
+                stages.add(strategy);
+            }
+        }
+        addGroup(stages, group);
+        return new MaskingPipeline(stages.toArray(MaskingStrategy[]::new));
+    }
+
+    /** Applies every strategy to {@code input}; returns {@code input} itself when none changed it. */
+    public String apply(String input) {
+        String result = input;
+        for (MaskingStrategy stage : stages) {
+            if (stage.mightMatch(result)) {
+                result = stage.apply(result);
+            }
+        }
+        return result;
+    }
+
+    private static void addGroup(List<MaskingStrategy> stages, List<SpanMaskingStrategy> group) {
+        if (group.isEmpty()) return;
+        stages.add(group.size() == 1 ? group.get(0) : new SpanGroup(group.toArray(SpanMaskingStrategy[]::new)));
+        group.clear();
+    }
+
+    /** Consecutive span strategies reporting into one {@link MaskingSpans}. */
+    private record SpanGroup(SpanMaskingStrategy[] members) implements MaskingStrategy {
+
+        @Override
+        public String apply(String input) {
+            MaskingSpans spans = null;
+            for (SpanMaskingStrategy member : members) {
+                if (!member.mightMatch(input)) continue;
+                if (spans == null) spans = new MaskingSpans(input);
+                member.findMatches(input, spans);
+            }
+            return spans == null ? input : spans.applyTo(input);
+        }
+    }
+}
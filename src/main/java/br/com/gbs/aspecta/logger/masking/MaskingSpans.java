@@ -0,0 +1,70 @@
+package br.com.gbs.aspecta.logger.masking;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Ranges of one input to be replaced, reported by {@link SpanMaskingStrategy#findMatches}.
+ * Every strategy of a group reports into the same instance and the output string is built
+ * once, after all of them ran.
+ * <p>
+ * Overlapping ranges are merged into one, replaced by the replacement of the range that
+ * starts first (the first reported one on ties), so no matched character is left visible.
+ * Instances are not thread-safe and live for a single input.
+ */
+public final class MaskingSpans {
+
+    private final int length;
+    /** {@code start << 32 | sequence}, so sorting keeps the report order on equal starts. */
+    private long[] keys = new long[8];
+    private int[] ends = new int[8];
+    private String[] replacements = new String[8];
+    private int count;
+
+    MaskingSpans(CharSequence input) {
+        this.length = input.length();
+    }
+
+    /**
+     * Replaces {@code [start, end)} of the input with {@code replacement}.
+     *
+     * @throws IllegalArgumentException when the range is empty or outside the input
+     */
+    public void add(int start, int end, String replacement) {
+        if (start < 0 || end <= start || end > length) {
+            throw new IllegalArgumentException("Invalid range [" + start + ", " + end + ") for length " + length);
+        }
+        Objects.requireNonNull(replacement, "replacement");
+        if (count == keys.length) {
+            keys = Arrays.copyOf(keys, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+            replacements = Arrays.copyOf(replacements, count * 2);
+        }
+        keys[count] = (long) start << 32 | count;
+        ends[count] = end;
+        replacements[count] = replacement;
+        count++;
+    }
+
+    /** Returns {@code input} with every range replaced, or {@code input} itself when there is none. */
+    String applyTo(String input) {
+        if (count == 0) return input;
+        long[] sorted = Arrays.copyOf(keys, count);
+        Arrays.sort(sorted);
+        StringBuilder out = new StringBuilder(input.length());
+        int last = 0;
+        int i = 0;
+        while (i < count) {
+            int first = (int) sorted[i];
+            int start = (int) (sorted[i] >>> 32);
+            int end = ends[first];
+            // Absorb every range that starts before the current one ends
+            for (i++; i < count && (int) (sorted[i] >>> 32) < end; i++) {
+                end = Math.max(end, ends[(int) sorted[i]]);
+            }
+            out.append(input, last, start).append(replacements[first]);
+            last = end;
+        }
+        return out.append(input, last, input.length()).toString();
+    }
+}
@@ -6,17 +6,29 @@ package br.com.gbs.aspecta.logger.masking;
  * Register any number of implementations as Spring beans — the {@link br.com.gbs.aspecta.logger.utils.SensitiveDataMasker}
  * will discover and apply all of them in order, after the built-in key-based masking.
  * <p>
+ * Override {@link #mightMatch} with a cheap check so inputs that cannot match skip the
+ * strategy entirely, and prefer {@link SpanMaskingStrategy} to avoid one string copy per
+ * strategy.
+ * <p>
  * Example use cases: credit card number patterns, CPF/CNPJ formats, e-mail partial masking.
+ * Checksum-validated scanners for these are built in ({@link CpfMaskingStrategy},
+ * {@link CnpjMaskingStrategy}, {@link CardNumberMaskingStrategy}, {@link EmailMaskingStrategy})
+ * and enabled through {@code logger.masking.*}.
  *
  * <pre>{@code
  * @Component
- * public class CpfMaskingStrategy implements MaskingStrategy {
- *     // Matches bare CPF pattern: 123.456.789-00 or 12345678900
- *     private static final Pattern CPF = Pattern.compile("\\d{3}\\.?\\d{3}\\.?\\d{3}-?\\d{2}");
+ * public class EmployeeIdMaskingStrategy implements MaskingStrategy {
+ *     // Matches internal employee ids: EMP-123456
+ *     private static final Pattern EMPLOYEE_ID = Pattern.compile("\\bEMP-\\d{6}\\b");
+ *
+ *     @Override
+ *     public boolean mightMatch(String input) {
+ *         return input.contains("EMP-");
+ *     }
  *
  *     @Override
  *     public String apply(String input) {
- *         return CPF.matcher(input).replaceAll("***.***.***-**");
+ *         return EMPLOYEE_ID.matcher(input).replaceAll("EMP-******");
  *     }
  * }
  * }</pre>
@@ -30,4 +42,15 @@ public interface MaskingStrategy {
      * @return the masked version of the input; never {@code null}
      */
     String apply(String input);
+
+    /**
+     * Cheap prefilter run before {@link #apply}: returning {@code false} skips the strategy
+     * for this input. Must return {@code true} whenever {@link #apply} could change the input.
+     *
+     * @param input the serialized argument, return value, or exception message
+     * @return {@code false} only when the input certainly contains nothing to mask
+     */
+    default boolean mightMatch(String input) {
+        return true;
+    }
 }
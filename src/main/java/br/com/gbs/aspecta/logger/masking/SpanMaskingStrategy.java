@@ -0,0 +1,45 @@
+package br.com.gbs.aspecta.logger.masking;
+
+/**
+ * {@link MaskingStrategy} that reports the ranges to replace instead of building a new string.
+ * Consecutive span strategies are run over the same input and their matches merged, so the
+ * masked output is built once for the whole group, and not at all when nothing matched.
+ *
+ * <pre>{@code
+ * @Component
+ * public class PhoneMaskingStrategy implements SpanMaskingStrategy {
+ *     private static final Pattern PHONE = Pattern.compile("\\+\\d{2} \\d{2} \\d{4,5}-\\d{4}");
+ *
+ *     @Override
+ *     public boolean mightMatch(String input) {
+ *         return input.indexOf('+') >= 0;
+ *     }
+ *
+ *     @Override
+ *     public void findMatches(String input, MaskingSpans spans) {
+ *         Matcher m = PHONE.matcher(input);
+ *         while (m.find()) spans.add(m.start(), m.end(), "+** ** *****-****");
+ *     }
+ * }
+ * }</pre>
+ *
+ * Since all strategies of a group see the original input, a span strategy does not see the
+ * replacements of the others, unlike chained {@link #apply} calls.
+ */
+public interface SpanMaskingStrategy extends MaskingStrategy {
+
+    /**
+     * Reports every range of {@code input} to mask into {@code spans}.
+     *
+     * @param input the serialized argument, return value, or exception message
+     * @param spans collects the ranges; shared with the other strategies of the group
+     */
+    void findMatches(String input, MaskingSpans spans);
+
+    @Override
+    default String apply(String input) {
+        MaskingSpans spans = new MaskingSpans(input);
+        findMatches(input, spans);
+        return spans.applyTo(input);
+    }
+}
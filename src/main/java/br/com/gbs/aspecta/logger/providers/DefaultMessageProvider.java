@@ -1,22 +1,57 @@
 package br.com.gbs.aspecta.logger.providers;
 
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
 import br.com.gbs.aspecta.logger.interfaces.MessageProvider;
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
+
+/**
+ * Renders the entry, exit and error messages from the {@code logger.messages.*} templates,
+ * compiled once into {@link MessageTemplate}s when the bean is created. Arguments are
+ * written with {@code String.valueOf}, so results read the same in every locale.
+ */
 @Component
 public class DefaultMessageProvider implements MessageProvider {
+
+    private final MessageTemplate entry;
+    private final MessageTemplate exit;
+    private final MessageTemplate error;
+
+    public DefaultMessageProvider(LoggerProperties loggerProperties) {
+        LoggerProperties.Messages messages = loggerProperties.getMessages();
+        this.entry = MessageTemplate.compile(messages.getEntry(), Locale.ROOT);
+        this.exit = MessageTemplate.compile(messages.getExit(), Locale.ROOT);
+        this.error = MessageTemplate.compile(messages.getError(), Locale.ROOT);
+    }
+
     @Override
     public String entryMessage(String method, String args) {
-        return String.format("Entrando no método: %s() com | Args: %s", method, args);
+        return entry.format(method, args);
     }
 
     @Override
     public String exitMessage(String method, Object result) {
-        return String.format("Saindo do método: %s() retornou | Retorno: %s", method, result);
+        return exit.format(method, String.valueOf(result));
     }
 
     @Override
     public String errorMessage(String method, String exceptionName, String message) {
-        return String.format("Erro no método %s: %s - %s", method, exceptionName, message);
+        return error.format(method, exceptionName, message);
+    }
+
+    @Override
+    public void appendEntry(StringBuilder out, String method, String args) {
+        entry.appendTo(out, method, args);
+    }
+
+    @Override
+    public void appendExit(StringBuilder out, String method, Object result) {
+        exit.appendTo(out, method, String.valueOf(result));
+    }
+
+    @Override
+    public void appendError(StringBuilder out, String method, String exceptionName, String message) {
+        error.appendTo(out, method, exceptionName, message);
     }
 }
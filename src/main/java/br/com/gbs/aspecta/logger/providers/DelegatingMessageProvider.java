@@ -2,33 +2,50 @@ package br.com.gbs.aspecta.logger.providers;
 
 import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
 import br.com.gbs.aspecta.logger.interfaces.MessageProvider;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+/**
+ * Routes every message to the {@link I18nMessageProvider} or the {@link DefaultMessageProvider},
+ * chosen once from {@code logger.enable-i18n} when the bean is created.
+ */
 @Component
-@RequiredArgsConstructor
 public class DelegatingMessageProvider implements MessageProvider {
 
-    private final LoggerProperties loggerProperties;
-    private final I18nMessageProvider i18nProvider;
-    private final DefaultMessageProvider defaultProvider;
+    private final MessageProvider delegate;
 
-    private MessageProvider delegate() {
-        return loggerProperties.isEnableI18n() ? i18nProvider : defaultProvider;
+    public DelegatingMessageProvider(LoggerProperties loggerProperties,
+                                     I18nMessageProvider i18nProvider,
+                                     DefaultMessageProvider defaultProvider) {
+        this.delegate = loggerProperties.isEnableI18n() ? i18nProvider : defaultProvider;
     }
 
     @Override
     public String entryMessage(String method, String args) {
-        return delegate().entryMessage(method, args);
+        return delegate.entryMessage(method, args);
     }
 
     @Override
     public String exitMessage(String method, Object result) {
-        return delegate().exitMessage(method, result);
+        return delegate.exitMessage(method, result);
     }
 
     @Override
     public String errorMessage(String method, String exceptionName, String message) {
-        return delegate().errorMessage(method, exceptionName, message);
+        return delegate.errorMessage(method, exceptionName, message);
+    }
+
+    @Override
+    public void appendEntry(StringBuilder out, String method, String args) {
+        delegate.appendEntry(out, method, args);
+    }
+
+    @Override
+    public void appendExit(StringBuilder out, String method, Object result) {
+        delegate.appendExit(out, method, result);
+    }
+
+    @Override
+    public void appendError(StringBuilder out, String method, String exceptionName, String message) {
+        delegate.appendError(out, method, exceptionName, message);
     }
 }
@@ -6,24 +6,67 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Renders the {@code log.entry}, {@code log.exit} and {@code log.error} messages of the
+ * default locale.
+ * <p>
+ * The three patterns are looked up once per locale, without arguments so the raw pattern
+ * is returned, and compiled into {@link MessageTemplate}s. Later calls only append literals
+ * and arguments, without going through the {@code MessageSource} and its synchronized
+ * {@code MessageFormat} cache.
+ */
 @Component
 @RequiredArgsConstructor
 public class I18nMessageProvider implements MessageProvider {
     private final I18nLogger i18nLogger;
+    private final ConcurrentMap<Locale, Templates> templates = new ConcurrentHashMap<>();
 
     @Override
     public String entryMessage(String method, String args) {
-        return i18nLogger.getMessage("log.entry", new Object[]{method, args}, Locale.getDefault());
+        return templates().entry.format(method, args);
     }
 
     @Override
     public String exitMessage(String method, Object result) {
-        return i18nLogger.getMessage("log.exit", new Object[]{method, result}, Locale.getDefault());
+        return templates().exit.format(method, result);
     }
 
     @Override
     public String errorMessage(String method, String exceptionName, String message) {
-        return i18nLogger.getMessage("log.error", new Object[]{method, exceptionName, message}, Locale.getDefault());
+        return templates().error.format(method, exceptionName, message);
+    }
+
+    @Override
+    public void appendEntry(StringBuilder out, String method, String args) {
+        templates().entry.appendTo(out, method, args);
+    }
+
+    @Override
+    public void appendExit(StringBuilder out, String method, Object result) {
+        templates().exit.appendTo(out, method, result);
+    }
+
+    @Override
+    public void appendError(StringBuilder out, String method, String exceptionName, String message) {
+        templates().error.appendTo(out, method, exceptionName, message);
+    }
+
+    private Templates templates() {
+        Locale locale = Locale.getDefault();
+        Templates cached = templates.get(locale);
+        return cached != null ? cached : templates.computeIfAbsent(locale, this::compile);
+    }
+
+    private Templates compile(Locale locale) {
+        return new Templates(
+                MessageTemplate.compile(i18nLogger.getMessage("log.entry", null, locale), locale),
+                MessageTemplate.compile(i18nLogger.getMessage("log.exit", null, locale), locale),
+                MessageTemplate.compile(i18nLogger.getMessage("log.error", null, locale), locale));
+    }
+
+    private record Templates(MessageTemplate entry, MessageTemplate exit, MessageTemplate error) {
     }
 }
@@ -0,0 +1,143 @@
+package br.com.gbs.aspecta.logger.providers;
+
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A {@link MessageFormat} pattern parsed once into literal segments and argument slots, so
+ * rendering is a sequence of appends to the caller's buffer with no parsing, locking or
+ * intermediate strings.
+ * <p>
+ * Supports the quoting rules of {@code MessageFormat} ({@code ''} for a quote,
+ * {@code '{'} for a literal brace) and renders arguments the same way: {@code null} as
+ * {@code "null"}, numbers and dates with the locale's default formats, anything else with
+ * {@code toString()}. Patterns using format types such as {@code {0,number,#.##}} are
+ * delegated to a copy of the compiled {@code MessageFormat} on each call.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+final class MessageTemplate {
+
+    private final Locale locale;
+    /** Literal text before each argument, then after the last one: {@code arguments.length + 1} entries. */
+    private final String[] literals;
+    private final int[] arguments;
+    /** Set instead of the segments when the pattern needs {@code MessageFormat} itself. */
+    private final MessageFormat fallback;
+    private final int sizeHint;
+
+    private MessageTemplate(Locale locale, String[] literals, int[] arguments, MessageFormat fallback) {
+        this.locale = locale;
+        this.literals = literals;
+        this.arguments = arguments;
+        this.fallback = fallback;
+        int literalLength = 0;
+        for (String literal : literals) literalLength += literal.length();
+        this.sizeHint = literalLength + 32 * arguments.length;
+    }
+
+    /**
+     * Compiles {@code pattern}.
+     *
+     * @throws IllegalArgumentException if the pattern is invalid, as {@link MessageFormat} would
+     */
+    static MessageTemplate compile(String pattern, Locale locale) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> arguments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == '{' && !quoted) {
+                int close = pattern.indexOf('}', i);
+                int index = close < 0 ? -1 : argumentIndex(pattern, i + 1, close);
+                if (index < 0) {
+                    return new MessageTemplate(locale, new String[0], new int[0], new MessageFormat(pattern, locale));
+                }
+                literals.add(literal.toString());
+                literal.setLength(0);
+                arguments.add(index);
+                i = close;
+            } else {
+                literal.append(c);
+            }
+        }
+        literals.add(literal.toString());
+        return new MessageTemplate(locale, literals.toArray(String[]::new),
+                arguments.stream().mapToInt(Integer::intValue).toArray(), null);
+    }
+
+    /** Index of a plain {@code {n}} placeholder, or {@code -1} when it has a format type. */
+    private static int argumentIndex(String pattern, int start, int end) {
+        if (start == end || end - start > 9) return -1;
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char c = pattern.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    String format(Object... args) {
+        if (fallback != null) return ((MessageFormat) fallback.clone()).format(args);
+        return appendTo(new StringBuilder(sizeHint), args).toString();
+    }
+
+    StringBuilder appendTo(StringBuilder out, Object... args) {
+        if (fallback != null) return out.append(((MessageFormat) fallback.clone()).format(args));
+        for (int i = 0; i < arguments.length; i++) {
+            out.append(literals[i]);
+            int index = arguments[i];
+            if (args == null || index >= args.length) appendPlaceholder(out, index);
+            else appendArgument(out, args[index]);
+        }
+        return out.append(literals[arguments.length]);
+    }
+
+    /** {@link #appendTo(StringBuilder, Object...)} for two arguments, without the varargs array. */
+    StringBuilder appendTo(StringBuilder out, Object a0, Object a1) {
+        if (fallback != null) return out.append(((MessageFormat) fallback.clone()).format(new Object[]{a0, a1}));
+        return appendTo(out, 2, a0, a1, null);
+    }
+
+    /** {@link #appendTo(StringBuilder, Object...)} for three arguments, without the varargs array. */
+    StringBuilder appendTo(StringBuilder out, Object a0, Object a1, Object a2) {
+        if (fallback != null) return out.append(((MessageFormat) fallback.clone()).format(new Object[]{a0, a1, a2}));
+        return appendTo(out, 3, a0, a1, a2);
+    }
+
+    private StringBuilder appendTo(StringBuilder out, int count, Object a0, Object a1, Object a2) {
+        for (int i = 0; i < arguments.length; i++) {
+            out.append(literals[i]);
+            int index = arguments[i];
+            if (index >= count) appendPlaceholder(out, index);
+            else appendArgument(out, index == 0 ? a0 : index == 1 ? a1 : a2);
+        }
+        return out.append(literals[arguments.length]);
+    }
+
+    private static void appendPlaceholder(StringBuilder out, int index) {
+        // MessageFormat leaves placeholders without an argument as they are
+        out.append('{').append(index).append('}');
+    }
+
+    private void appendArgument(StringBuilder out, Object arg) {
+        if (arg instanceof String s) out.append(s);
+        else if (arg instanceof Number n) out.append(NumberFormat.getInstance(locale).format(n));
+        else if (arg instanceof Date d) out.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(d));
+        else out.append(arg);
+    }
+}
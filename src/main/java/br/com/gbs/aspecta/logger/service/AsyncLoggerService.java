@@ -1,31 +1,91 @@
 package br.com.gbs.aspecta.logger.service;
 
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.aspect.LogEvent;
 import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncLogger} that submits each event to {@code aspectaLoggerExecutor}.
+ * <p>
+ * Events are submitted as {@link OverflowPolicyHandler.Leveled} tasks, so that when the
+ * executor queue is full the configured overflow policy can tell them apart by level.
+ */
 @Service
 @Slf4j
 public class AsyncLoggerService implements AsyncLogger {
 
-    @Async("aspectaLoggerExecutor")
+    private final Executor executor;
+    private final OverflowPolicyHandler overflowHandler;
+    private final WriteFailures writeFailures = new WriteFailures();
+
+    public AsyncLoggerService(@Qualifier("aspectaLoggerExecutor") Executor executor,
+                              OverflowPolicyHandler overflowHandler) {
+        this.executor = executor;
+        this.overflowHandler = overflowHandler;
+    }
+
     public void logDebug(String message, Object... args) {
-        log.debug(message, args);
+        submit(Level.DEBUG, () -> log.debug(message, args));
     }
 
-    @Async("aspectaLoggerExecutor")
     public void logInfo(String message, Object... args) {
-        log.info(message, args);
+        submit(Level.INFO, () -> log.info(message, args));
     }
 
-    @Async("aspectaLoggerExecutor")
     public void logWarn(String message, Object... args) {
-        log.warn(message, args);
+        submit(Level.WARN, () -> log.warn(message, args));
     }
 
-    @Async("aspectaLoggerExecutor")
     public void logError(String message, Object... args) {
-        log.error(message, args);
+        submit(Level.ERROR, () -> log.error(message, args));
+    }
+
+    public void logDeferred(LogLevel level, Supplier<String> message) {
+        switch (level) {
+            case DEBUG -> submit(Level.DEBUG, () -> log.debug(message.get()));
+            case WARN  -> submit(Level.WARN, () -> log.warn(message.get()));
+            default    -> submit(Level.INFO, () -> log.info(message.get()));
+        }
+    }
+
+    /** Submits a copy of {@code event}, rendered and written by the worker thread. */
+    @Override
+    public void log(LogEvent event) {
+        LogEvent copy = event.copy();
+        Level level = switch (copy.getLevel()) {
+            case DEBUG -> Level.DEBUG;
+            case WARN  -> Level.WARN;
+            default    -> Level.INFO;
+        };
+        submit(level, () -> copy.writeTo(log, level));
+    }
+
+    @Override
+    public long droppedEvents() {
+        return overflowHandler.dropped() + writeFailures.count();
+    }
+
+    private void submit(Level level, Runnable write) {
+        executor.execute(new LogTask(level, write, writeFailures));
+    }
+
+    record LogTask(Level level, Runnable write, WriteFailures failures)
+            implements Runnable, OverflowPolicyHandler.Leveled {
+
+        @Override
+        public void run() {
+            try {
+                write.run();
+            } catch (RuntimeException ex) {
+                failures.record(ex);
+            }
+        }
     }
 }
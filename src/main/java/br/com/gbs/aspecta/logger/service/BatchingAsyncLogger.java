@@ -0,0 +1,258 @@
+package br.com.gbs.aspecta.logger.service;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.aspect.LogEvent;
+import br.com.gbs.aspecta.logger.configurations.ConditionalOnAsyncMode;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
+import br.com.gbs.aspecta.logger.interfaces.BatchMetrics;
+import br.com.gbs.aspecta.logger.utils.MdcCapture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncLogger} that queues events for a single consumer thread which drains and
+ * writes them in batches.
+ * <p>
+ * Enabled with {@code logger.async.mode=batching}. After taking the first event the consumer
+ * waits up to {@code logger.async.batch-linger-micros} for more, then writes up to
+ * {@code logger.async.batch-size} events in a tight loop. This replaces one task hand-off,
+ * worker wake-up and MDC set/clear per event with one per batch. The MDC is only replaced
+ * between events whose captured contexts differ, so consecutive events of the same request
+ * share it, and it is cleared once per batch.
+ * <p>
+ * The queue holds {@code logger.async.queue-capacity} events; when it is full
+ * {@code logger.async.overflow-policy} applies as in {@code executor} mode. Batch sizes and
+ * latencies are reported to the {@link BatchMetrics} bean, when there is one.
+ * <p>
+ * On shutdown what is left in the queue is written before {@code destroy()} returns; events
+ * published afterwards are written on the caller thread.
+ * <p>
+ * Events are written to the {@link AsyncLoggerService} logger category so existing
+ * backend configuration keeps applying regardless of the mode.
+ */
+@Service
+@Primary
+@ConditionalOnAsyncMode(LoggerProperties.Mode.BATCHING)
+public class BatchingAsyncLogger implements AsyncLogger, InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncLoggerService.class);
+
+    /** How often an idle consumer checks for shutdown. */
+    private static final long IDLE_POLL_MS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5_000;
+
+    private final BlockingQueue<Event> queue;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final OverflowPolicyHandler overflowHandler;
+    private final MdcCapture mdcCapture;
+    private final WriteFailures writeFailures = new WriteFailures();
+    private volatile BatchMetrics batchMetrics = BatchMetrics.NOOP;
+
+    /** Started by {@link #afterPropertiesSet()}, so the constructor does not publish {@code this}. */
+    private volatile Thread consumer;
+    private volatile boolean running = true;
+    /** Set once the consumer has left its loop; later events are drained by whoever queued them. */
+    private volatile boolean consumerStopped;
+
+    public BatchingAsyncLogger(LoggerProperties loggerProperties) {
+        LoggerProperties.Async cfg = loggerProperties.getAsync();
+        this.queue = new ArrayBlockingQueue<>(cfg.getQueueCapacity());
+        this.batchSize = cfg.getBatchSize();
+        this.lingerNanos = TimeUnit.MICROSECONDS.toNanos(cfg.getBatchLingerMicros());
+        this.overflowHandler = new OverflowPolicyHandler(cfg);
+        this.mdcCapture = MdcCapture.of(cfg);
+    }
+
+    /** Starts the consumer thread once the bean is fully constructed. */
+    @Override
+    public void afterPropertiesSet() {
+        Thread thread = new Thread(this::drain, "aspecta-logger-batch");
+        thread.setDaemon(true);
+        consumer = thread;
+        thread.start();
+    }
+
+    /** Optional metrics backend (see {@code AspectaMetricsConfig}). */
+    @Autowired(required = false)
+    public void setBatchMetrics(BatchMetrics batchMetrics) {
+        this.batchMetrics = batchMetrics;
+    }
+
+    @Override
+    public void logDebug(String message, Object... args) {
+        publish(event(Level.DEBUG, message, args, null, null));
+    }
+
+    @Override
+    public void logInfo(String message, Object... args) {
+        publish(event(Level.INFO, message, args, null, null));
+    }
+
+    @Override
+    public void logWarn(String message, Object... args) {
+        publish(event(Level.WARN, message, args, null, null));
+    }
+
+    @Override
+    public void logError(String message, Object... args) {
+        publish(event(Level.ERROR, message, args, null, null));
+    }
+
+    @Override
+    public void logDeferred(LogLevel level, Supplier<String> message) {
+        publish(event(toSlf4j(level), null, null, message, null));
+    }
+
+    /** Queues a copy of {@code event}, rendered and written by the consumer thread. */
+    @Override
+    public void log(LogEvent event) {
+        publish(event(toSlf4j(event.getLevel()), null, null, null, event.copy()));
+    }
+
+    private Event event(Level level, String message, Object[] args, Supplier<String> deferred, LogEvent event) {
+        return new Event(level, message, args, deferred, event, mdcCapture.capture(), System.nanoTime(), writeFailures);
+    }
+
+    private static Level toSlf4j(LogLevel level) {
+        return switch (level) {
+            case DEBUG -> Level.DEBUG;
+            case WARN  -> Level.WARN;
+            default    -> Level.INFO;
+        };
+    }
+
+    @Override
+    public long droppedEvents() {
+        return overflowHandler.dropped() + writeFailures.count();
+    }
+
+    /** Events published but not yet taken by the consumer. */
+    int backlog() {
+        return queue.size();
+    }
+
+    private void publish(Event event) {
+        // Shut down: nobody drains the queue any more, write on the caller thread
+        if (!running) event.run();
+        else if (!queue.offer(event)) overflowHandler.overflow(event, queue);
+        // Raced with shutdown: the consumer may have exited before the offer
+        if (!running && consumerStopped) drainRemaining();
+    }
+
+    // ── Consumer side ─────────────────────────────────────────────────────────
+
+    private void drain() {
+        List<Event> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            Event first;
+            try {
+                first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (first == null) continue;
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            if (batch.size() < batchSize && lingerNanos > 0 && running) {
+                // Sleep instead of waiting on the queue, so producers do not wake us per event
+                LockSupport.parkNanos(this, lingerNanos);
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+            emit(batch);
+            batch.clear();
+        }
+        consumerStopped = true;
+        drainRemaining();
+    }
+
+    /** Writes what is left in the queue on the current thread, each event with its own MDC. */
+    private void drainRemaining() {
+        for (Event event; (event = queue.poll()) != null; ) event.run();
+    }
+
+    private void emit(List<Event> batch) {
+        Map<String, String> current = null;
+        try {
+            for (Event event : batch) {
+                if (!Objects.equals(event.mdc, current)) {
+                    if (event.mdc != null) MDC.setContextMap(event.mdc);
+                    else MDC.clear();
+                    current = event.mdc;
+                }
+                event.write();
+            }
+        } finally {
+            MDC.clear();
+        }
+        batchMetrics.recordBatch(batch.size(), System.nanoTime() - batch.get(0).publishedAt);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        consumer.join(SHUTDOWN_TIMEOUT_MS);
+        drainRemaining();
+    }
+
+    // ── Event ─────────────────────────────────────────────────────────────────
+
+    /**
+     * A queued log event. Runs on its own, with its MDC, when the overflow policy or a
+     * shutdown makes the caller write it; the caller's MDC is restored afterwards.
+     */
+    private record Event(Level level, String message, Object[] args, Supplier<String> deferred,
+                         LogEvent event, Map<String, String> mdc, long publishedAt, WriteFailures failures)
+            implements Runnable, OverflowPolicyHandler.Leveled {
+
+        @Override
+        public void run() {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            try {
+                if (mdc != null) MDC.setContextMap(mdc);
+                else MDC.clear();
+                write();
+            } finally {
+                if (previous != null) MDC.setContextMap(previous);
+                else MDC.clear();
+            }
+        }
+
+        void write() {
+            try {
+                if (event != null) {
+                    event.writeTo(log, level);
+                    return;
+                }
+                String text = deferred != null ? deferred.get() : message;
+                Object[] arguments = deferred != null ? null : args;
+                switch (level) {
+                    case DEBUG -> log.debug(text, arguments);
+                    case WARN  -> log.warn(text, arguments);
+                    case ERROR -> log.error(text, arguments);
+                    default    -> log.info(text, arguments);
+                }
+            } catch (RuntimeException ex) {
+                failures.record(ex);
+            }
+        }
+    }
+}
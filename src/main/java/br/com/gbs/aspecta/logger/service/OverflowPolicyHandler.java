@@ -0,0 +1,84 @@
+package br.com.gbs.aspecta.logger.service;
+
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Applies {@code logger.async.overflow-policy} to the events {@code aspectaLoggerExecutor}
+ * rejects because its queue is full, and counts the discarded ones. The
+ * {@link BatchingAsyncLogger} applies it to its own queue the same way.
+ * <p>
+ * Only {@link Leveled} tasks can be told apart by {@code drop-below-level}; any other task
+ * is treated as important and waits for room.
+ */
+public class OverflowPolicyHandler implements RejectedExecutionHandler {
+
+    /** A queued log event that knows its level. */
+    public interface Leveled {
+        Level level();
+    }
+
+    private final LoggerProperties.OverflowPolicy policy;
+    private final Level threshold;
+    private final long timeoutMs;
+    private final LongAdder dropped = new LongAdder();
+
+    public OverflowPolicyHandler(LoggerProperties.Async cfg) {
+        this.policy = cfg.getOverflowPolicy() != null
+                ? cfg.getOverflowPolicy()
+                : LoggerProperties.OverflowPolicy.CALLER_RUNS;
+        this.threshold = cfg.getOverflowLevel();
+        this.timeoutMs = cfg.getOverflowTimeoutMs();
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            dropped.increment();
+            return;
+        }
+        overflow(task, executor.getQueue());
+    }
+
+    /** Applies the policy to {@code task}, which did not fit in the full {@code queue}. */
+    <T extends Runnable> void overflow(T task, BlockingQueue<T> queue) {
+        switch (policy) {
+            case CALLER_RUNS -> task.run();
+            case DROP_NEWEST -> dropped.increment();
+            case DROP_OLDEST -> {
+                if (queue.poll() != null) dropped.increment();
+                if (!queue.offer(task)) dropped.increment();
+            }
+            case DROP_BELOW_LEVEL -> {
+                if (task instanceof Leveled leveled && leveled.level().toInt() < threshold.toInt()) {
+                    dropped.increment();
+                } else {
+                    await(task, queue);
+                }
+            }
+            default -> await(task, queue);
+        }
+    }
+
+    /** Events discarded since startup. */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    private <T extends Runnable> void await(T task, BlockingQueue<T> queue) {
+        try {
+            if (!queue.offer(task, timeoutMs, TimeUnit.MILLISECONDS)) {
+                dropped.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+        }
+    }
+}
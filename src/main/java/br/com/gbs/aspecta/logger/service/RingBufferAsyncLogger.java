@@ -0,0 +1,402 @@
+package br.com.gbs.aspecta.logger.service;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.aspect.LogEvent;
+import br.com.gbs.aspecta.logger.configurations.ConditionalOnAsyncMode;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
+import br.com.gbs.aspecta.logger.utils.MdcCapture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncLogger} backed by a preallocated multi-producer / single-consumer ring buffer.
+ * <p>
+ * Enabled with {@code logger.async.mode=ring-buffer}. Request threads claim a slot with a
+ * single atomic increment, fill it in place and publish it; one dedicated daemon thread
+ * drains the slots in order and writes them to SLF4J. No task, future or queue node is
+ * allocated per event, and slots are reused for the lifetime of the application;
+ * {@code @LogOn} events are copied into the {@link LogEvent} each slot owns and rendered by
+ * the consumer.
+ * <p>
+ * When the ring is full, {@code logger.async.overflow-policy} decides: by default producers
+ * wait for the consumer using the configured {@link LoggerProperties.WaitStrategy} and events
+ * are never dropped. {@code drop-oldest} asks the consumer to skip the oldest pending event
+ * instead of writing it.
+ * <p>
+ * On shutdown the consumer writes what is left in the ring before {@code destroy()} returns;
+ * producers that find the ring full, or publish after the consumer stopped, write on their
+ * own thread instead of waiting.
+ * <p>
+ * Events are written to the {@link AsyncLoggerService} logger category so existing
+ * backend configuration keeps applying regardless of the mode.
+ */
+@Service
+@Primary
+@ConditionalOnAsyncMode(LoggerProperties.Mode.RING_BUFFER)
+public class RingBufferAsyncLogger implements AsyncLogger, InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncLoggerService.class);
+
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long SHUTDOWN_TIMEOUT_MS = 5_000;
+    /** Busy-wait rounds before the {@code park} strategy actually parks. */
+    private static final int SPIN_ROUNDS = 100;
+    /** Returned by {@link #claim} instead of a sequence. */
+    private static final long DROPPED = -1;
+    private static final long CALLER_RUNS = -2;
+
+    private final Slot[] slots;
+    private final int mask;
+    private final LoggerProperties.WaitStrategy waitStrategy;
+    private final LoggerProperties.OverflowPolicy overflowPolicy;
+    private final Level overflowLevel;
+    /** How long a producer waits for a free slot; negative waits forever. */
+    private final long overflowTimeoutNanos;
+    private final MdcCapture mdcCapture;
+
+    /** Next sequence to be claimed by a producer. */
+    private final AtomicLong claimed = new AtomicLong();
+    /** Number of events fully consumed; producers may reuse slots below {@code consumed + capacity}. */
+    private final AtomicLong consumed = new AtomicLong();
+    /** Pending events the consumer must skip to make room ({@code drop-oldest}). */
+    private final AtomicLong skipRequests = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final WriteFailures writeFailures = new WriteFailures();
+
+    /** Started by {@link #afterPropertiesSet()}, so the constructor does not publish {@code this}. */
+    private volatile Thread consumer;
+    private volatile boolean consumerParked;
+    private volatile boolean running = true;
+    /** Set, under the instance lock, once the consumer has left its loop; guarded by {@code this}. */
+    private boolean consumerStopped;
+
+    public RingBufferAsyncLogger(LoggerProperties loggerProperties) {
+        LoggerProperties.Async cfg = loggerProperties.getAsync();
+        int capacity = Integer.highestOneBit(Math.max(2, cfg.getRingBufferSize() - 1)) << 1;
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+        this.waitStrategy = cfg.getWaitStrategy();
+        this.overflowPolicy = cfg.getOverflowPolicy() != null
+                ? cfg.getOverflowPolicy()
+                : LoggerProperties.OverflowPolicy.BLOCK;
+        this.overflowLevel = cfg.getOverflowLevel();
+        this.overflowTimeoutNanos = cfg.getOverflowPolicy() != null
+                ? TimeUnit.MILLISECONDS.toNanos(cfg.getOverflowTimeoutMs())
+                : -1;
+        this.mdcCapture = MdcCapture.of(cfg);
+    }
+
+    /** Starts the consumer thread once the bean is fully constructed. */
+    @Override
+    public void afterPropertiesSet() {
+        Thread thread = new Thread(this::drain, "aspecta-logger-ring");
+        thread.setDaemon(true);
+        consumer = thread;
+        thread.start();
+    }
+
+    @Override
+    public void logDebug(String message, Object... args) {
+        publish(Level.DEBUG, message, args, null, null);
+    }
+
+    @Override
+    public void logInfo(String message, Object... args) {
+        publish(Level.INFO, message, args, null, null);
+    }
+
+    @Override
+    public void logWarn(String message, Object... args) {
+        publish(Level.WARN, message, args, null, null);
+    }
+
+    @Override
+    public void logError(String message, Object... args) {
+        publish(Level.ERROR, message, args, null, null);
+    }
+
+    @Override
+    public void logDeferred(LogLevel level, Supplier<String> message) {
+        publish(toSlf4j(level), null, null, message, null);
+    }
+
+    /** Copies {@code event} into the claimed slot's own event; the consumer renders it there. */
+    @Override
+    public void log(LogEvent event) {
+        publish(toSlf4j(event.getLevel()), null, null, null, event);
+    }
+
+    private static Level toSlf4j(LogLevel level) {
+        return switch (level) {
+            case DEBUG -> Level.DEBUG;
+            case WARN  -> Level.WARN;
+            default    -> Level.INFO;
+        };
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /** Events published but not yet written. */
+    long backlog() {
+        return claimed.get() - consumed.get();
+    }
+
+    @Override
+    public long droppedEvents() {
+        return dropped.sum() + writeFailures.count();
+    }
+
+    // ── Producer side ─────────────────────────────────────────────────────────
+
+    private void publish(Level level, String message, Object[] args, Supplier<String> deferred, LogEvent event) {
+        // Shut down: nobody drains the ring any more, write on the caller thread
+        long seq = running ? claim(level) : CALLER_RUNS;
+        if (seq == DROPPED) return;
+        if (seq == CALLER_RUNS) {
+            Slot direct = new Slot();
+            direct.level = level;
+            direct.message = message;
+            direct.args = args;
+            direct.deferred = deferred;
+            if (event != null) direct.event.copyFrom(event);
+            // Already in the caller's own MDC, which must survive the write
+            render(direct);
+            return;
+        }
+        Slot slot = slots[(int) (seq & mask)];
+        slot.level = level;
+        slot.message = message;
+        slot.args = args;
+        slot.deferred = deferred;
+        if (event != null) slot.event.copyFrom(event);
+        slot.mdc = mdcCapture.capture();
+        slot.sequence = seq;
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+        // Claimed while shutting down: the consumer may have stopped before seeing this slot
+        if (!running) drainIfStopped();
+    }
+
+    /**
+     * Claims the next sequence once its slot is free, applying the overflow policy while the
+     * ring is full. Returns {@link #DROPPED} or {@link #CALLER_RUNS} instead of a sequence
+     * when the event must not be published.
+     */
+    private long claim(Level level) {
+        boolean skipRequested = false;
+        long deadline = 0;
+        int rounds = 0;
+        while (true) {
+            long seq = claimed.get();
+            if (seq - slots.length < consumed.get()) {
+                if (claimed.compareAndSet(seq, seq + 1)) return seq;
+                continue;
+            }
+            // Shutting down: the consumer may never free a slot again
+            if (!running) return CALLER_RUNS;
+            switch (overflowPolicy) {
+                case CALLER_RUNS -> {
+                    return CALLER_RUNS;
+                }
+                case DROP_NEWEST -> {
+                    dropped.increment();
+                    return DROPPED;
+                }
+                case DROP_OLDEST -> {
+                    // One skip per event that found the ring full, then wait for the room it frees
+                    if (!skipRequested) skipRequests.incrementAndGet();
+                    skipRequested = true;
+                }
+                default -> {
+                    if (overflowPolicy == LoggerProperties.OverflowPolicy.DROP_BELOW_LEVEL
+                            && level.toInt() < overflowLevel.toInt()) {
+                        dropped.increment();
+                        return DROPPED;
+                    }
+                    if (overflowTimeoutNanos >= 0) {
+                        long now = System.nanoTime();
+                        if (rounds == 0) deadline = now + overflowTimeoutNanos;
+                        else if (now - deadline >= 0) {
+                            dropped.increment();
+                            return DROPPED;
+                        }
+                    }
+                }
+            }
+            idle(rounds++);
+        }
+    }
+
+    /** Decrements {@code counter} unless it is already zero; returns whether it did. */
+    private static boolean tryDecrement(AtomicLong counter) {
+        long current;
+        do {
+            current = counter.get();
+            if (current <= 0) return false;
+        } while (!counter.compareAndSet(current, current - 1));
+        return true;
+    }
+
+    // ── Consumer side ─────────────────────────────────────────────────────────
+
+    private void drain() {
+        long next = 0;
+        int idleRounds = 0;
+        while (running) {
+            Slot slot = slots[(int) (next & mask)];
+            if (slot.sequence != next) {
+                idleRounds = awaitPublication(slot, next, idleRounds);
+                continue;
+            }
+            idleRounds = 0;
+            if (skipRequests.get() > 0 && tryDecrement(skipRequests)) {
+                dropped.increment();
+            } else {
+                write(slot);
+            }
+            slot.clear();
+            consumed.lazySet(++next);
+        }
+        synchronized (this) {
+            consumerStopped = true;
+            drainRemaining();
+        }
+    }
+
+    /**
+     * Writes the events claimed but not yet consumed once the consumer has stopped. Called
+     * from the consumer as it exits, from {@link #destroy()}, and from producers that publish
+     * during shutdown, so an event claimed just before the consumer stopped is not stranded.
+     */
+    private synchronized void drainIfStopped() {
+        if (consumerStopped) drainRemaining();
+    }
+
+    /**
+     * Must hold the instance lock; waits for slots that are claimed but not yet published.
+     * May run on a request thread, whose MDC is restored afterwards.
+     */
+    private void drainRemaining() {
+        long next = consumed.get();
+        if (next >= claimed.get()) return;
+        Map<String, String> previous = MDC.getCopyOfContextMap();
+        try {
+            while (next < claimed.get()) {
+                Slot slot = slots[(int) (next & mask)];
+                while (slot.sequence != next) Thread.yield();
+                write(slot);
+                slot.clear();
+                consumed.lazySet(++next);
+            }
+        } finally {
+            if (previous != null) MDC.setContextMap(previous);
+        }
+    }
+
+    private int awaitPublication(Slot slot, long expected, int idleRounds) {
+        if (waitStrategy != LoggerProperties.WaitStrategy.PARK || idleRounds < SPIN_ROUNDS) {
+            idle(idleRounds);
+            return idleRounds + 1;
+        }
+        consumerParked = true;
+        if (slot.sequence != expected && running) {
+            LockSupport.parkNanos(this, PARK_NANOS);
+        }
+        consumerParked = false;
+        return idleRounds + 1;
+    }
+
+    private void idle(int rounds) {
+        switch (waitStrategy) {
+            case SPIN  -> Thread.onSpinWait();
+            case YIELD -> Thread.yield();
+            default    -> {
+                if (rounds < SPIN_ROUNDS) Thread.onSpinWait();
+                else LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+    }
+
+    /** Writes {@code slot} with the MDC captured from its producer, then clears it. */
+    private void write(Slot slot) {
+        try {
+            if (slot.mdc != null) MDC.setContextMap(slot.mdc);
+            else MDC.clear();
+            render(slot);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private void render(Slot slot) {
+        try {
+            if (!slot.event.isEmpty()) {
+                slot.event.writeTo(log, slot.level);
+                return;
+            }
+            if (slot.deferred != null) {
+                slot.message = slot.deferred.get();
+                slot.args = null;
+            }
+            switch (slot.level) {
+                case DEBUG -> log.debug(slot.message, slot.args);
+                case WARN  -> log.warn(slot.message, slot.args);
+                case ERROR -> log.error(slot.message, slot.args);
+                default    -> log.info(slot.message, slot.args);
+            }
+        } catch (RuntimeException ex) {
+            writeFailures.record(ex);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(SHUTDOWN_TIMEOUT_MS);
+        drainIfStopped();
+    }
+
+    // ── Slot ──────────────────────────────────────────────────────────────────
+
+    /** Reusable event holder; {@link #sequence} is written last to publish the slot. */
+    private static final class Slot {
+        private volatile long sequence = -1;
+        private Level level;
+        private String message;
+        private Object[] args;
+        /** Message rendered on the consumer thread; takes precedence over {@link #message}. */
+        private Supplier<String> deferred;
+        private Map<String, String> mdc;
+        /** {@code @LogOn} event copied in place and rendered on the consumer thread; reused with the slot. */
+        private final LogEvent event = new LogEvent();
+
+        void clear() {
+            message = null;
+            args = null;
+            deferred = null;
+            mdc = null;
+            event.clear();
+        }
+    }
+}
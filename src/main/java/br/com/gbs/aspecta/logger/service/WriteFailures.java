@@ -0,0 +1,54 @@
+package br.com.gbs.aspecta.logger.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the events a sink could not write because the message supplier or the appender
+ * threw, so the worker or consumer thread survives and the loss shows up in
+ * {@code droppedEvents()}.
+ * <p>
+ * Failures are also reported at WARN on this class's own logger category, which is not the
+ * {@link AsyncLoggerService} category the events go to: the first one with its stack trace,
+ * then at most one per reporting interval with the running count.
+ */
+final class WriteFailures {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteFailures.class);
+
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final long reportIntervalNanos;
+    private final LongAdder failed = new LongAdder();
+    /** {@link System#nanoTime()} from which the next failure is reported. */
+    private final AtomicLong nextReport;
+
+    WriteFailures() {
+        this(REPORT_INTERVAL_NANOS);
+    }
+
+    WriteFailures(long reportIntervalNanos) {
+        this.reportIntervalNanos = reportIntervalNanos;
+        this.nextReport = new AtomicLong(System.nanoTime());
+    }
+
+    /** Counts a write that threw {@code ex}, and reports it unless one was reported recently. */
+    void record(RuntimeException ex) {
+        failed.increment();
+        long now = System.nanoTime();
+        long next = nextReport.get();
+        if (now - next >= 0 && nextReport.compareAndSet(next, now + reportIntervalNanos)) {
+            log.warn("Could not write a log event, {} lost since startup; further failures are reported at most "
+                    + "every {} s", failed.sum(), TimeUnit.NANOSECONDS.toSeconds(reportIntervalNanos), ex);
+        }
+    }
+
+    /** Events lost to a failing write since startup. */
+    long count() {
+        return failed.sum();
+    }
+}
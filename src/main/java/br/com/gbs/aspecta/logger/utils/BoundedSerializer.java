@@ -0,0 +1,185 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializes one value into a buffer capped by {@link SerializationLimits}, walking arrays,
+ * collections and maps element by element and stopping as soon as the budget is used up,
+ * so huge payloads cost no more than the configured limit.
+ * <p>
+ * Within the limits the output matches the former {@code Arrays.deepToString} /
+ * {@code Collection.toString} / {@code Map.toString} rendering, except that nested arrays
+ * inside collections are expanded too and {@code byte[]} is summarized as
+ * {@code byte[<length>]} when {@link SerializationLimits#summarizeBinary()} is set.
+ * Elements beyond {@code maxElements} are summarized as {@code ... (N more)}, containers
+ * beyond {@code maxDepth} and cyclic references as {@code [...]} or {@code {...}}.
+ * <p>
+ * Other objects are rendered with {@code toString()}, capped to the remaining budget, except
+ * when masking classes with {@code @Sensitive} properties: those are rendered property by
+ * property as {@code Type[name=value, ...]}, with the annotated values masked, so a
+ * hand-written {@code toString()} cannot leak them. Instances are single-use and not thread-safe.
+ */
+final class BoundedSerializer {
+
+    private final SerializationLimits limits;
+    private final boolean maskAnnotated;
+    private final StringBuilder out;
+    /** Containers on the current path, to cut cycles. */
+    private final List<Object> path = new ArrayList<>();
+    private boolean truncated;
+
+    BoundedSerializer(SerializationLimits limits) {
+        this(limits, false);
+    }
+
+    BoundedSerializer(SerializationLimits limits, boolean maskAnnotated) {
+        this.limits = limits;
+        this.maskAnnotated = maskAnnotated;
+        this.out = new StringBuilder(Math.min(limits.maxChars(), 256));
+    }
+
+    BoundedSerializer write(Object value) {
+        writeValue(value, 0);
+        if (out.length() > limits.maxChars()) {
+            out.setLength(limits.maxChars());
+            truncated = true;
+        }
+        return this;
+    }
+
+    /** Whether the output was cut because it exceeded {@code maxChars}. */
+    boolean truncated() {
+        return truncated;
+    }
+
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+
+    private boolean full() {
+        if (out.length() >= limits.maxChars()) truncated = true;
+        return truncated;
+    }
+
+    private void writeValue(Object value, int depth) {
+        if (full()) return;
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof CharSequence cs) {
+            int room = limits.maxChars() - out.length();
+            out.append(cs, 0, Math.min(cs.length(), room + 1));
+        } else if (value instanceof byte[] bytes && limits.summarizeBinary()) {
+            out.append("byte[").append(bytes.length).append(']');
+        } else if (value.getClass().isArray()) {
+            writeArray(value, depth);
+        } else if (value instanceof Collection<?> collection) {
+            writeCollection(collection, depth);
+        } else if (value instanceof Map<?, ?> map) {
+            writeMap(map, depth);
+        } else {
+            SerializationPlan plan = maskAnnotated ? SerializationPlan.of(value.getClass()) : null;
+            if (plan != null && plan.annotated) writeAnnotated(value, plan, depth);
+            else writeValue(String.valueOf(value), depth);
+        }
+    }
+
+    private void writeAnnotated(Object bean, SerializationPlan plan, int depth) {
+        out.append(bean.getClass().getSimpleName());
+        if (!enter(bean, depth, "[...]")) return;
+        out.append('[');
+        for (int i = 0; i < plan.names.length && !full(); i++) {
+            if (i > 0) out.append(", ");
+            out.append(plan.names[i]).append('=');
+            Object value = plan.valueOf(i, bean);
+            if (plan.annotations[i] != null) out.append(plan.mask(i, value));
+            else writeValue(value, depth + 1);
+        }
+        closeContainer(0, ']');
+        path.remove(path.size() - 1);
+    }
+
+    private void writeArray(Object array, int depth) {
+        if (!enter(array, depth, "[...]")) return;
+        int length = Array.getLength(array);
+        int shown = Math.min(length, limits.maxElements());
+        out.append('[');
+        for (int i = 0; i < shown && !full(); i++) {
+            if (i > 0) out.append(", ");
+            writeArrayElement(array, i, depth);
+        }
+        closeContainer(length - shown, ']');
+        path.remove(path.size() - 1);
+    }
+
+    private void writeArrayElement(Object array, int i, int depth) {
+        // Primitive elements are appended directly, without boxing
+        if (array instanceof Object[] a)       writeValue(a[i], depth + 1);
+        else if (array instanceof int[] a)     out.append(a[i]);
+        else if (array instanceof long[] a)    out.append(a[i]);
+        else if (array instanceof double[] a)  out.append(a[i]);
+        else if (array instanceof float[] a)   out.append(a[i]);
+        else if (array instanceof boolean[] a) out.append(a[i]);
+        else if (array instanceof byte[] a)    out.append(a[i]);
+        else if (array instanceof char[] a)    out.append(a[i]);
+        else                                   out.append(((short[]) array)[i]);
+    }
+
+    private void writeCollection(Collection<?> collection, int depth) {
+        if (!enter(collection, depth, "[...]")) return;
+        int size = collection.size();
+        int shown = 0;
+        out.append('[');
+        for (Iterator<?> it = collection.iterator(); it.hasNext() && shown < limits.maxElements() && !full(); shown++) {
+            if (shown > 0) out.append(", ");
+            writeValue(it.next(), depth + 1);
+        }
+        closeContainer(size - shown, ']');
+        path.remove(path.size() - 1);
+    }
+
+    private void writeMap(Map<?, ?> map, int depth) {
+        if (!enter(map, depth, "{...}")) return;
+        int size = map.size();
+        int shown = 0;
+        out.append('{');
+        for (Iterator<? extends Map.Entry<?, ?>> it = map.entrySet().iterator();
+             it.hasNext() && shown < limits.maxElements() && !full(); shown++) {
+            Map.Entry<?, ?> entry = it.next();
+            if (shown > 0) out.append(", ");
+            writeValue(entry.getKey(), depth + 1);
+            out.append('=');
+            writeValue(entry.getValue(), depth + 1);
+        }
+        closeContainer(size - shown, '}');
+        path.remove(path.size() - 1);
+    }
+
+    /** Pushes {@code container} on the path, or writes {@code placeholder} when too deep or cyclic. */
+    private boolean enter(Object container, int depth, String placeholder) {
+        if (depth >= limits.maxDepth() || onPath(container)) {
+            out.append(placeholder);
+            return false;
+        }
+        path.add(container);
+        return true;
+    }
+
+    private boolean onPath(Object container) {
+        for (Object o : path) {
+            if (o == container) return true;
+        }
+        return false;
+    }
+
+    private void closeContainer(int remaining, char close) {
+        if (full()) return;
+        if (remaining > 0) out.append(", ... (").append(remaining).append(" more)");
+        out.append(close);
+    }
+}
@@ -0,0 +1,266 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes one argument or return value as JSON with Jackson's streaming {@link JsonGenerator},
+ * masking sensitive properties and map keys as they are generated
+ * ({@code logger.serialization.format=json}).
+ * <p>
+ * Beans are walked through their {@link SerializationPlan}, so a property is masked because
+ * of its real name or its {@code @Sensitive} annotation, and not because its {@code toString()}
+ * happens to look like JSON; the result needs no regex pass afterwards. String values are not
+ * scanned for keys.
+ * <p>
+ * Honors the same {@link SerializationLimits} as {@link BoundedSerializer}: extra elements
+ * become {@code "... (N more)"}, containers beyond {@code maxDepth} and cyclic references
+ * {@code "[...]"} / {@code "{...}"}, and walking stops once {@code maxChars} is reached.
+ * Instances are single-use and not thread-safe.
+ */
+final class JsonArgumentSerializer {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final SerializationLimits limits;
+    /** {@code null} when masking is off. */
+    private final SensitiveKeyMatcher matcher;
+    private final BuilderWriter target;
+    private final StringBuilder out;
+    private JsonGenerator gen;
+    /** Containers on the current path, to cut cycles. */
+    private final List<Object> path = new ArrayList<>();
+    private boolean truncated;
+
+    JsonArgumentSerializer(SerializationLimits limits, SensitiveKeyMatcher matcher) {
+        this(limits, matcher, new BuilderWriter(Math.min(limits.maxChars(), 256)));
+    }
+
+    JsonArgumentSerializer(SerializationLimits limits, SensitiveKeyMatcher matcher, BuilderWriter target) {
+        this.limits = limits;
+        this.matcher = matcher;
+        this.target = target;
+        this.out = target.buffer;
+    }
+
+    /** Whether {@code value} is written as a JSON structure rather than as plain text. */
+    static boolean isStructured(Object value) {
+        return value != null && SerializationPlan.of(value.getClass()).kind != SerializationPlan.Kind.SCALAR;
+    }
+
+    JsonArgumentSerializer write(Object value) {
+        try (JsonGenerator generator = FACTORY.createGenerator(target)) {
+            gen = generator;
+            writeValue(value, 0);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        if (out.length() > limits.maxChars()) {
+            out.setLength(limits.maxChars());
+            truncated = true;
+        }
+        return this;
+    }
+
+    /** Whether the output was cut because it exceeded {@code maxChars}. */
+    boolean truncated() {
+        return truncated;
+    }
+
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+
+    private boolean full() {
+        if (out.length() + gen.getOutputBuffered() >= limits.maxChars()) truncated = true;
+        return truncated;
+    }
+
+    /** Always writes exactly one JSON value, so the generator's structure stays balanced. */
+    private void writeValue(Object value, int depth) throws IOException {
+        if (value == null || full()) {
+            gen.writeNull();
+            return;
+        }
+        if (value instanceof CharSequence cs) {
+            int room = limits.maxChars() - out.length() - gen.getOutputBuffered();
+            gen.writeString(cs.length() > room ? cs.subSequence(0, room + 1).toString() : cs.toString());
+        } else if (value instanceof Number n) {
+            writeNumber(n);
+        } else if (value instanceof Boolean b) {
+            gen.writeBoolean(b);
+        } else {
+            SerializationPlan plan = SerializationPlan.of(value.getClass());
+            switch (plan.kind) {
+                case ARRAY      -> writeArray(value, depth);
+                case COLLECTION -> writeCollection((Collection<?>) value, depth);
+                case MAP        -> writeMap((Map<?, ?>) value, depth);
+                case BEAN       -> writeBean(value, plan, depth);
+                default         -> writeValue(String.valueOf(value), depth);
+            }
+        }
+    }
+
+    private void writeNumber(Number n) throws IOException {
+        if (n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte) {
+            gen.writeNumber(n.longValue());
+        } else if (n instanceof Double || n instanceof Float) {
+            gen.writeNumber(n.doubleValue());
+        } else if (n instanceof BigDecimal bd) {
+            gen.writeNumber(bd);
+        } else if (n instanceof BigInteger bi) {
+            gen.writeNumber(bi);
+        } else {
+            gen.writeString(n.toString());
+        }
+    }
+
+    private void writeArray(Object array, int depth) throws IOException {
+        if (array instanceof byte[] bytes && limits.summarizeBinary()) {
+            gen.writeString("byte[" + bytes.length + "]");
+            return;
+        }
+        if (array instanceof char[] chars) {
+            writeValue(new String(chars), depth);
+            return;
+        }
+        if (!enter(array, depth, "[...]")) return;
+        int length = Array.getLength(array);
+        int shown = Math.min(length, limits.maxElements());
+        gen.writeStartArray();
+        int i = 0;
+        for (; i < shown && !full(); i++) {
+            writeArrayElement(array, i, depth);
+        }
+        moreElements(length - i);
+        gen.writeEndArray();
+        path.remove(path.size() - 1);
+    }
+
+    private void writeArrayElement(Object array, int i, int depth) throws IOException {
+        // Primitive elements are written directly, without boxing
+        if (array instanceof Object[] a)       writeValue(a[i], depth + 1);
+        else if (array instanceof int[] a)     gen.writeNumber(a[i]);
+        else if (array instanceof long[] a)    gen.writeNumber(a[i]);
+        else if (array instanceof double[] a)  gen.writeNumber(a[i]);
+        else if (array instanceof float[] a)   gen.writeNumber(a[i]);
+        else if (array instanceof boolean[] a) gen.writeBoolean(a[i]);
+        else if (array instanceof byte[] a)    gen.writeNumber(a[i]);
+        else                                   gen.writeNumber(((short[]) array)[i]);
+    }
+
+    private void writeCollection(Collection<?> collection, int depth) throws IOException {
+        if (!enter(collection, depth, "[...]")) return;
+        int size = collection.size();
+        int shown = 0;
+        gen.writeStartArray();
+        for (Iterator<?> it = collection.iterator(); it.hasNext() && shown < limits.maxElements() && !full(); shown++) {
+            writeValue(it.next(), depth + 1);
+        }
+        moreElements(size - shown);
+        gen.writeEndArray();
+        path.remove(path.size() - 1);
+    }
+
+    private void writeMap(Map<?, ?> map, int depth) throws IOException {
+        if (!enter(map, depth, "{...}")) return;
+        int size = map.size();
+        int shown = 0;
+        gen.writeStartObject();
+        for (Iterator<? extends Map.Entry<?, ?>> it = map.entrySet().iterator();
+             it.hasNext() && shown < limits.maxElements() && !full(); shown++) {
+            Map.Entry<?, ?> entry = it.next();
+            String key = String.valueOf(entry.getKey());
+            gen.writeFieldName(key);
+            if (matcher != null && matcher.isSensitiveKey(key)) gen.writeString(SensitiveKeyMatcher.MASK);
+            else writeValue(entry.getValue(), depth + 1);
+        }
+        if (size > shown && !full()) gen.writeStringField("...", "(" + (size - shown) + " more)");
+        gen.writeEndObject();
+        path.remove(path.size() - 1);
+    }
+
+    private void writeBean(Object bean, SerializationPlan plan, int depth) throws IOException {
+        if (!enter(bean, depth, "{...}")) return;
+        boolean[] sensitive = matcher != null ? plan.sensitive(matcher) : null;
+        gen.writeStartObject();
+        for (int i = 0; i < plan.names.length && !full(); i++) {
+            gen.writeFieldName(plan.names[i]);
+            if (matcher != null && plan.annotations[i] != null) {
+                String masked = plan.mask(i, plan.valueOf(i, bean));
+                if (masked != null) gen.writeString(masked);
+                else gen.writeNull();
+            } else if (sensitive != null && sensitive[i]) {
+                gen.writeString(SensitiveKeyMatcher.MASK);
+            } else {
+                writeValue(plan.valueOf(i, bean), depth + 1);
+            }
+        }
+        gen.writeEndObject();
+        path.remove(path.size() - 1);
+    }
+
+    private void moreElements(int remaining) throws IOException {
+        if (remaining > 0 && !full()) gen.writeString("... (" + remaining + " more)");
+    }
+
+    /** Pushes {@code container} on the path, or writes {@code placeholder} when too deep or cyclic. */
+    private boolean enter(Object container, int depth, String placeholder) throws IOException {
+        if (depth >= limits.maxDepth() || onPath(container)) {
+            gen.writeString(placeholder);
+            return false;
+        }
+        path.add(container);
+        return true;
+    }
+
+    private boolean onPath(Object container) {
+        for (Object o : path) {
+            if (o == container) return true;
+        }
+        return false;
+    }
+
+    /**
+     * {@link Writer} over a plain {@link StringBuilder}; unlike {@code StringWriter}, whose
+     * {@code StringBuffer} locks on every append, the generator's flushes take no lock.
+     */
+    static class BuilderWriter extends Writer {
+        final StringBuilder buffer;
+
+        BuilderWriter(int capacity) {
+            this.buffer = new StringBuilder(capacity);
+        }
+
+        @Override
+        public void write(char[] chars, int off, int len) {
+            buffer.append(chars, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            buffer.append(str, off, off + len);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() throws IOException {
+        }
+    }
+}
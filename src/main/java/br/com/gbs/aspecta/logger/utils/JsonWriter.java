@@ -0,0 +1,158 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Minimal, reusable writer for flat JSON objects of string and number fields, used
+ * by the structured output mode.
+ * <p>
+ * Strings are escaped in a single pass following RFC 8259: quotes, backslashes and
+ * every control character below {@code U+0020} (so newlines in arguments no longer
+ * break the line). Unescaped runs are copied in bulk, and numbers are appended
+ * without boxing.
+ * <p>
+ * Each thread reuses one instance obtained through {@link #local()}, so an event
+ * costs no intermediate strings or builders. The only allocation is the final
+ * {@link #toString()}, and even that is avoided by {@link #writeTo(Appendable)} and
+ * {@link #writeTo(ByteBuffer)}. Instances are not thread-safe.
+ */
+public final class JsonWriter {
+
+    /** Buffers that grew beyond this many chars are not retained between events. */
+    static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+    private static final int INITIAL_CAPACITY = 256;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<JsonWriter> LOCAL = ThreadLocal.withInitial(JsonWriter::new);
+
+    private StringBuilder buf = new StringBuilder(INITIAL_CAPACITY);
+    private boolean firstField = true;
+
+    JsonWriter() {
+    }
+
+    /** Returns this thread's writer, emptied and ready for a new object. */
+    public static JsonWriter local() {
+        return LOCAL.get().reset();
+    }
+
+    JsonWriter reset() {
+        if (buf.capacity() > MAX_RETAINED_CAPACITY) {
+            buf = new StringBuilder(INITIAL_CAPACITY);
+        } else {
+            buf.setLength(0);
+        }
+        firstField = true;
+        return this;
+    }
+
+    public JsonWriter beginObject() {
+        buf.append('{');
+        firstField = true;
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        buf.append('}');
+        return this;
+    }
+
+    /** Writes a string field; {@code null} is written as an empty string. */
+    public JsonWriter field(String name, CharSequence value) {
+        name(name);
+        buf.append('"');
+        if (value != null) escape(value, buf);
+        buf.append('"');
+        return this;
+    }
+
+    public JsonWriter field(String name, long value) {
+        name(name);
+        buf.append(value);
+        return this;
+    }
+
+    private void name(String name) {
+        if (!firstField) buf.append(',');
+        firstField = false;
+        buf.append('"');
+        escape(name, buf);
+        buf.append("\":");
+    }
+
+    /** Number of chars written so far. */
+    public int length() {
+        return buf.length();
+    }
+
+    /** Copies the written JSON to {@code out} without materializing a {@code String}. */
+    public void writeTo(Appendable out) {
+        try {
+            out.append(buf);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Encodes the written JSON as UTF-8 straight into {@code out}. Unpaired surrogates
+     * are written as {@code '?'}, like {@link String#getBytes}.
+     *
+     * @throws BufferOverflowException if {@code out} has not enough room
+     */
+    public void writeTo(ByteBuffer out) {
+        int len = buf.length();
+        for (int i = 0; i < len; i++) {
+            char c = buf.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | (c >> 6)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(buf.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, buf.charAt(++i));
+                out.put((byte) (0xF0 | (cp >> 18)));
+                out.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                out.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (cp & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                out.put((byte) '?');
+            } else {
+                out.put((byte) (0xE0 | (c >> 12)));
+                out.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return buf.toString();
+    }
+
+    /** Appends {@code value} escaped as the contents of a JSON string (without the quotes). */
+    static void escape(CharSequence value, StringBuilder out) {
+        int len = value.length();
+        int run = 0;
+        for (int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') continue;
+            if (i > run) out.append(value, run, i);
+            run = i + 1;
+            switch (c) {
+                case '"'  -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                case '\b' -> out.append("\\b");
+                case '\f' -> out.append("\\f");
+                default   -> out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+        }
+        if (len > run) out.append(value, run, len);
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aho-Corasick automaton over the sensitive keys, used by {@link SensitiveKeyMatcher} to find
+ * every key occurrence in one left-to-right pass before any rewrite is attempted. Inputs that
+ * contain no key are returned untouched without running the detailed scanners or regexes.
+ * <p>
+ * Matching is ASCII case-insensitive, like the masking rules. Every non-ASCII character is
+ * folded into a single symbol, so for keys containing such characters the result is a superset
+ * of the real occurrences, which is enough for a prefilter.
+ * <p>
+ * The transition table is fully expanded (a DFA), so scanning costs one array read per
+ * character regardless of the number of keys. Instances are immutable and thread-safe.
+ */
+final class KeywordPrefilter {
+
+    /** ASCII plus one symbol shared by all other characters. */
+    private static final int ALPHABET = 129;
+    private static final int OTHER = 128;
+
+    private final int[] delta;
+    /** Lengths of the keys ending at each state, including those reached through failure links. */
+    private final int[][] lengths;
+
+    private KeywordPrefilter(int[] delta, int[][] lengths) {
+        this.delta = delta;
+        this.lengths = lengths;
+    }
+
+    static KeywordPrefilter build(List<String> keys) {
+        int capacity = 1;
+        for (String key : keys) capacity += key.length();
+        int[] delta = new int[capacity * ALPHABET];
+        Arrays.fill(delta, -1);
+        int[][] lengths = new int[capacity][];
+        int states = 1;
+
+        for (String key : keys) {
+            if (key.isEmpty()) continue;
+            int state = 0;
+            for (int i = 0; i < key.length(); i++) {
+                int slot = state * ALPHABET + symbol(key.charAt(i));
+                if (delta[slot] < 0) delta[slot] = states++;
+                state = delta[slot];
+            }
+            lengths[state] = addLength(lengths[state], key.length());
+        }
+
+        // Breadth-first: complete the transitions and inherit the outputs of the failure state
+        int[] fail = new int[states];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int t = delta[c];
+            if (t < 0) {
+                delta[c] = 0;
+            } else {
+                fail[t] = 0;
+                queue.add(t);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int s = queue.poll();
+            int[] inherited = lengths[fail[s]];
+            if (inherited != null) {
+                for (int length : inherited) lengths[s] = addLength(lengths[s], length);
+            }
+            for (int c = 0; c < ALPHABET; c++) {
+                int slot = s * ALPHABET + c;
+                int t = delta[slot];
+                if (t < 0) {
+                    delta[slot] = delta[fail[s] * ALPHABET + c];
+                } else {
+                    fail[t] = delta[fail[s] * ALPHABET + c];
+                    queue.add(t);
+                }
+            }
+        }
+        return new KeywordPrefilter(Arrays.copyOf(delta, states * ALPHABET), Arrays.copyOf(lengths, states));
+    }
+
+    /**
+     * Start offsets of every key occurrence in {@code s}, ascending and distinct, or
+     * {@code null} when no key occurs. Allocates nothing in the latter case.
+     */
+    int[] find(CharSequence s) {
+        int[] found = null;
+        int count = 0;
+        int state = 0;
+        for (int i = 0; i < s.length(); i++) {
+            state = delta[state * ALPHABET + symbol(s.charAt(i))];
+            int[] ends = lengths[state];
+            if (ends == null) continue;
+            for (int length : ends) {
+                if (found == null) found = new int[8];
+                else if (count == found.length) found = Arrays.copyOf(found, count * 2);
+                found[count++] = i - length + 1;
+            }
+        }
+        if (found == null) return null;
+        Arrays.sort(found, 0, count);
+        int distinct = 1;
+        for (int i = 1; i < count; i++) {
+            if (found[i] != found[distinct - 1]) found[distinct++] = found[i];
+        }
+        return Arrays.copyOf(found, distinct);
+    }
+
+    private static int symbol(char c) {
+        if (c >= 128) return OTHER;
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    private static int[] addLength(int[] lengths, int length) {
+        if (lengths == null) return new int[]{length};
+        for (int l : lengths) {
+            if (l == length) return lengths;
+        }
+        int[] grown = Arrays.copyOf(lengths, lengths.length + 1);
+        grown[lengths.length] = length;
+        return grown;
+    }
+}
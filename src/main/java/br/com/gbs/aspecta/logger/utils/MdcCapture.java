@@ -0,0 +1,63 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import org.slf4j.MDC;
+import org.slf4j.spi.MDCAdapter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Captures the caller's MDC for an asynchronous log event according to
+ * {@code logger.async.mdc-capture}. The returned map is handed to
+ * {@link MDC#setContextMap(Map)} on the logging thread and is never modified; it is
+ * {@code null} when there is nothing to propagate.
+ * <p>
+ * In {@code shared} mode the snapshot is Logback's own read-only view of the MDC, which
+ * Logback keeps until the next {@code put}, {@code remove} or {@code clear}. Every event of
+ * a request logged between two MDC changes therefore shares one map and nothing is copied.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class MdcCapture {
+
+    private static final String LOGBACK_ADAPTER = "ch.qos.logback.classic.util.LogbackMDCAdapter";
+
+    private final LoggerProperties.MdcCaptureMode mode;
+    private final String[] keys;
+
+    MdcCapture(LoggerProperties.MdcCaptureMode mode, List<String> keys, MDCAdapter adapter) {
+        // Compared by name so that Logback classes are only loaded when Logback is the backend
+        boolean logback = adapter != null && adapter.getClass().getName().equals(LOGBACK_ADAPTER);
+        this.mode = mode == LoggerProperties.MdcCaptureMode.SHARED && !logback
+                ? LoggerProperties.MdcCaptureMode.FULL
+                : mode;
+        this.keys = keys.toArray(String[]::new);
+    }
+
+    public static MdcCapture of(LoggerProperties.Async cfg) {
+        return new MdcCapture(cfg.getMdcCapture(), cfg.getMdcKeys(), MDC.getMDCAdapter());
+    }
+
+    /** Snapshot of the current thread's MDC, or {@code null} when it has nothing to propagate. */
+    public Map<String, String> capture() {
+        return switch (mode) {
+            case KEYS   -> captureKeys();
+            case SHARED -> ((LogbackMDCAdapter) MDC.getMDCAdapter()).getPropertyMap();
+            default     -> MDC.getCopyOfContextMap();
+        };
+    }
+
+    private Map<String, String> captureKeys() {
+        Map<String, String> captured = null;
+        for (String key : keys) {
+            String value = MDC.get(key);
+            if (value == null) continue;
+            if (captured == null) captured = new HashMap<>(keys.length * 2);
+            captured.put(key, value);
+        }
+        return captured;
+    }
+}
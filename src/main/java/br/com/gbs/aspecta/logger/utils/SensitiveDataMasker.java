@@ -1,27 +1,37 @@
 package br.com.gbs.aspecta.logger.utils;
 
 import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.masking.MaskingPipeline;
 import br.com.gbs.aspecta.logger.masking.MaskingStrategy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Component
 public class SensitiveDataMasker {
 
+    /** Appended to values cut at {@code maxChars}. */
+    public static final String TRUNCATED = "... (truncated)";
+
     private final LoggerProperties loggerProperties;
-    private final List<MaskingStrategy> maskingStrategies;
+    private final MaskingPipeline maskingPipeline;
+
+    /** Compiled matchers per {@code excludeFromMask} combination; replaced when the key list changes. */
+    private volatile MatcherCache matcherCache = new MatcherCache(List.of());
+
+    /** Resolved {@code logger.serialization}; replaced when any limit changes. */
+    private volatile SerializationLimits defaultLimits = new SerializationLimits(0, 0, 0, false);
+
+    /** Shareability decisions; replaced when {@code logger.safe-types} changes. */
+    private volatile ShareableTypes shareableTypes = new ShareableTypes(List.of());
 
     public SensitiveDataMasker(LoggerProperties loggerProperties,
                                 @Autowired(required = false) List<MaskingStrategy> maskingStrategies) {
         this.loggerProperties = loggerProperties;
-        this.maskingStrategies = maskingStrategies != null ? maskingStrategies : List.of();
+        this.maskingPipeline = MaskingPipeline.of(maskingStrategies);
     }
 
     // ── Public API ────────────────────────────────────────────────────────────
@@ -31,16 +41,48 @@ public class SensitiveDataMasker {
     }
 
     public String sanitizeArgs(Object[] args, boolean applyMasking, List<String> excludeFromMask) {
+        return sanitizeArgs(args, applyMasking, excludeFromMask, defaultLimits());
+    }
+
+    /**
+     * Serializes each argument within {@code limits} and joins them with {@code ", "}, masking
+     * sensitive keys unless {@code applyMasking} is {@code false}. Values over the limits end
+     * with {@value #TRUNCATED}. With {@code logger.serialization.format=json}, arrays,
+     * collections, maps and beans are written as JSON and masked by property name as they are
+     * generated; other values are serialized as text.
+     */
+    public String sanitizeArgs(Object[] args, boolean applyMasking, List<String> excludeFromMask,
+                               SerializationLimits limits) {
+        boolean json = loggerProperties.getSerialization().getFormat() == LoggerProperties.SerializationFormat.JSON;
+        StringBuilder out = new StringBuilder();
         if (!applyMasking) {
-            String serialized = Arrays.stream(args)
-                    .map(this::toStringArg)
-                    .collect(Collectors.joining(", "));
-            return applyStrategies(serialized);
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0) out.append(", ");
+                if (json && JsonArgumentSerializer.isStructured(args[i])) {
+                    JsonArgumentSerializer serializer = new JsonArgumentSerializer(limits, null).write(args[i]);
+                    out.append(serializer);
+                    if (serializer.truncated()) out.append(TRUNCATED);
+                } else {
+                    BoundedSerializer serializer = new BoundedSerializer(limits).write(args[i]);
+                    out.append(serializer);
+                    if (serializer.truncated()) out.append(TRUNCATED);
+                }
+            }
+            return applyStrategies(out.toString());
+        }
+        SensitiveKeyMatcher matcher = matcherFor(excludeFromMask);
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) out.append(", ");
+            if (json && JsonArgumentSerializer.isStructured(args[i])) {
+                // Already masked while generated: only the strategies remain
+                JsonArgumentSerializer serializer = new JsonArgumentSerializer(limits, matcher).write(args[i]);
+                out.append(applyStrategies(serializer.toString()));
+                if (serializer.truncated()) out.append(TRUNCATED);
+            } else {
+                appendMasked(out, new BoundedSerializer(limits, true).write(args[i]), matcher);
+            }
         }
-        List<String> keys = effectiveKeys(excludeFromMask);
-        return Arrays.stream(args)
-                .map(arg -> applyJsonMasking(toStringArg(arg), keys))
-                .collect(Collectors.joining(", "));
+        return out.toString();
     }
 
     public String sanitizeResult(Object result, boolean applyMasking) {
@@ -51,6 +93,23 @@ public class SensitiveDataMasker {
         return sanitizeArgs(new Object[]{result}, applyMasking, excludeFromMask);
     }
 
+    public String sanitizeResult(Object result, boolean applyMasking, List<String> excludeFromMask,
+                                 SerializationLimits limits) {
+        return sanitizeArgs(new Object[]{result}, applyMasking, excludeFromMask, limits);
+    }
+
+    /** Limits from {@code logger.serialization}, for calls without per-method overrides. */
+    public SerializationLimits defaultLimits() {
+        LoggerProperties.Serialization cfg = loggerProperties.getSerialization();
+        SerializationLimits limits = defaultLimits;
+        if (limits.maxChars() != cfg.getMaxChars() || limits.maxElements() != cfg.getMaxElements()
+                || limits.maxDepth() != cfg.getMaxDepth() || limits.summarizeBinary() != cfg.isSummarizeBinary()) {
+            limits = SerializationLimits.of(cfg);
+            defaultLimits = limits;
+        }
+        return limits;
+    }
+
     /**
      * Sanitizes a plain-text message (e.g., an exception message) by applying
      * key-based masking in both JSON and plain-text formats, followed by any
@@ -63,73 +122,101 @@ public class SensitiveDataMasker {
     public String sanitizeMessage(String message, boolean applyMasking, List<String> excludeFromMask) {
         if (message == null) return null;
         if (!applyMasking) return message;
-        List<String> keys = effectiveKeys(excludeFromMask);
-        String result = applyJsonMasking(message, keys);
-        result = applyPlainTextMasking(result, keys);
-        return result;
+        SensitiveKeyMatcher matcher = matcherFor(excludeFromMask);
+        int[] offsets = matcher.keyOffsets(message);
+        String result = applyStrategies(matcher.maskJson(message, offsets));
+        // The key offsets still hold unless JSON masking or a strategy rewrote the message
+        return matcher.maskPlainText(result, result == message ? offsets : matcher.keyOffsets(result));
+    }
+
+    /**
+     * Whether every value can be serialized later on another thread with the same result,
+     * because it is immutable or its type is listed in {@code logger.safe-types}.
+     * Mutable payloads (arrays, collections, regular beans) must be serialized eagerly.
+     */
+    public boolean isShareable(Object... values) {
+        ShareableTypes types = shareableTypes();
+        for (Object value : values) {
+            if (!types.isShareable(value)) return false;
+        }
+        return true;
     }
 
     // ── Core masking ──────────────────────────────────────────────────────────
 
-    private String applyJsonMasking(String input, List<String> keys) {
-        String result = input;
-        for (String key : keys) {
-            String qk = Pattern.quote(key);
-            // "key": "string value"
-            result = result.replaceAll("(?i)(\"" + qk + "\"\\s*:\\s*\")[^\"]*\"", "$1***\"");
-            // "key": numeric
-            result = result.replaceAll("(?i)(\"" + qk + "\"\\s*:\\s*)(-?\\d+(?:\\.\\d+)?)", "$1\"***\"");
-        }
-        return applyStrategies(result);
+    private String applyJsonMasking(String input, SensitiveKeyMatcher matcher) {
+        // "key": "string value" and "key": numeric, for every key in a single pass
+        return applyStrategies(matcher.maskJson(input));
     }
 
-    private String applyPlainTextMasking(String input, List<String> keys) {
-        String result = input;
-        for (String key : keys) {
-            String qk = Pattern.quote(key);
-            // key=value or key: value (up to next whitespace)
-            result = result.replaceAll("(?i)\\b" + qk + "\\s*[=:]\\s*\\S+", key + "=***");
-            // key='value' or key="value"
-            result = result.replaceAll("(?i)\\b" + qk + "\\s*[=:]\\s*['\"][^'\"]*['\"]", key + "=***");
+    private void appendMasked(StringBuilder out, BoundedSerializer serializer, SensitiveKeyMatcher matcher) {
+        String text = serializer.toString();
+        if (!serializer.truncated()) {
+            out.append(applyJsonMasking(text, matcher));
+            return;
         }
-        return result;
+        // The cut may fall inside a JSON string value: close it so its key is still masked
+        String masked = matcher.maskJson(text + '"');
+        out.append(applyStrategies(masked.substring(0, masked.length() - 1))).append(TRUNCATED);
     }
 
     private String applyStrategies(String input) {
-        String result = input;
-        for (MaskingStrategy strategy : maskingStrategies) {
-            result = strategy.apply(result);
-        }
-        return result;
+        return maskingPipeline.apply(input);
     }
 
     // ── Argument serialization ────────────────────────────────────────────────
 
     /**
-     * Converts a method argument to its string representation, correctly handling
-     * arrays and collections that {@link String#valueOf} does not serialize properly.
+     * Converts a method argument to its string representation within the default limits,
+     * correctly handling arrays and collections that {@link String#valueOf} does not
+     * serialize properly.
      */
     String toStringArg(Object arg) {
-        if (arg == null)               return "null";
-        if (arg instanceof Object[]  a) return Arrays.deepToString(a);
-        if (arg instanceof int[]     a) return Arrays.toString(a);
-        if (arg instanceof long[]    a) return Arrays.toString(a);
-        if (arg instanceof double[]  a) return Arrays.toString(a);
-        if (arg instanceof float[]   a) return Arrays.toString(a);
-        if (arg instanceof boolean[] a) return Arrays.toString(a);
-        if (arg instanceof byte[]    a) return Arrays.toString(a);
-        if (arg instanceof char[]    a) return Arrays.toString(a);
-        if (arg instanceof short[]   a) return Arrays.toString(a);
-        if (arg instanceof Collection<?>) return arg.toString();
-        if (arg instanceof Map<?, ?>)     return arg.toString();
-        return String.valueOf(arg);
+        BoundedSerializer serializer = new BoundedSerializer(defaultLimits()).write(arg);
+        return serializer.truncated() ? serializer + TRUNCATED : serializer.toString();
     }
 
     // ── Helpers ───────────────────────────────────────────────────────────────
 
-    private List<String> effectiveKeys(List<String> excludeFromMask) {
-        return loggerProperties.getSensitiveKeys().stream()
+    private SensitiveKeyMatcher matcherFor(List<String> excludeFromMask) {
+        List<String> sensitiveKeys = loggerProperties.getSensitiveKeys();
+        MatcherCache cache = matcherCache;
+        if (cache.sensitiveKeys != sensitiveKeys) {
+            cache = new MatcherCache(sensitiveKeys);
+            matcherCache = cache;
+        }
+        return cache.get(excludeFromMask);
+    }
+
+    private ShareableTypes shareableTypes() {
+        List<String> safeTypes = loggerProperties.getSafeTypes();
+        ShareableTypes types = shareableTypes;
+        if (types.safeTypes() != safeTypes) {
+            types = new ShareableTypes(safeTypes);
+            shareableTypes = types;
+        }
+        return types;
+    }
+
+    private static List<String> effectiveKeys(List<String> sensitiveKeys, List<String> excludeFromMask) {
+        return sensitiveKeys.stream()
                 .filter(k -> !excludeFromMask.contains(k))
                 .toList();
     }
+
+    private static final class MatcherCache {
+        private final List<String> sensitiveKeys;
+        private final ConcurrentMap<List<String>, SensitiveKeyMatcher> byExclusion = new ConcurrentHashMap<>();
+
+        MatcherCache(List<String> sensitiveKeys) {
+            this.sensitiveKeys = sensitiveKeys;
+        }
+
+        SensitiveKeyMatcher get(List<String> excludeFromMask) {
+            SensitiveKeyMatcher matcher = byExclusion.get(excludeFromMask);
+            if (matcher != null) return matcher;
+            return byExclusion.computeIfAbsent(List.copyOf(excludeFromMask),
+                    ex -> SensitiveKeyMatcher.compile(effectiveKeys(sensitiveKeys, ex)));
+        }
+    }
 }
@@ -0,0 +1,365 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * Precompiled, single-pass matcher for a fixed set of sensitive keys.
+ * <p>
+ * Replaces the per-key {@code String.replaceAll} chain formerly used by
+ * {@link SensitiveDataMasker}. All keys are compiled once into an ASCII
+ * case-insensitive trie and the input is scanned left to right a single time,
+ * producing byte-for-byte the same output as the original regexes:
+ * <ul>
+ *   <li>JSON: {@code (?i)("key"\s*:\s*")[^"]*"} and {@code (?i)("key"\s*:\s*)(-?\d+(?:\.\d+)?)}</li>
+ *   <li>Plain text: {@code (?i)\bkey\s*[=:]\s*\S+} (the quoted variant that followed
+ *       it could never match again and is therefore not evaluated)</li>
+ * </ul>
+ * Key sets that cannot be handled by the scanner (keys with non-word characters)
+ * and the rare inputs where matches of different keys overlap — where the original
+ * result depended on the order of {@code logger.sensitive-keys} — are delegated to
+ * the same regexes, precompiled, so the output never changes.
+ * <p>
+ * Every input first goes through a {@link KeywordPrefilter} that finds all key occurrences
+ * in one pass: inputs without keys are returned as they are, and the scanners only examine
+ * the offsets where a key starts.
+ * <p>
+ * Instances are thread-safe. Besides the compiled keys, each one caches which bean properties
+ * of a class are sensitive, so that cache is dropped with the matcher when the keys change.
+ */
+final class SensitiveKeyMatcher {
+
+    static final String MASK = "***";
+
+    /** Marks offsets that were not prefiltered: every position is a candidate. */
+    private static final int[] UNFILTERED = {};
+
+    private final String[] keys;
+    private final KeywordPrefilter prefilter;
+    private final Node root;
+    private final boolean scannable;
+    private final Pattern[] jsonString;
+    private final Pattern[] jsonNumber;
+    private final Pattern[] plainText;
+    private final String[] plainReplacement;
+    /** {@link SerializationPlan#sensitive} of each class serialized with this matcher. */
+    private final ConcurrentMap<SerializationPlan, boolean[]> propertyFlags = new ConcurrentHashMap<>();
+
+    private SensitiveKeyMatcher(List<String> keys) {
+        int n = keys.size();
+        this.keys = keys.toArray(String[]::new);
+        this.jsonString = new Pattern[n];
+        this.jsonNumber = new Pattern[n];
+        this.plainText = new Pattern[n];
+        this.plainReplacement = new String[n];
+        this.root = new Node(0);
+        boolean allWordKeys = true;
+        for (int i = 0; i < n; i++) {
+            String key = keys.get(i);
+            String qk = Pattern.quote(key);
+            jsonString[i] = Pattern.compile("(?i)(\"" + qk + "\"\\s*:\\s*\")[^\"]*\"");
+            jsonNumber[i] = Pattern.compile("(?i)(\"" + qk + "\"\\s*:\\s*)(-?\\d+(?:\\.\\d+)?)");
+            plainText[i] = Pattern.compile("(?i)\\b" + qk + "\\s*[=:]\\s*\\S+");
+            plainReplacement[i] = key + "=" + MASK;
+            if (isWordKey(key)) {
+                root.insert(key);
+            } else {
+                allWordKeys = false;
+            }
+        }
+        this.scannable = allWordKeys;
+        // An empty key matches without any characters of its own, so it cannot be prefiltered
+        this.prefilter = keys.contains("") ? null : KeywordPrefilter.build(keys);
+    }
+
+    static SensitiveKeyMatcher compile(List<String> keys) {
+        return new SensitiveKeyMatcher(keys);
+    }
+
+    /** Sensitive properties of {@code plan}'s class, by index; looked up once per class. */
+    boolean[] propertyFlags(SerializationPlan plan) {
+        boolean[] flags = propertyFlags.get(plan);
+        return flags != null ? flags : propertyFlags.computeIfAbsent(plan, p -> p.match(this));
+    }
+
+    /**
+     * Whether a property or map key named {@code name} is sensitive: equal to one of the keys
+     * ignoring case, as the JSON rules compare them.
+     */
+    boolean isSensitiveKey(String name) {
+        if (!scannable) {
+            for (String key : keys) {
+                if (key.equalsIgnoreCase(name)) return true;
+            }
+            return false;
+        }
+        Node node = root;
+        for (int i = 0; i < name.length() && node != null; i++) {
+            node = node.child(name.charAt(i));
+        }
+        return node != null && node.literal != null;
+    }
+
+    // ── JSON ──────────────────────────────────────────────────────────────────
+
+    /**
+     * Start offsets of the key occurrences in {@code input}, ascending, for the {@code mask*}
+     * methods; {@code null} when no key occurs. Lets a caller that masks the same input
+     * several ways scan it only once.
+     */
+    int[] keyOffsets(String input) {
+        return prefilter != null ? prefilter.find(input) : UNFILTERED;
+    }
+
+    /** Masks {@code "key": "value"} and {@code "key": number} pairs. */
+    String maskJson(String input) {
+        return maskJson(input, keyOffsets(input));
+    }
+
+    /** Like {@link #maskJson(String)}, with the {@link #keyOffsets} of {@code input}. */
+    String maskJson(String input, int[] offsets) {
+        if (offsets == null) return input;
+        if (!scannable) return legacyJson(input);
+        StringBuilder out = null;
+        int last = 0;
+        int next = 0;
+        for (int offset : offsets) {
+            // Only a quote right before a key occurrence can open a sensitive key
+            int p = offset - 1;
+            if (p < next || input.charAt(p) != '"') continue;
+            next = p + 1;
+            int keyClose = quotedKeyEnd(input, p + 1);
+            if (keyClose >= 0) {
+                int v = skipSpaces(input, keyClose + 1);
+                if (v < input.length() && input.charAt(v) == ':') {
+                    v = skipSpaces(input, v + 1);
+                    if (v < input.length() && input.charAt(v) == '"') {
+                        int close = input.indexOf('"', v + 1);
+                        if (close >= 0) {
+                            if (quotedKeyEnd(input, v + 1) >= 0 || quotedKeyEnd(input, close + 1) >= 0) {
+                                return legacyJson(input);
+                            }
+                            if (out == null) out = new StringBuilder(input.length());
+                            out.append(input, last, v + 1).append(MASK).append('"');
+                            last = close + 1;
+                            next = close + 1;
+                        }
+                    } else {
+                        int end = numberEnd(input, v);
+                        if (end >= 0) {
+                            if (quotedKeyEnd(input, end) >= 0) {
+                                return legacyJson(input);
+                            }
+                            if (out == null) out = new StringBuilder(input.length() + 2);
+                            out.append(input, last, v).append('"').append(MASK).append('"');
+                            last = end;
+                            next = end;
+                        }
+                    }
+                }
+            }
+        }
+        if (out == null) return input;
+        return out.append(input, last, input.length()).toString();
+    }
+
+    // ── Plain text ────────────────────────────────────────────────────────────
+
+    /** Masks {@code key=value} and {@code key: value} occurrences up to the next whitespace. */
+    String maskPlainText(String input) {
+        return maskPlainText(input, keyOffsets(input));
+    }
+
+    /** Like {@link #maskPlainText(String)}, with the {@link #keyOffsets} of {@code input}. */
+    String maskPlainText(String input, int[] offsets) {
+        if (offsets == null) return input;
+        if (!scannable) return legacyPlainText(input);
+        StringBuilder out = null;
+        int last = 0;
+        int len = input.length();
+        int next = 0;
+        for (int p : offsets) {
+            // Keys only match at a word boundary
+            if (p < next || (p > 0 && isWordBefore(input, p))) continue;
+            Node node = walk(input, p);
+            int keyEnd = p + node.depth;
+            int end = node.literal != null ? plainValueEnd(input, keyEnd) : -1;
+            if (end < 0) continue;
+            if (overrunsInsideValue(input, keyEnd, end)) {
+                return legacyPlainText(input);
+            }
+            if (out == null) out = new StringBuilder(len);
+            out.append(input, last, p).append(node.literal).append('=').append(MASK);
+            last = end;
+            next = end;
+        }
+        if (out == null) return input;
+        return out.append(input, last, len).toString();
+    }
+
+    // ── Scanner helpers ───────────────────────────────────────────────────────
+
+    /**
+     * Returns the index of the closing quote when a key starts at {@code from}
+     * and is immediately followed by {@code "}, or {@code -1}.
+     */
+    private int quotedKeyEnd(String s, int from) {
+        Node node = root;
+        int i = from;
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            if (c == '"') return node.literal != null ? i : -1;
+            node = node.child(c);
+            if (node == null) return -1;
+            i++;
+        }
+        return -1;
+    }
+
+    /** Follows the trie from {@code from} as far as the input allows; never returns {@code null}. */
+    private Node walk(String s, int from) {
+        Node node = root;
+        for (int i = from; i < s.length(); i++) {
+            Node child = node.child(s.charAt(i));
+            if (child == null) break;
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Whether another key starts inside the masked value {@code (from, end)} and its own
+     * value runs past {@code end}. Only then did the original per-key chain depend on
+     * the order of the keys.
+     */
+    private boolean overrunsInsideValue(String s, int from, int end) {
+        for (int q = from; q < end; q++) {
+            if (!isWordChar(s.charAt(q)) || isWordBefore(s, q)) continue;
+            Node node = walk(s, q);
+            if (node.literal != null && plainValueEnd(s, q + node.depth) > end) return true;
+        }
+        return false;
+    }
+
+    /** {@code -?\d+(?:\.\d+)?} starting at {@code from}; returns the end index or {@code -1}. */
+    private static int numberEnd(String s, int from) {
+        int i = from;
+        int len = s.length();
+        if (i < len && s.charAt(i) == '-') i++;
+        int digits = skipDigits(s, i);
+        if (digits == i) return -1;
+        i = digits;
+        if (i + 1 < len && s.charAt(i) == '.' && isDigit(s.charAt(i + 1))) {
+            i = skipDigits(s, i + 1);
+        }
+        return i;
+    }
+
+    /** {@code \s*[=:]\s*\S+} starting at {@code from}; returns the end index or {@code -1}. */
+    private static int plainValueEnd(String s, int from) {
+        int i = skipSpaces(s, from);
+        if (i >= s.length() || (s.charAt(i) != '=' && s.charAt(i) != ':')) return -1;
+        i = skipSpaces(s, i + 1);
+        int start = i;
+        while (i < s.length() && !isSpace(s.charAt(i))) i++;
+        return i > start ? i : -1;
+    }
+
+    private static int skipSpaces(String s, int i) {
+        while (i < s.length() && isSpace(s.charAt(i))) i++;
+        return i;
+    }
+
+    private static int skipDigits(String s, int i) {
+        while (i < s.length() && isDigit(s.charAt(i))) i++;
+        return i;
+    }
+
+    /** Same character class as the regex {@code \s}. */
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWordChar(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * Left side of the regex {@code \b}: the previous code point is a word character,
+     * or a non-spacing mark attached to a letter or digit.
+     */
+    private static boolean isWordBefore(String s, int i) {
+        int ch = Character.codePointBefore(s, i);
+        if (isWordChar(ch)) return true;
+        if (Character.getType(ch) != Character.NON_SPACING_MARK) return false;
+        for (int x = i - 1; x >= 0; x--) {
+            int base = Character.codePointAt(s, x);
+            if (Character.isLetterOrDigit(base)) return true;
+            if (Character.getType(base) != Character.NON_SPACING_MARK) return false;
+        }
+        return false;
+    }
+
+    private static boolean isWordKey(String key) {
+        if (key.isEmpty()) return false;
+        for (int i = 0; i < key.length(); i++) {
+            if (!isWordChar(key.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    // ── Legacy fallback (precompiled, original semantics) ─────────────────────
+
+    private String legacyJson(String input) {
+        String result = input;
+        for (int i = 0; i < jsonString.length; i++) {
+            result = jsonString[i].matcher(result).replaceAll("$1***\"");
+            result = jsonNumber[i].matcher(result).replaceAll("$1\"***\"");
+        }
+        return result;
+    }
+
+    private String legacyPlainText(String input) {
+        String result = input;
+        for (int i = 0; i < plainText.length; i++) {
+            result = plainText[i].matcher(result).replaceAll(plainReplacement[i]);
+        }
+        return result;
+    }
+
+    // ── Trie ──────────────────────────────────────────────────────────────────
+
+    /** ASCII case-insensitive trie node over word characters. */
+    private static final class Node {
+        private final Node[] next = new Node[128];
+        private final int depth;
+        /** Replacement literal for plain-text masking; non-null when a key ends here. */
+        private String literal;
+
+        Node(int depth) {
+            this.depth = depth;
+        }
+
+        Node child(char c) {
+            if (c >= 128) return null;
+            return next[Character.toLowerCase(c)];
+        }
+
+        void insert(String key) {
+            Node node = this;
+            for (int i = 0; i < key.length(); i++) {
+                char c = Character.toLowerCase(key.charAt(i));
+                if (node.next[c] == null) node.next[c] = new Node(node.depth + 1);
+                node = node.next[c];
+            }
+            // Later duplicates win, as their replaceAll ran last in the original chain
+            node.literal = key;
+        }
+    }
+}
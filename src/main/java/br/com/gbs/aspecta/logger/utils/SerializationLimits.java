@@ -0,0 +1,29 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+
+/**
+ * Budget for serializing one argument or return value.
+ *
+ * @param maxChars        characters kept per value; the rest is cut and marked as truncated
+ * @param maxElements     elements written per array, collection or map
+ * @param maxDepth        nesting levels of arrays, collections and maps that are expanded
+ * @param summarizeBinary write {@code byte[]} as {@code byte[<length>]} instead of its contents
+ */
+public record SerializationLimits(int maxChars, int maxElements, int maxDepth, boolean summarizeBinary) {
+
+    public static SerializationLimits of(LoggerProperties.Serialization cfg) {
+        return new SerializationLimits(cfg.getMaxChars(), cfg.getMaxElements(), cfg.getMaxDepth(),
+                cfg.isSummarizeBinary());
+    }
+
+    /** Returns these limits with every non-negative argument replacing the corresponding limit. */
+    public SerializationLimits withOverrides(int maxChars, int maxElements, int maxDepth) {
+        if (maxChars < 0 && maxElements < 0 && maxDepth < 0) return this;
+        return new SerializationLimits(
+                maxChars >= 0 ? maxChars : this.maxChars,
+                maxElements >= 0 ? maxElements : this.maxElements,
+                maxDepth >= 0 ? maxDepth : this.maxDepth,
+                summarizeBinary);
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import br.com.gbs.aspecta.logger.anotations.Sensitive;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * How {@link JsonArgumentSerializer} writes instances of one class, resolved once per class
+ * and cached in a {@link ClassValue}.
+ * <p>
+ * Bean properties are discovered with Jackson's own introspection, so the logged names are
+ * those Jackson would serialize ({@code @JsonProperty} renames, {@code @JsonIgnore}, records).
+ * Properties annotated with {@link Sensitive} (on the field, record component or getter) are
+ * found in the same pass, so masking them costs one array lookup per property. Which other
+ * properties are sensitive depends on the configured keys and exclusions, and is computed once
+ * per class and {@link SensitiveKeyMatcher}, cached in the matcher until the keys change.
+ */
+final class SerializationPlan {
+
+    enum Kind { ARRAY, COLLECTION, MAP, BEAN, SCALAR }
+
+    private static final SerializationConfig INTROSPECTION = new ObjectMapper().getSerializationConfig();
+
+    private static final ClassValue<SerializationPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected SerializationPlan computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    final Kind kind;
+    final String[] names;
+    final AnnotatedMember[] accessors;
+    /** {@link Sensitive} of each property, {@code null} when not annotated. */
+    final Sensitive[] annotations;
+    /** Whether any property is annotated with {@link Sensitive}. */
+    final boolean annotated;
+
+    private SerializationPlan(Kind kind, String[] names, AnnotatedMember[] accessors, Sensitive[] annotations) {
+        this.kind = kind;
+        this.names = names;
+        this.accessors = accessors;
+        this.annotations = annotations;
+        boolean any = false;
+        if (annotations != null) {
+            for (Sensitive annotation : annotations) any |= annotation != null;
+        }
+        this.annotated = any;
+    }
+
+    static SerializationPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /** Which properties, by index, hold sensitive values under {@code matcher}. */
+    boolean[] sensitive(SensitiveKeyMatcher matcher) {
+        return matcher.propertyFlags(this);
+    }
+
+    /** Looks up every property name in {@code matcher}; see {@link #sensitive}. */
+    boolean[] match(SensitiveKeyMatcher matcher) {
+        boolean[] flags = new boolean[names.length];
+        for (int i = 0; i < names.length; i++) {
+            flags[i] = matcher.isSensitiveKey(names[i]);
+        }
+        return flags;
+    }
+
+    /**
+     * Reads property {@code i} of {@code bean}. A getter that throws yields its exception type
+     * as {@code "<Type>"} instead of failing the logged call.
+     */
+    Object valueOf(int i, Object bean) {
+        try {
+            return accessors[i].getValue(bean);
+        } catch (RuntimeException ex) {
+            // Jackson wraps what the getter threw; report the original type
+            Throwable cause = ex;
+            while (cause.getCause() != null) cause = cause.getCause();
+            return "<" + cause.getClass().getSimpleName() + ">";
+        }
+    }
+
+    /** Masks {@code value} of property {@code i} as its {@link Sensitive} annotation allows; keeps {@code null}. */
+    String mask(int i, Object value) {
+        if (value == null) return null;
+        String text = String.valueOf(value);
+        Sensitive annotation = annotations[i];
+        int first = Math.max(0, annotation.keepFirst());
+        int last = Math.max(0, annotation.keepLast());
+        if (first + last >= text.length()) return SensitiveKeyMatcher.MASK;
+        return text.substring(0, first) + SensitiveKeyMatcher.MASK + text.substring(text.length() - last);
+    }
+
+    private static SerializationPlan create(Class<?> type) {
+        if (type.isArray()) return new SerializationPlan(Kind.ARRAY, null, null, null);
+        if (Collection.class.isAssignableFrom(type)) return new SerializationPlan(Kind.COLLECTION, null, null, null);
+        if (Map.class.isAssignableFrom(type)) return new SerializationPlan(Kind.MAP, null, null, null);
+        if (!isBeanCandidate(type)) return scalar();
+        List<String> names = new ArrayList<>();
+        List<AnnotatedMember> accessors = new ArrayList<>();
+        List<Sensitive> annotations = new ArrayList<>();
+        try {
+            BeanDescription bean = INTROSPECTION.introspect(INTROSPECTION.constructType(type));
+            for (BeanPropertyDefinition property : bean.findProperties()) {
+                AnnotatedMember accessor = property.getAccessor();
+                if (accessor == null) continue;
+                accessor.fixAccess(true);
+                names.add(property.getName());
+                accessors.add(accessor);
+                annotations.add(sensitive(property, accessor));
+            }
+        } catch (RuntimeException ex) {
+            // Not introspectable (e.g. inaccessible module): fall back to toString()
+            return scalar();
+        }
+        if (names.isEmpty()) return scalar();
+        return new SerializationPlan(Kind.BEAN, names.toArray(String[]::new),
+                accessors.toArray(AnnotatedMember[]::new), annotations.toArray(Sensitive[]::new));
+    }
+
+    private static Sensitive sensitive(BeanPropertyDefinition property, AnnotatedMember accessor) {
+        Sensitive annotation = accessor.getAnnotation(Sensitive.class);
+        if (annotation == null && property.getField() != null) {
+            annotation = property.getField().getAnnotation(Sensitive.class);
+        }
+        return annotation;
+    }
+
+    private static SerializationPlan scalar() {
+        return new SerializationPlan(Kind.SCALAR, null, null, null);
+    }
+
+    /** JDK and enum types are written with {@code toString()}; everything else is walked as a bean. */
+    private static boolean isBeanCandidate(Class<?> type) {
+        if (Enum.class.isAssignableFrom(type) || CharSequence.class.isAssignableFrom(type)
+                || Number.class.isAssignableFrom(type) || type == Boolean.class || type == Character.class) {
+            return false;
+        }
+        String name = type.getName();
+        return !(name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+                || name.startsWith("sun.") || name.startsWith("com.sun."));
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Decides whether a value can be handed to the logging thread by reference, i.e. whether
+ * its string form cannot change between the call and the moment it is serialized.
+ * <p>
+ * Shareable types are primitives and their wrappers, {@code String}, a fixed set of
+ * immutable JDK value types, final {@code java.time} classes, enums, records whose
+ * component types are themselves shareable, and any type configured through
+ * {@code logger.safe-types} (including its subtypes). The decision is made once per class.
+ */
+final class ShareableTypes {
+
+    private static final Set<Class<?>> IMMUTABLE = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class,
+            Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, UUID.class, Locale.class, URI.class,
+            Currency.class, Class.class
+    );
+
+    private final List<String> safeTypes;
+    private final Set<String> safeTypeNames;
+    private final ClassValue<Boolean> decisions = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isShareableType(type, new HashSet<>());
+        }
+    };
+
+    ShareableTypes(List<String> safeTypes) {
+        this.safeTypes = safeTypes;
+        this.safeTypeNames = Set.copyOf(safeTypes);
+    }
+
+    List<String> safeTypes() {
+        return safeTypes;
+    }
+
+    boolean isShareable(Object value) {
+        return value == null || decisions.get(value.getClass());
+    }
+
+    private boolean isShareableType(Class<?> type, Set<Class<?>> visiting) {
+        if (type.isPrimitive() || IMMUTABLE.contains(type) || Enum.class.isAssignableFrom(type)) return true;
+        if ("java.time".equals(type.getPackageName()) && Modifier.isFinal(type.getModifiers())) return true;
+        if (isConfigured(type)) return true;
+        if (!type.isRecord()) return false;
+        // Self-referencing records are shareable when every other component is
+        if (!visiting.add(type)) return true;
+        for (RecordComponent component : type.getRecordComponents()) {
+            if (!isShareableType(component.getType(), visiting)) return false;
+        }
+        return true;
+    }
+
+    private boolean isConfigured(Class<?> type) {
+        if (safeTypeNames.isEmpty()) return false;
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            if (safeTypeNames.contains(c.getName())) return true;
+            for (Class<?> i : c.getInterfaces()) {
+                if (isConfigured(i)) return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.gbs.aspecta.metrics;
+
+import br.com.gbs.aspecta.logger.configurations.ConditionalOnAsyncMode;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.BatchMetrics;
+import br.com.gbs.aspecta.logger.interfaces.CallMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "logger.metrics", name = "enabled", matchIfMissing = true)
+public class AspectaMetricsConfig {
+
+    /** Uses the application's registry, or Micrometer's global one when none is defined. */
+    @Bean
+    @ConditionalOnMissingBean(CallMetrics.class)
+    public MicrometerCallMetrics aspectaCallMetrics(ObjectProvider<MeterRegistry> registry,
+                                                    LoggerProperties loggerProperties) {
+        return new MicrometerCallMetrics(registry.getIfAvailable(() -> Metrics.globalRegistry), loggerProperties);
+    }
+
+    /** Batch size and latency histograms of {@code logger.async.mode=batching}. */
+    @Bean
+    @ConditionalOnMissingBean(BatchMetrics.class)
+    @ConditionalOnAsyncMode(LoggerProperties.Mode.BATCHING)
+    public MicrometerBatchMetrics aspectaBatchMetrics(ObjectProvider<MeterRegistry> registry,
+                                                      LoggerProperties loggerProperties) {
+        return new MicrometerBatchMetrics(registry.getIfAvailable(() -> Metrics.globalRegistry), loggerProperties);
+    }
+}
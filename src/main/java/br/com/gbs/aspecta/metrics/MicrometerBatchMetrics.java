@@ -0,0 +1,42 @@
+package br.com.gbs.aspecta.metrics;
+
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.BatchMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BatchMetrics} backed by Micrometer: an {@value #BATCH_SIZE} distribution summary
+ * and an {@value #BATCH_LATENCY} timer, both published with percentile histogram buckets
+ * when {@code logger.metrics.percentile-histogram} is enabled.
+ */
+public class MicrometerBatchMetrics implements BatchMetrics {
+
+    static final String BATCH_SIZE = "aspecta.logger.batch.size";
+    static final String BATCH_LATENCY = "aspecta.logger.batch.latency";
+
+    private final DistributionSummary size;
+    private final Timer latency;
+
+    public MicrometerBatchMetrics(MeterRegistry registry, LoggerProperties loggerProperties) {
+        boolean histogram = loggerProperties.getMetrics().isPercentileHistogram();
+        this.size = DistributionSummary.builder(BATCH_SIZE)
+                .description("Events written per batch by the batching async logger")
+                .baseUnit("events")
+                .publishPercentileHistogram(histogram)
+                .register(registry);
+        this.latency = Timer.builder(BATCH_LATENCY)
+                .description("Time from the oldest event of a batch being published until the batch is written")
+                .publishPercentileHistogram(histogram)
+                .register(registry);
+    }
+
+    @Override
+    public void recordBatch(int size, long latencyNanos) {
+        this.size.record(size);
+        this.latency.record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.gbs.aspecta.metrics;
+
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.CallMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CallMetrics} backed by Micrometer.
+ * <p>
+ * Every {@code @LogOn} method gets an {@value #CALLS} timer tagged with {@code class},
+ * {@code method} and {@code outcome} ({@code success} / {@code error}), and an
+ * {@value #EXCEPTIONS} counter additionally tagged with the simple name of the exception.
+ * Both timers are registered when the method is first called and kept by its recorder;
+ * exception counters are cached per exception type.
+ */
+@RequiredArgsConstructor
+public class MicrometerCallMetrics implements CallMetrics {
+
+    static final String CALLS = "aspecta.calls";
+    static final String EXCEPTIONS = "aspecta.calls.exceptions";
+
+    private final MeterRegistry registry;
+    private final LoggerProperties loggerProperties;
+
+    @Override
+    public Recorder forMethod(String className, String methodName) {
+        Tags tags = Tags.of("class", className, "method", methodName);
+        return new MethodRecorder(tags, timer(tags, "success"), timer(tags, "error"));
+    }
+
+    private Timer timer(Tags tags, String outcome) {
+        return Timer.builder(CALLS)
+                .description("Duration of @LogOn method calls")
+                .tags(tags).tag("outcome", outcome)
+                .publishPercentileHistogram(loggerProperties.getMetrics().isPercentileHistogram())
+                .register(registry);
+    }
+
+    private final class MethodRecorder implements Recorder {
+
+        private final Tags tags;
+        private final Timer success;
+        private final Timer error;
+        private final ConcurrentMap<Class<?>, Counter> exceptions = new ConcurrentHashMap<>();
+
+        MethodRecorder(Tags tags, Timer success, Timer error) {
+            this.tags = tags;
+            this.success = success;
+            this.error = error;
+        }
+
+        @Override
+        public void recordSuccess(long durationNanos) {
+            success.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void recordFailure(long durationNanos, Throwable ex) {
+            error.record(durationNanos, TimeUnit.NANOSECONDS);
+            Counter counter = exceptions.get(ex.getClass());
+            if (counter == null) {
+                counter = exceptions.computeIfAbsent(ex.getClass(), type -> Counter.builder(EXCEPTIONS)
+                        .description("Exceptions thrown by @LogOn methods")
+                        .tags(tags).tag("exception", type.getSimpleName())
+                        .register(registry));
+            }
+            counter.increment();
+        }
+    }
+}
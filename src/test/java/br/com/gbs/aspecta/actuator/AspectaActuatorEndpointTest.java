@@ -1,6 +1,7 @@
 package br.com.gbs.aspecta.actuator;
 
 import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ class AspectaActuatorEndpointTest {
     @Mock private LoggerProperties.Async asyncCfg;
     @Mock private ThreadPoolTaskExecutor executor;
     @Mock private ThreadPoolExecutor threadPoolExecutor;
+    @Mock private AsyncLogger asyncLogger;
 
     private AspectaActuatorEndpoint endpoint;
 
@@ -33,6 +35,7 @@ class AspectaActuatorEndpointTest {
         when(asyncCfg.getCorePoolSize()).thenReturn(2);
         when(asyncCfg.getMaxPoolSize()).thenReturn(8);
         when(asyncCfg.getQueueCapacity()).thenReturn(500);
+        when(asyncCfg.getExecutor()).thenReturn(LoggerProperties.ExecutorType.PLATFORM);
         when(props.isEnabled()).thenReturn(true);
         when(props.getProjectName()).thenReturn("TEST");
         when(props.isEnableI18n()).thenReturn(true);
@@ -40,7 +43,7 @@ class AspectaActuatorEndpointTest {
         when(executor.getThreadPoolExecutor()).thenReturn(threadPoolExecutor);
         when(threadPoolExecutor.getQueue()).thenReturn(new LinkedBlockingQueue<>());
         when(executor.getActiveCount()).thenReturn(0);
-        endpoint = new AspectaActuatorEndpoint(props, executor);
+        endpoint = new AspectaActuatorEndpoint(props, executor, asyncLogger);
     }
 
     @Test
@@ -74,7 +77,8 @@ class AspectaActuatorEndpointTest {
     void whenAsyncStatsRequestedShouldContainPoolAndQueueFields() {
         @SuppressWarnings("unchecked")
         Map<String, Object> async = (Map<String, Object>) endpoint.info().get("async");
-        assertThat(async).containsKeys("corePoolSize", "maxPoolSize", "queueCapacity", "activeThreads", "queueSize", "queueUsagePct");
+        assertThat(async).containsKeys("corePoolSize", "maxPoolSize", "queueCapacity", "activeThreads", "queueSize", "queueUsagePct",
+                "overflowPolicy", "droppedEvents");
     }
 
     @Test
@@ -111,4 +115,31 @@ class AspectaActuatorEndpointTest {
         when(props.isStructuredOutput()).thenReturn(true);
         assertThat(endpoint.info()).containsEntry("structuredOutput", true);
     }
+
+    @Test
+    @DisplayName("Quando eventos descartados deve informar a contagem e a política de overflow")
+    void whenEventsDroppedShouldReportCountAndOverflowPolicy() {
+        when(asyncLogger.droppedEvents()).thenReturn(7L);
+        when(asyncCfg.getOverflowPolicy()).thenReturn(LoggerProperties.OverflowPolicy.DROP_NEWEST);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> async = (Map<String, Object>) endpoint.info().get("async");
+        assertThat(async).containsEntry("droppedEvents", 7L).containsEntry("overflowPolicy", "DROP_NEWEST");
+    }
+
+    @Test
+    @DisplayName("Quando política de overflow não definida deve informar DEFAULT")
+    void whenOverflowPolicyUnsetShouldReportDefault() {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> async = (Map<String, Object>) endpoint.info().get("async");
+        assertThat(async).containsEntry("overflowPolicy", "DEFAULT").containsEntry("droppedEvents", 0L);
+    }
+
+    @Test
+    @DisplayName("Quando executor virtual configurado deve informar o tipo de executor")
+    void whenVirtualExecutorConfiguredShouldReportExecutorType() {
+        when(asyncCfg.getExecutor()).thenReturn(LoggerProperties.ExecutorType.VIRTUAL);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> async = (Map<String, Object>) endpoint.info().get("async");
+        assertThat(async).containsEntry("executor", "VIRTUAL");
+    }
 }
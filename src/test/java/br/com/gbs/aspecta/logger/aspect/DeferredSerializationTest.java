@@ -0,0 +1,126 @@
+package br.com.gbs.aspecta.logger.aspect;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.anotations.LogOn;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
+import br.com.gbs.aspecta.logger.masking.MaskingStrategy;
+import br.com.gbs.aspecta.logger.providers.DefaultMessageProvider;
+import br.com.gbs.aspecta.logger.providers.DelegatingMessageProvider;
+import br.com.gbs.aspecta.logger.utils.SensitiveDataMasker;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("LoggerAspect - serialização diferida")
+class DeferredSerializationTest {
+
+    @Mock private AsyncLogger asyncLogger;
+    @Mock private ProceedingJoinPoint joinPoint;
+    @Mock private MethodSignature signature;
+
+    private final List<LogEvent> events = new ArrayList<>();
+    private LoggerProperties props;
+    private LoggerAspect aspect;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        props = new LoggerProperties();
+        props.setProjectName("TEST");
+        props.setEnableI18n(false);
+        props.setSensitiveKeys(List.of("password"));
+        props.setDeferredSerialization(true);
+        SensitiveDataMasker masker = new SensitiveDataMasker(props, (List<MaskingStrategy>) null);
+        DelegatingMessageProvider provider = new DelegatingMessageProvider(props, null, new DefaultMessageProvider(props));
+        aspect = new LoggerAspect(props, asyncLogger, provider, masker);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(Service.class.getMethod("call", Object.class));
+        when(joinPoint.getTarget()).thenReturn(new Service());
+        // The aspect reuses its event after the call, so keep what a queuing sink would keep
+        doAnswer(inv -> events.add(inv.<LogEvent>getArgument(0).copy())).when(asyncLogger).log(any());
+    }
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Quando args e retorno imutáveis deve adiar a renderização para o logger")
+    void whenImmutableArgsAndResultShouldDeferRenderingToLogger() throws Throwable {
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"alice"});
+        when(joinPoint.proceed()).thenReturn("done");
+        MDC.put("traceId", "t-1");
+
+        aspect.logClassAnnotatedMethods(joinPoint);
+
+        assertThat(events).allMatch(LogEvent::isDeferred);
+        List<String> lines = renderedLines(2);
+        assertThat(lines.get(0)).isEqualTo(
+                "[TEST][Service][traceId=t-1] Entrando no método: call() com | Args: alice");
+        assertThat(lines.get(1)).startsWith("[TEST][Service][traceId=t-1] Saindo do método: call() retornou | Retorno: done | ");
+        verify(asyncLogger, never()).logInfo(any(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Quando argumento mutável deve serializar na thread chamadora")
+    void whenMutableArgumentShouldSerializeOnCallerThread() throws Throwable {
+        List<String> mutable = new ArrayList<>(List.of("a"));
+        when(joinPoint.getArgs()).thenReturn(new Object[]{mutable});
+        when(joinPoint.proceed()).thenReturn("done");
+
+        aspect.logClassAnnotatedMethods(joinPoint);
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).isDeferred()).isFalse();
+        assertThat(events.get(0).getPayload()).isEqualTo("[a]");
+        assertThat(events.get(1).isDeferred()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Quando exceção lançada deve mascarar a mensagem ao renderizar de forma diferida")
+    void whenExceptionThrownShouldMaskMessageWhenRenderingDeferred() throws Throwable {
+        props.setStructuredOutput(true);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{1});
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("{\"password\":\"hunter2\"}"));
+
+        assertThatThrownBy(() -> aspect.logClassAnnotatedMethods(joinPoint))
+                .isInstanceOf(IllegalStateException.class);
+
+        String error = renderedLines(2).get(1);
+        assertThat(error).startsWith("{\"event\":\"error\"").contains("IllegalStateException");
+        assertThat(error).doesNotContain("hunter2");
+    }
+
+    private List<String> renderedLines(int expected) {
+        assertThat(events).hasSize(expected).allMatch(e -> e.getLevel() == LogLevel.INFO);
+        return events.stream().map(LogEvent::render).toList();
+    }
+
+    @LogOn
+    static class Service {
+        public Object call(Object in) { return in; }
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.gbs.aspecta.logger.aspect;
+
+import br.com.gbs.aspecta.logger.anotations.LogOn;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
+import br.com.gbs.aspecta.logger.masking.MaskingStrategy;
+import br.com.gbs.aspecta.logger.providers.DefaultMessageProvider;
+import br.com.gbs.aspecta.logger.providers.DelegatingMessageProvider;
+import br.com.gbs.aspecta.logger.utils.SensitiveDataMasker;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("LoggerAspect - precisão da duração")
+class DurationPrecisionTest {
+
+    private static final Pattern JSON_DURATIONS =
+            Pattern.compile("\"durationMs\":(\\d+)(?:,\"duration(Micros|Nanos)\":(\\d+))?");
+
+    private final List<String> lines = new ArrayList<>();
+    private final AsyncLogger asyncLogger = new AsyncLogger() {
+        @Override public void logDebug(String message, Object... args) { logInfo(message, args); }
+        @Override public void logWarn(String message, Object... args) { logInfo(message, args); }
+        @Override public void logError(String message, Object... args) { logInfo(message, args); }
+        @Override public void logInfo(String message, Object... args) {
+            lines.add(MessageFormatter.arrayFormat(message, args).getMessage());
+        }
+    };
+    @Mock private ProceedingJoinPoint joinPoint;
+    @Mock private MethodSignature signature;
+
+    private LoggerProperties props;
+    private LoggerAspect aspect;
+    private LogOn logOn;
+
+    @BeforeEach
+    void setUp() throws Throwable {
+        props = new LoggerProperties();
+        props.setProjectName("TEST");
+        props.setEnableI18n(false);
+        aspect = new LoggerAspect(props, asyncLogger,
+                new DelegatingMessageProvider(props, null, new DefaultMessageProvider(props)),
+                new SensitiveDataMasker(props, (List<MaskingStrategy>) null));
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(TimedService.class.getMethod("call"));
+        when(joinPoint.getTarget()).thenReturn(new TimedService());
+        when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        when(joinPoint.proceed()).thenAnswer(inv -> {
+            Thread.sleep(3);
+            return "ok";
+        });
+        logOn = TimedService.class.getMethod("call").getAnnotation(LogOn.class);
+    }
+
+    @Test
+    @DisplayName("Quando precisão padrão deve manter apenas durationMs na saída texto")
+    void whenDefaultPrecisionShouldKeepOnlyMillisInPlainOutput() throws Throwable {
+        aspect.logAnnotatedMethods(joinPoint, logOn);
+        assertThat(lastMessage()).matches(".*\\| \\d+ms").doesNotContain("us", "ns");
+    }
+
+    @Test
+    @DisplayName("Quando precisão em micros deve acrescentar microssegundos na saída texto")
+    void whenMicrosPrecisionShouldAppendMicrosInPlainOutput() throws Throwable {
+        props.setDurationPrecision(LoggerProperties.DurationPrecision.MICROS);
+        aspect.logAnnotatedMethods(joinPoint, logOn);
+        assertThat(lastMessage()).matches(".*\\| \\d+ms \\| \\d+us");
+    }
+
+    @Test
+    @DisplayName("Quando precisão em nanos e erro deve acrescentar nanossegundos na saída texto")
+    void whenNanosPrecisionAndErrorShouldAppendNanosInPlainOutput() throws Throwable {
+        props.setDurationPrecision(LoggerProperties.DurationPrecision.NANOS);
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+        assertThatThrownBy(() -> aspect.logAnnotatedMethods(joinPoint, logOn))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(lastMessage()).matches(".*boom \\| \\d+ms \\| \\d+ns");
+    }
+
+    @Test
+    @DisplayName("Quando saída estruturada em micros deve conter durationMs e durationMicros coerentes")
+    void whenStructuredMicrosShouldContainConsistentMillisAndMicros() throws Throwable {
+        props.setStructuredOutput(true);
+        props.setDurationPrecision(LoggerProperties.DurationPrecision.MICROS);
+        aspect.logAnnotatedMethods(joinPoint, logOn);
+        Matcher m = JSON_DURATIONS.matcher(lastMessage());
+        assertThat(m.find()).isTrue();
+        assertThat(m.group(2)).isEqualTo("Micros");
+        long millis = Long.parseLong(m.group(1));
+        long micros = Long.parseLong(m.group(3));
+        assertThat(micros).isGreaterThanOrEqualTo(3_000);
+        assertThat(micros / 1_000).isEqualTo(millis);
+    }
+
+    @Test
+    @DisplayName("Quando saída estruturada em nanos deve conter durationNanos")
+    void whenStructuredNanosShouldContainDurationNanos() throws Throwable {
+        props.setStructuredOutput(true);
+        props.setDurationPrecision(LoggerProperties.DurationPrecision.NANOS);
+        aspect.logAnnotatedMethods(joinPoint, logOn);
+        Matcher m = JSON_DURATIONS.matcher(lastMessage());
+        assertThat(m.find()).isTrue();
+        assertThat(m.group(2)).isEqualTo("Nanos");
+        assertThat(Long.parseLong(m.group(3))).isGreaterThanOrEqualTo(3_000_000);
+    }
+
+    private String lastMessage() {
+        assertThat(lines).isNotEmpty();
+        return lines.get(lines.size() - 1);
+    }
+
+    static class TimedService {
+        @LogOn
+        public String call() { return "ok"; }
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.gbs.aspecta.logger.aspect;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.anotations.LogOn;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
+import br.com.gbs.aspecta.logger.interfaces.CallMetrics;
+import br.com.gbs.aspecta.logger.masking.MaskingStrategy;
+import br.com.gbs.aspecta.logger.providers.DelegatingMessageProvider;
+import br.com.gbs.aspecta.logger.utils.SensitiveDataMasker;
+import br.com.gbs.aspecta.logger.utils.SerializationLimits;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("LoggerAspect - cache de descritores por join point")
+class JoinPointDescriptorCacheTest {
+
+    @Mock private AsyncLogger asyncLogger;
+    @Mock private DelegatingMessageProvider messageProvider;
+    @Mock private ProceedingJoinPoint joinPoint;
+    @Mock private MethodSignature signature;
+
+    private LoggerAspect aspect;
+
+    @BeforeEach
+    void setUp() throws Throwable {
+        LoggerProperties props = new LoggerProperties();
+        props.setProjectName("TEST");
+        SensitiveDataMasker masker = new SensitiveDataMasker(props, (List<MaskingStrategy>) null);
+        aspect = new LoggerAspect(props, asyncLogger, messageProvider, masker);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"a"});
+        when(joinPoint.proceed()).thenReturn("ok");
+        doCallRealMethod().when(asyncLogger).log(any());
+        doAnswer(inv -> inv.<StringBuilder>getArgument(0).append("entry")).when(messageProvider).appendEntry(any(), any(), any());
+        doAnswer(inv -> inv.<StringBuilder>getArgument(0).append("exit")).when(messageProvider).appendExit(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Quando descritor criado deve resolver os atributos do LogOn uma única vez")
+    void whenDescriptorCreatedShouldResolveLogOnAttributes() throws Exception {
+        Method method = AnnotatedService.class.getMethod("find");
+        JoinPointDescriptor d = JoinPointDescriptor.of(method, AnnotatedService.class,
+                AnnotatedService.class.getAnnotation(LogOn.class), new LoggerProperties(), CallMetrics.NOOP);
+        assertThat(d.className).isEqualTo("AnnotatedService");
+        assertThat(d.methodName).isEqualTo("find");
+        assertThat(d.level).isEqualTo(LogLevel.WARN);
+        assertThat(d.excludeFromMask).containsExactly("email");
+        assertThat(d.logStackTrace).isTrue();
+        assertThat(d.sampling).isSameAs(SamplingPolicy.ALWAYS);
+        assertThat(d.slowThresholdMs).isZero();
+        assertThat(d.metrics).isSameAs(CallMetrics.Recorder.NOOP);
+        assertThat(d.serializationLimits).isEqualTo(new SerializationLimits(10_000, 100, 8, true));
+    }
+
+    @Test
+    @DisplayName("Quando LogOn define limites de serialização devem prevalecer sobre os globais")
+    void whenLogOnDefinesSerializationLimitsShouldOverrideGlobals() throws Exception {
+        LoggerProperties props = new LoggerProperties();
+        props.getSerialization().setMaxElements(10);
+        Method method = LimitedService.class.getMethod("find");
+        JoinPointDescriptor d = JoinPointDescriptor.of(method, LimitedService.class,
+                method.getAnnotation(LogOn.class), props, CallMetrics.NOOP);
+        assertThat(d.serializationLimits).isEqualTo(new SerializationLimits(64, 10, 2, true));
+    }
+
+    @Test
+    @DisplayName("Quando classe sem LogOn deve retornar o marcador NOT_ANNOTATED")
+    void whenClassWithoutLogOnShouldReturnNotAnnotatedMarker() throws Exception {
+        Method method = PlainService.class.getMethod("find");
+        assertThat(JoinPointDescriptor.of(method, PlainService.class, null, new LoggerProperties(), CallMetrics.NOOP))
+                .isSameAs(JoinPointDescriptor.NOT_ANNOTATED);
+    }
+
+    @Test
+    @DisplayName("Quando chamado repetidamente deve reutilizar o descritor e logar com o nome da classe")
+    void whenCalledRepeatedlyShouldReuseDescriptorAndLogClassName() throws Throwable {
+        when(signature.getMethod()).thenReturn(AnnotatedService.class.getMethod("find"));
+        when(joinPoint.getTarget()).thenReturn(new AnnotatedService());
+
+        aspect.logClassAnnotatedMethods(joinPoint);
+        aspect.logClassAnnotatedMethods(joinPoint);
+
+        verify(asyncLogger, times(4)).logWarn(startsWith("[TEST][AnnotatedService] "));
+    }
+
+    @Test
+    @DisplayName("Quando classe alvo sem LogOn deve apenas prosseguir sem logar")
+    void whenTargetClassWithoutLogOnShouldOnlyProceed() throws Throwable {
+        when(signature.getMethod()).thenReturn(PlainService.class.getMethod("find"));
+        when(joinPoint.getTarget()).thenReturn(new PlainService());
+
+        assertThat(aspect.logClassAnnotatedMethods(joinPoint)).isEqualTo("ok");
+        assertThat(aspect.logClassAnnotatedMethods(joinPoint)).isEqualTo("ok");
+
+        verify(joinPoint, times(2)).proceed();
+        verify(asyncLogger, never()).log(any());
+    }
+
+    @LogOn(level = LogLevel.WARN, excludeFromMask = "email", logStackTrace = true)
+    static class AnnotatedService {
+        public String find() { return "ok"; }
+    }
+
+    static class LimitedService {
+        @LogOn(maxChars = 64, maxDepth = 2)
+        public String find() { return "ok"; }
+    }
+
+    static class PlainService {
+        public String find() { return "ok"; }
+    }
+}
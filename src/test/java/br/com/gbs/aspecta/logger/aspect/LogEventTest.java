@@ -0,0 +1,89 @@
+package br.com.gbs.aspecta.logger.aspect;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LogEvent")
+class LogEventTest {
+
+    private static final LogEvent.Renderer FIELDS = e -> String.join("|", e.getKind().label(), e.getLevel().name(),
+            e.getProject(), e.getClassName(), e.getMethod(), e.getPayload(), String.valueOf(e.getDetail()),
+            String.valueOf(e.getDurationNanos()), String.valueOf(e.getTraceId()));
+
+    @Test
+    @DisplayName("Quando liberado deve ser reutilizado pela mesma thread")
+    void whenReleasedShouldBeReusedBySameThread() {
+        LogEvent first = LogEvent.acquire();
+        first.fill(LogEvent.Kind.ENTRY, LogLevel.INFO, "P", "C", "m", -1, null, FIELDS).payload("a", null);
+        first.release();
+
+        LogEvent second = LogEvent.acquire();
+        try {
+            assertThat(second).isSameAs(first);
+            assertThat(second.isEmpty()).isTrue();
+            assertThat(second.getPayload()).isNull();
+        } finally {
+            second.release();
+        }
+    }
+
+    @Test
+    @DisplayName("Quando já em uso na thread deve entregar um evento novo")
+    void whenAlreadyInUseOnThreadShouldHandOutFreshEvent() {
+        LogEvent outer = LogEvent.acquire();
+        try {
+            LogEvent nested = LogEvent.acquire();
+            assertThat(nested).isNotSameAs(outer);
+            nested.release();
+            assertThat(LogEvent.acquire()).isNotSameAs(outer);
+        } finally {
+            outer.release();
+        }
+    }
+
+    @Test
+    @DisplayName("Quando copiado deve manter os campos mesmo após o original ser limpo")
+    void whenCopiedShouldKeepFieldsAfterOriginalIsCleared() {
+        LogEvent original = new LogEvent()
+                .fill(LogEvent.Kind.ERROR, LogLevel.WARN, "P", "C", "m", 42, "t-1", FIELDS)
+                .payload("IllegalStateException", "boom");
+
+        LogEvent copy = original.copy();
+        original.clear();
+
+        assertThat(original.isEmpty()).isTrue();
+        assertThat(copy.render()).isEqualTo("error|WARN|P|C|m|IllegalStateException|boom|42|t-1");
+    }
+
+    @Test
+    @DisplayName("Quando payload adiado deve calculá-lo uma única vez ao renderizar")
+    void whenPayloadDeferredShouldComputeItOnceWhenRendering() {
+        AtomicInteger calls = new AtomicInteger();
+        LogEvent event = new LogEvent()
+                .fill(LogEvent.Kind.EXIT, LogLevel.DEBUG, "P", "C", "m", 7, null, FIELDS)
+                .deferredPayload(() -> "result-" + calls.incrementAndGet(), null);
+        assertThat(event.isDeferred()).isTrue();
+        assertThat(event.getPayload()).isNull();
+
+        String first = event.render();
+
+        assertThat(first).isEqualTo("exit|DEBUG|P|C|m|result-1|null|7|null");
+        assertThat(event.render()).isEqualTo(first);
+        assertThat(event.isDeferred()).isFalse();
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Quando detalhe adiado deve calculá-lo junto com o payload")
+    void whenDetailDeferredShouldComputeItWithPayload() {
+        LogEvent event = new LogEvent()
+                .fill(LogEvent.Kind.ERROR, LogLevel.INFO, "P", "C", "m", 1, null, FIELDS)
+                .deferredPayload(() -> "Ex", () -> "masked");
+        assertThat(event.render()).isEqualTo("error|INFO|P|C|m|Ex|masked|1|null");
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.gbs.aspecta.logger.aspect;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.anotations.LogOn;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
+import br.com.gbs.aspecta.logger.interfaces.CallMetrics;
+import br.com.gbs.aspecta.logger.masking.MaskingStrategy;
+import br.com.gbs.aspecta.logger.providers.DelegatingMessageProvider;
+import br.com.gbs.aspecta.logger.utils.SensitiveDataMasker;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("LoggerAspect - métricas")
+class LoggerAspectMetricsTest {
+
+    @Mock private AsyncLogger asyncLogger;
+    @Mock private DelegatingMessageProvider messageProvider;
+    @Mock private ProceedingJoinPoint joinPoint;
+    @Mock private MethodSignature signature;
+    @Mock private CallMetrics callMetrics;
+    @Mock private CallMetrics.Recorder recorder;
+
+    private final Logger aspectLogger = (Logger) LoggerFactory.getLogger(LoggerAspect.class);
+    private LoggerAspect aspect;
+    private LogOn logOn;
+
+    @BeforeEach
+    void setUp() throws Throwable {
+        LoggerProperties props = new LoggerProperties();
+        props.setProjectName("TEST");
+        aspect = new LoggerAspect(props, asyncLogger, messageProvider,
+                new SensitiveDataMasker(props, (List<MaskingStrategy>) null));
+        aspect.setCallMetrics(callMetrics);
+        when(callMetrics.forMethod("MeteredService", "call")).thenReturn(recorder);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(MeteredService.class.getMethod("call"));
+        when(joinPoint.getTarget()).thenReturn(new MeteredService());
+        when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        logOn = MeteredService.class.getMethod("call").getAnnotation(LogOn.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aspectLogger.setLevel(null);
+    }
+
+    @Test
+    @DisplayName("Quando chamadas bem-sucedidas deve resolver o recorder uma vez e registrar cada chamada")
+    void whenCallsSucceedShouldResolveRecorderOnceAndRecordEachCall() throws Throwable {
+        when(joinPoint.proceed()).thenReturn("ok");
+
+        aspect.logAnnotatedMethods(joinPoint, logOn);
+        aspect.logAnnotatedMethods(joinPoint, logOn);
+
+        verify(callMetrics, times(1)).forMethod("MeteredService", "call");
+        verify(recorder, times(2)).recordSuccess(anyLong());
+    }
+
+    @Test
+    @DisplayName("Quando chamada lança exceção deve registrar falha com a exceção")
+    void whenCallThrowsShouldRecordFailureWithException() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThatThrownBy(() -> aspect.logAnnotatedMethods(joinPoint, logOn))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(recorder).recordFailure(anyLong(), isA(IllegalStateException.class));
+        verify(recorder, never()).recordSuccess(anyLong());
+    }
+
+    @Test
+    @DisplayName("Quando nível de log inativo deve registrar métricas sem logar")
+    void whenLogLevelInactiveShouldRecordMetricsWithoutLogging() throws Throwable {
+        aspectLogger.setLevel(Level.ERROR);
+        when(joinPoint.proceed()).thenReturn("ok").thenThrow(new IllegalArgumentException());
+
+        aspect.logAnnotatedMethods(joinPoint, logOn);
+        assertThatThrownBy(() -> aspect.logAnnotatedMethods(joinPoint, logOn))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(recorder).recordSuccess(anyLong());
+        verify(recorder).recordFailure(anyLong(), isA(IllegalArgumentException.class));
+        verifyNoInteractions(asyncLogger, messageProvider);
+    }
+
+    @Test
+    @DisplayName("Quando nível inativo e sem métricas deve apenas prosseguir")
+    void whenLogLevelInactiveWithoutMetricsShouldOnlyProceed() throws Throwable {
+        aspectLogger.setLevel(Level.ERROR);
+        aspect.setCallMetrics(CallMetrics.NOOP);
+        when(joinPoint.proceed()).thenReturn("ok");
+
+        aspect.logAnnotatedMethods(joinPoint, logOn);
+
+        verify(joinPoint, never()).getArgs();
+        verify(callMetrics, never()).forMethod(any(), eq("call"));
+    }
+
+    static class MeteredService {
+        @LogOn(level = LogLevel.INFO)
+        public String call() { return "ok"; }
+    }
+}
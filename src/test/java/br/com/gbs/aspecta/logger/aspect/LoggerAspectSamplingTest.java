@@ -0,0 +1,141 @@
+package br.com.gbs.aspecta.logger.aspect;
+
+import br.com.gbs.aspecta.logger.anotations.LogOn;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
+import br.com.gbs.aspecta.logger.masking.MaskingStrategy;
+import br.com.gbs.aspecta.logger.providers.DelegatingMessageProvider;
+import br.com.gbs.aspecta.logger.utils.SensitiveDataMasker;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("LoggerAspect - amostragem")
+class LoggerAspectSamplingTest {
+
+    @Mock private AsyncLogger asyncLogger;
+    @Mock private DelegatingMessageProvider messageProvider;
+    @Mock private ProceedingJoinPoint joinPoint;
+    @Mock private MethodSignature signature;
+
+    private LoggerProperties props;
+    private LoggerAspect aspect;
+
+    @BeforeEach
+    void setUp() throws Throwable {
+        props = new LoggerProperties();
+        props.setProjectName("TEST");
+        SensitiveDataMasker masker = new SensitiveDataMasker(props, (List<MaskingStrategy>) null);
+        aspect = new LoggerAspect(props, asyncLogger, messageProvider, masker);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getTarget()).thenReturn(new SampledService());
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"a"});
+        doCallRealMethod().when(asyncLogger).log(any());
+        doAnswer(inv -> inv.<StringBuilder>getArgument(0).append("entry")).when(messageProvider).appendEntry(any(), any(), any());
+        doAnswer(inv -> inv.<StringBuilder>getArgument(0).append("exit")).when(messageProvider).appendExit(any(), any(), any());
+        doAnswer(inv -> inv.<StringBuilder>getArgument(0).append("error")).when(messageProvider).appendError(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Quando chamada não amostrada deve prosseguir sem logar entrada nem saída")
+    void whenCallNotSampledShouldProceedWithoutLogging() throws Throwable {
+        LogOn logOn = annotation("never");
+        when(joinPoint.proceed()).thenReturn("ok");
+
+        assertThat(aspect.logAnnotatedMethods(joinPoint, logOn)).isEqualTo("ok");
+
+        verify(asyncLogger, never()).log(any());
+        verify(messageProvider, never()).appendEntry(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Quando chamada não amostrada lança exceção deve logar o erro")
+    void whenUnsampledCallThrowsShouldStillLogError() throws Throwable {
+        LogOn logOn = annotation("never");
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThatThrownBy(() -> aspect.logAnnotatedMethods(joinPoint, logOn))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(messageProvider).appendError(any(), any(), eq("IllegalStateException"), eq("boom"));
+        verify(messageProvider, never()).appendEntry(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Quando alwaysLogErrors desativado não deve logar erro de chamada não amostrada")
+    void whenAlwaysLogErrorsDisabledShouldNotLogUnsampledError() throws Throwable {
+        props.getSampling().setAlwaysLogErrors(false);
+        LogOn logOn = annotation("never");
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThatThrownBy(() -> aspect.logAnnotatedMethods(joinPoint, logOn))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(messageProvider, never()).appendError(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Quando chamada não amostrada é lenta deve logar apenas a saída")
+    void whenUnsampledCallIsSlowShouldLogOnlyExit() throws Throwable {
+        props.getSampling().setAlwaysLogSlowerThanMs(1);
+        LogOn logOn = annotation("never");
+        when(joinPoint.proceed()).thenAnswer(inv -> {
+            Thread.sleep(20);
+            return "ok";
+        });
+
+        aspect.logAnnotatedMethods(joinPoint, logOn);
+
+        verify(messageProvider).appendExit(any(), any(), eq("ok"));
+        verify(messageProvider, never()).appendEntry(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Quando limite por segundo configurado deve logar apenas as chamadas permitidas")
+    void whenMaxPerSecondConfiguredShouldLogOnlyPermittedCalls() throws Throwable {
+        LogOn logOn = annotation("limited");
+        when(joinPoint.proceed()).thenReturn("ok");
+
+        for (int i = 0; i < 10; i++) {
+            aspect.logAnnotatedMethods(joinPoint, logOn);
+        }
+
+        verify(messageProvider, times(2)).appendEntry(any(), any(), any());
+        verify(messageProvider, times(2)).appendExit(any(), any(), any());
+    }
+
+    private LogOn annotation(String method) throws NoSuchMethodException {
+        when(signature.getMethod()).thenReturn(SampledService.class.getMethod(method));
+        return SampledService.class.getMethod(method).getAnnotation(LogOn.class);
+    }
+
+    static class SampledService {
+        @LogOn(sampleRate = 0.0)
+        public String never() { return "ok"; }
+
+        @LogOn(maxPerSecond = 2)
+        public String limited() { return "ok"; }
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.gbs.aspecta.logger.aspect;
+
+import br.com.gbs.aspecta.logger.anotations.LogOn;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SamplingPolicy")
+class SamplingPolicyTest {
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Quando sem amostragem configurada deve retornar a política que loga tudo")
+    void whenSamplingNotConfiguredShouldReturnAlwaysPolicy() {
+        SamplingPolicy policy = SamplingPolicy.of(logOn("plain"), new LoggerProperties.Sampling());
+        assertThat(policy).isSameAs(SamplingPolicy.ALWAYS);
+        assertThat(policy.sample()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Quando LogOn define taxa e limite deve sobrepor os padrões globais")
+    void whenLogOnDefinesRateAndLimitShouldOverrideGlobalDefaults() {
+        LoggerProperties.Sampling defaults = new LoggerProperties.Sampling();
+        defaults.setRate(0.0);
+        assertThat(SamplingPolicy.of(logOn("overridden"), defaults)).isSameAs(SamplingPolicy.ALWAYS);
+        assertThat(SamplingPolicy.of(logOn("plain"), defaults).sample("any")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Quando mesmo traceId deve tomar a mesma decisão em todos os métodos")
+    void whenSameTraceIdShouldTakeSameDecisionAcrossMethods() {
+        SamplingPolicy first = new SamplingPolicy(0.3, 0, true, 0, System::nanoTime);
+        SamplingPolicy second = new SamplingPolicy(0.3, 0, true, 0, System::nanoTime);
+        SamplingPolicy lower = new SamplingPolicy(0.1, 0, true, 0, System::nanoTime);
+        int sampled = 0;
+        for (int i = 0; i < 10_000; i++) {
+            String traceId = "trace-" + i;
+            boolean decision = first.sample(traceId);
+            assertThat(second.sample(traceId)).isEqualTo(decision);
+            assertThat(first.sample(traceId)).isEqualTo(decision);
+            if (lower.sample(traceId)) assertThat(decision).isTrue();
+            if (decision) sampled++;
+        }
+        assertThat(sampled).isBetween(2_700, 3_300);
+    }
+
+    @Test
+    @DisplayName("Quando traceId no MDC deve usá-lo na decisão")
+    void whenTraceIdInMdcShouldUseItForDecision() {
+        SamplingPolicy policy = new SamplingPolicy(0.5, 0, true, 0, System::nanoTime);
+        MDC.put("traceId", "trace-7");
+        assertThat(policy.sample()).isEqualTo(policy.sample("trace-7"));
+    }
+
+    @Test
+    @DisplayName("Quando sem traceId deve amostrar aleatoriamente na proporção configurada")
+    void whenNoTraceIdShouldSampleRandomlyAtConfiguredRatio() {
+        SamplingPolicy none = new SamplingPolicy(0.0, 0, true, 0, System::nanoTime);
+        SamplingPolicy half = new SamplingPolicy(0.5, 0, true, 0, System::nanoTime);
+        int sampled = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(none.sample(null)).isFalse();
+            if (half.sample(" ")) sampled++;
+        }
+        assertThat(sampled).isBetween(4_500, 5_500);
+    }
+
+    @Test
+    @DisplayName("Quando limite por segundo atingido deve negar até o balde recarregar")
+    void whenRateLimitReachedShouldDenyUntilBucketRefills() {
+        AtomicLong now = new AtomicLong(1_000);
+        SamplingPolicy policy = new SamplingPolicy(1.0, 5, true, 0, now::get);
+        for (int i = 0; i < 5; i++) {
+            assertThat(policy.sample(null)).isTrue();
+        }
+        assertThat(policy.sample(null)).isFalse();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(policy.sample(null)).isTrue();
+        assertThat(policy.sample(null)).isFalse();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        for (int i = 0; i < 5; i++) {
+            assertThat(policy.sample(null)).isTrue();
+        }
+        assertThat(policy.sample(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Quando várias threads disputam o balde não deve exceder o limite")
+    void whenThreadsCompeteForBucketShouldNotExceedLimit() throws InterruptedException {
+        SamplingPolicy policy = new SamplingPolicy(1.0, 100, true, 0, () -> 42L);
+        AtomicInteger granted = new AtomicInteger();
+        int threads = 8;
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    if (policy.sample(null)) granted.incrementAndGet();
+                }
+                done.countDown();
+            }).start();
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(granted.get()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Quando o balde muda durante a aquisição deve tentar novamente com o novo estado")
+    void whenBucketChangesDuringAcquireShouldRetryWithNewState() {
+        SamplingPolicy[] holder = new SamplingPolicy[1];
+        AtomicInteger reads = new AtomicInteger();
+        // The second clock read (inside the first acquire) performs a competing acquire first
+        holder[0] = new SamplingPolicy(1.0, 2, true, 0, () -> {
+            if (reads.incrementAndGet() == 2) assertThat(holder[0].sample(null)).isTrue();
+            return 0L;
+        });
+        assertThat(holder[0].sample(null)).isTrue();
+        assertThat(holder[0].sample(null)).isFalse();
+        assertThat(reads.get()).isGreaterThan(3);
+    }
+
+    @Test
+    @DisplayName("Quando chamada não amostrada deve informar erros e lentidão conforme configurado")
+    void whenCallNotSampledShouldReportErrorsAndSlownessAsConfigured() {
+        SamplingPolicy policy = new SamplingPolicy(0.0, 0, false, 50, System::nanoTime);
+        assertThat(policy.logsErrorsAnyway()).isFalse();
+        assertThat(policy.isSlow(49)).isFalse();
+        assertThat(policy.isSlow(50)).isTrue();
+        assertThat(SamplingPolicy.ALWAYS.isSlow(Long.MAX_VALUE)).isFalse();
+        assertThat(SamplingPolicy.ALWAYS.logsErrorsAnyway()).isTrue();
+    }
+
+    private static LogOn logOn(String method) {
+        try {
+            return Annotated.class.getDeclaredMethod(method).getAnnotation(LogOn.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class Annotated {
+        @LogOn
+        void plain() { }
+
+        @LogOn(sampleRate = 1.0, maxPerSecond = 0)
+        void overridden() { }
+    }
+}
@@ -0,0 +1,167 @@
+package br.com.gbs.aspecta.logger.aspect;
+
+import br.com.gbs.aspecta.logger.anotations.LogOn;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
+import br.com.gbs.aspecta.logger.masking.MaskingStrategy;
+import br.com.gbs.aspecta.logger.providers.DelegatingMessageProvider;
+import br.com.gbs.aspecta.logger.utils.SensitiveDataMasker;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("LoggerAspect - limiar de chamadas lentas")
+class SlowThresholdTest {
+
+    @Mock private AsyncLogger asyncLogger;
+    @Mock private DelegatingMessageProvider messageProvider;
+    @Mock private ProceedingJoinPoint joinPoint;
+    @Mock private MethodSignature signature;
+
+    private LoggerProperties props;
+    private SensitiveDataMasker masker;
+    private LoggerAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        props = new LoggerProperties();
+        props.setProjectName("TEST");
+        masker = spy(new SensitiveDataMasker(props, (List<MaskingStrategy>) null));
+        aspect = new LoggerAspect(props, asyncLogger, messageProvider, masker);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getTarget()).thenReturn(new TimedService());
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"a"});
+        doCallRealMethod().when(asyncLogger).log(any());
+        doAnswer(inv -> inv.<StringBuilder>getArgument(0).append("entry")).when(messageProvider).appendEntry(any(), any(), any());
+        doAnswer(inv -> inv.<StringBuilder>getArgument(0).append("exit")).when(messageProvider).appendExit(any(), any(), any());
+        doAnswer(inv -> inv.<StringBuilder>getArgument(0).append("error")).when(messageProvider).appendError(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Quando chamada rápida deve prosseguir sem serializar nem logar")
+    void whenCallIsFastShouldProceedWithoutSerializingOrLogging() throws Throwable {
+        LogOn logOn = annotation("budgeted");
+        when(joinPoint.proceed()).thenReturn("ok");
+
+        assertThat(aspect.logAnnotatedMethods(joinPoint, logOn)).isEqualTo("ok");
+
+        verify(masker, never()).sanitizeArgs(any(), eq(true), any(), any());
+        verify(masker, never()).sanitizeResult(any(), eq(true), any(), any());
+        verify(messageProvider, never()).appendEntry(any(), any(), any());
+        verify(messageProvider, never()).appendExit(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Quando chamada excede o limiar deve logar entrada e depois saída")
+    void whenCallExceedsThresholdShouldLogEntryThenExit() throws Throwable {
+        LogOn logOn = annotation("budgeted");
+        when(joinPoint.proceed()).thenAnswer(inv -> {
+            Thread.sleep(30);
+            return "ok";
+        });
+
+        aspect.logAnnotatedMethods(joinPoint, logOn);
+
+        InOrder order = inOrder(messageProvider);
+        order.verify(messageProvider).appendEntry(any(), any(), eq("a"));
+        order.verify(messageProvider).appendExit(any(), any(), eq("ok"));
+    }
+
+    @Test
+    @DisplayName("Quando chamada lenta altera argumento mutável deve logar a entrada com o valor recebido")
+    void whenSlowCallMutatesMutableArgumentShouldLogEntryWithValueAsPassed() throws Throwable {
+        LogOn logOn = annotation("budgeted");
+        List<String> items = new ArrayList<>(List.of("before"));
+        when(joinPoint.getArgs()).thenReturn(new Object[]{items});
+        when(joinPoint.proceed()).thenAnswer(inv -> {
+            items.set(0, "after");
+            Thread.sleep(30);
+            return "ok";
+        });
+
+        aspect.logAnnotatedMethods(joinPoint, logOn);
+
+        verify(messageProvider).appendEntry(any(), any(), argThat(args -> args.contains("before") && !args.contains("after")));
+    }
+
+    @Test
+    @DisplayName("Quando chamada rápida lança exceção deve logar entrada e erro")
+    void whenFastCallThrowsShouldLogEntryAndError() throws Throwable {
+        LogOn logOn = annotation("budgeted");
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThatThrownBy(() -> aspect.logAnnotatedMethods(joinPoint, logOn))
+                .isInstanceOf(IllegalStateException.class);
+
+        InOrder order = inOrder(messageProvider);
+        order.verify(messageProvider).appendEntry(any(), any(), eq("a"));
+        order.verify(messageProvider).appendError(any(), any(), eq("IllegalStateException"), eq("boom"));
+    }
+
+    @Test
+    @DisplayName("Quando limiar global definido deve aplicar aos métodos sem limiar próprio")
+    void whenGlobalThresholdSetShouldApplyToMethodsWithoutOwnThreshold() throws Throwable {
+        props.setSlowThresholdMs(60_000);
+        LogOn logOn = annotation("inherited");
+        when(joinPoint.proceed()).thenReturn("ok");
+
+        aspect.logAnnotatedMethods(joinPoint, logOn);
+
+        verify(messageProvider, never()).appendEntry(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Quando LogOn define limiar zero deve logar todas as chamadas apesar do global")
+    void whenLogOnSetsZeroThresholdShouldLogEveryCallDespiteGlobal() throws Throwable {
+        props.setSlowThresholdMs(60_000);
+        LogOn logOn = annotation("always");
+        when(joinPoint.proceed()).thenReturn("ok");
+
+        aspect.logAnnotatedMethods(joinPoint, logOn);
+
+        verify(messageProvider).appendEntry(any(), any(), eq("a"));
+        verify(messageProvider).appendExit(any(), any(), eq("ok"));
+    }
+
+    private LogOn annotation(String method) throws NoSuchMethodException {
+        when(signature.getMethod()).thenReturn(TimedService.class.getMethod(method));
+        return TimedService.class.getMethod(method).getAnnotation(LogOn.class);
+    }
+
+    static class TimedService {
+        @LogOn(slowThresholdMs = 10)
+        public String budgeted() { return "ok"; }
+
+        @LogOn
+        public String inherited() { return "ok"; }
+
+        @LogOn(slowThresholdMs = 0)
+        public String always() { return "ok"; }
+    }
+}
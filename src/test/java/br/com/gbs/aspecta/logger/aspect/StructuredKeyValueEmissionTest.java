@@ -0,0 +1,168 @@
+package br.com.gbs.aspecta.logger.aspect;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.anotations.LogOn;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.masking.MaskingStrategy;
+import br.com.gbs.aspecta.logger.providers.DefaultMessageProvider;
+import br.com.gbs.aspecta.logger.providers.DelegatingMessageProvider;
+import br.com.gbs.aspecta.logger.service.AsyncLoggerService;
+import br.com.gbs.aspecta.logger.service.OverflowPolicyHandler;
+import br.com.gbs.aspecta.logger.utils.SensitiveDataMasker;
+import br.com.gbs.aspecta.util.MemoryAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.event.KeyValuePair;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("LoggerAspect - emissão estruturada em key-value")
+class StructuredKeyValueEmissionTest {
+
+    private LoggerProperties props;
+    private LogEventRenderer renderer;
+    private Logger logger;
+    private MemoryAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        props = new LoggerProperties();
+        props.setProjectName("TEST");
+        props.setEnableI18n(false);
+        props.setStructuredOutput(true);
+        props.setStructuredEmission(LoggerProperties.StructuredEmission.KEY_VALUE);
+        renderer = new LogEventRenderer(props,
+                new DelegatingMessageProvider(props, null, new DefaultMessageProvider(props)));
+        logger = (Logger) LoggerFactory.getLogger(AsyncLoggerService.class);
+        logger.setLevel(Level.ALL);
+        appender = new MemoryAppender();
+        appender.setContext((LoggerContext) LoggerFactory.getILoggerFactory());
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        appender.detachFrom(logger);
+        logger.setLevel(null);
+        MDC.clear();
+    }
+
+    private ILoggingEvent write(LogEvent.Kind kind, String payload, String detail, long durationNanos, String traceId) {
+        new LogEvent().fill(kind, LogLevel.INFO, "TEST", "Svc", "find", durationNanos, traceId, renderer)
+                .payload(payload, detail)
+                .writeTo(logger, org.slf4j.event.Level.INFO);
+        List<ILoggingEvent> events = appender.getEvents();
+        return events.get(events.size() - 1);
+    }
+
+    private static Map<String, Object> keyValues(ILoggingEvent event) {
+        Map<String, Object> pairs = new LinkedHashMap<>();
+        for (KeyValuePair pair : event.getKeyValuePairs()) pairs.put(pair.key, pair.value);
+        return pairs;
+    }
+
+    @Test
+    @DisplayName("Quando entrada deve emitir os campos como pares key-value e o evento como mensagem")
+    void whenEntryShouldEmitFieldsAsKeyValuePairsAndEventAsMessage() {
+        ILoggingEvent event = write(LogEvent.Kind.ENTRY, "[\"a\"]", null, -1, "t-1");
+
+        assertThat(event.getFormattedMessage()).isEqualTo("entry");
+        assertThat(keyValues(event)).containsExactly(
+                entry("event", "entry"), entry("project", "TEST"), entry("class", "Svc"),
+                entry("method", "find"), entry("args", "[\"a\"]"), entry("traceId", "t-1"));
+    }
+
+    @Test
+    @DisplayName("Quando saída em micros deve emitir durações numéricas sem traceId em branco")
+    void whenExitInMicrosShouldEmitNumericDurationsWithoutBlankTraceId() {
+        props.setDurationPrecision(LoggerProperties.DurationPrecision.MICROS);
+        ILoggingEvent event = write(LogEvent.Kind.EXIT, "ok", null, TimeUnit.MICROSECONDS.toNanos(12_345), " ");
+
+        assertThat(keyValues(event)).containsExactly(
+                entry("event", "exit"), entry("project", "TEST"), entry("class", "Svc"), entry("method", "find"),
+                entry("result", "ok"), entry("durationMs", 12L), entry("durationMicros", 12_345L));
+    }
+
+    @Test
+    @DisplayName("Quando erro em nanos deve emitir exceção, mensagem e durationNanos")
+    void whenErrorInNanosShouldEmitExceptionMessageAndDurationNanos() {
+        props.setDurationPrecision(LoggerProperties.DurationPrecision.NANOS);
+        ILoggingEvent event = write(LogEvent.Kind.ERROR, "IllegalStateException", "boom", 1_500_000, null);
+
+        assertThat(event.getFormattedMessage()).isEqualTo("error");
+        assertThat(keyValues(event)).containsEntry("exception", "IllegalStateException")
+                .containsEntry("message", "boom")
+                .containsEntry("durationMs", 1L)
+                .containsEntry("durationNanos", 1_500_000L)
+                .doesNotContainKey("traceId");
+    }
+
+    @Test
+    @DisplayName("Quando emissão em mensagem deve logar o JSON sem pares key-value")
+    void whenMessageEmissionShouldLogJsonWithoutKeyValuePairs() {
+        props.setStructuredEmission(LoggerProperties.StructuredEmission.MESSAGE);
+        ILoggingEvent event = write(LogEvent.Kind.ENTRY, "x", null, -1, null);
+
+        assertThat(event.getFormattedMessage()).startsWith("{\"event\":\"entry\"");
+        assertThat(event.getKeyValuePairs()).isNullOrEmpty();
+    }
+
+    @Test
+    @DisplayName("Quando saída estruturada desligada deve ignorar a emissão key-value")
+    void whenStructuredOutputOffShouldIgnoreKeyValueEmission() {
+        props.setStructuredOutput(false);
+        ILoggingEvent event = write(LogEvent.Kind.ENTRY, "x", null, -1, null);
+
+        assertThat(event.getFormattedMessage()).isEqualTo("[TEST][Svc] Entrando no método: find() com | Args: x");
+        assertThat(event.getKeyValuePairs()).isNullOrEmpty();
+    }
+
+    @Test
+    @DisplayName("Quando chamada anotada deve chegar ao backend como pares key-value")
+    void whenAnnotatedCallShouldReachBackendAsKeyValuePairs() throws Throwable {
+        LoggerAspect aspect = new LoggerAspect(props,
+                new AsyncLoggerService(Runnable::run, new OverflowPolicyHandler(props.getAsync())),
+                new DelegatingMessageProvider(props, null, new DefaultMessageProvider(props)),
+                new SensitiveDataMasker(props, (List<MaskingStrategy>) null));
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(Service.class.getMethod("find", String.class));
+        when(joinPoint.getTarget()).thenReturn(new Service());
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"order-42"});
+        when(joinPoint.proceed()).thenReturn("found");
+        MDC.put("traceId", "t-9");
+
+        aspect.logAnnotatedMethods(joinPoint, Service.class.getMethod("find", String.class).getAnnotation(LogOn.class));
+
+        assertThat(appender.getEvents()).extracting(ILoggingEvent::getFormattedMessage).containsExactly("entry", "exit");
+        assertThat(keyValues(appender.getEvents().get(1)))
+                .containsEntry("result", "found")
+                .containsEntry("traceId", "t-9")
+                .containsKey("durationMs");
+    }
+
+    static class Service {
+        @LogOn
+        public String find(String id) { return id; }
+    }
+}
@@ -1,10 +1,8 @@
 package br.com.gbs.aspecta.logger.aspect;
 
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
 import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
-import br.com.gbs.aspecta.logger.interfaces.AsyncLogger;
-import br.com.gbs.aspecta.logger.masking.MaskingStrategy;
 import br.com.gbs.aspecta.logger.providers.DelegatingMessageProvider;
-import br.com.gbs.aspecta.logger.utils.SensitiveDataMasker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,7 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -20,26 +18,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("LoggerAspect - saída estruturada JSON")
 class StructuredLoggingTest {
 
-    @Mock private AsyncLogger asyncLogger;
     @Mock private DelegatingMessageProvider messageProvider;
 
-    private LoggerProperties props;
-    private SensitiveDataMasker masker;
-    private LoggerAspect aspect;
+    private LogEventRenderer renderer;
 
     @BeforeEach
     void setUp() {
-        props = new LoggerProperties();
-        props.setSensitiveKeys(List.of("password", "token"));
+        LoggerProperties props = new LoggerProperties();
         props.setStructuredOutput(true);
         props.setProjectName("TEST");
-        masker = new SensitiveDataMasker(props, (List<MaskingStrategy>) null);
-        aspect = new LoggerAspect(props, asyncLogger, messageProvider, masker);
+        renderer = new LogEventRenderer(props, messageProvider);
     }
 
     @Test
     @DisplayName("Quando evento de entrada deve conter os campos esperados no JSON")
-    void whenEntryEventShouldContainExpectedFieldsInJson() throws Exception {
+    void whenEntryEventShouldContainExpectedFieldsInJson() {
         String json = invokeJsonBuilder("entry", "proj", "Svc", "doThing", "arg1", null, -1, null);
         assertThat(json).startsWith("{");
         assertThat(json).endsWith("}");
@@ -53,7 +46,7 @@ class StructuredLoggingTest {
 
     @Test
     @DisplayName("Quando evento de saída deve conter durationMs no JSON")
-    void whenExitEventShouldContainDurationMsInJson() throws Exception {
+    void whenExitEventShouldContainDurationMsInJson() {
         String json = invokeJsonBuilder("exit", "p", "C", "m", "result-val", null, 42L, null);
         assertThat(json).contains("\"event\":\"exit\"");
         assertThat(json).contains("\"result\":\"result-val\"");
@@ -62,7 +55,7 @@ class StructuredLoggingTest {
 
     @Test
     @DisplayName("Quando evento de erro deve conter exception e message no JSON")
-    void whenErrorEventShouldContainExceptionAndMessageInJson() throws Exception {
+    void whenErrorEventShouldContainExceptionAndMessageInJson() {
         String json = invokeJsonBuilder("error", "p", "C", "m", "IllegalArgumentException", "bad input", 10L, null);
         assertThat(json).contains("\"event\":\"error\"");
         assertThat(json).contains("\"exception\":\"IllegalArgumentException\"");
@@ -72,39 +65,48 @@ class StructuredLoggingTest {
 
     @Test
     @DisplayName("Quando traceId presente deve incluir campo traceId no JSON")
-    void whenTraceIdPresentShouldIncludeTraceIdFieldInJson() throws Exception {
+    void whenTraceIdPresentShouldIncludeTraceIdFieldInJson() {
         String json = invokeJsonBuilder("entry", "p", "C", "m", "args", null, -1, "trace-99");
         assertThat(json).contains("\"traceId\":\"trace-99\"");
     }
 
     @Test
     @DisplayName("Quando traceId ausente não deve incluir campo traceId no JSON")
-    void whenTraceIdAbsentShouldNotIncludeTraceIdFieldInJson() throws Exception {
+    void whenTraceIdAbsentShouldNotIncludeTraceIdFieldInJson() {
         String json = invokeJsonBuilder("entry", "p", "C", "m", "args", null, -1, null);
         assertThat(json).doesNotContain("traceId");
     }
 
     @Test
     @DisplayName("Quando args contêm aspas deve escapar corretamente no JSON")
-    void whenArgsContainQuotesShouldEscapeCorrectlyInJson() throws Exception {
+    void whenArgsContainQuotesShouldEscapeCorrectlyInJson() {
         String json = invokeJsonBuilder("entry", "p", "C", "m", "val\"with\"quotes", null, -1, null);
         assertThat(json).contains("\\\"with\\\"");
     }
 
     @Test
     @DisplayName("Quando args contêm barras invertidas deve escapar corretamente no JSON")
-    void whenArgsContainBackslashesShouldEscapeCorrectlyInJson() throws Exception {
+    void whenArgsContainBackslashesShouldEscapeCorrectlyInJson() {
         String json = invokeJsonBuilder("entry", "p", "C", "m", "path\\to\\file", null, -1, null);
         assertThat(json).contains("path\\\\to\\\\file");
     }
 
+    @Test
+    @DisplayName("Quando args contêm quebras de linha deve escapar e gerar uma única linha JSON")
+    void whenArgsContainNewlinesShouldEscapeIntoSingleJsonLine() {
+        String json = invokeJsonBuilder("error", "p", "C", "m", "Ex", "line1\nline2\ttab\u0001", 5L, null);
+        assertThat(json).doesNotContain("\n", "\t", "\u0001");
+        assertThat(json).contains("\"message\":\"line1\\nline2\\ttab\\u0001\"");
+    }
+
     private String invokeJsonBuilder(String event, String project, String cls, String method,
-                                     String f1, String f2, long dur, String traceId) throws Exception {
-        var m = LoggerAspect.class.getDeclaredMethod(
-                "buildStructuredJson",
-                String.class, String.class, String.class, String.class,
-                String.class, String.class, long.class, String.class);
-        m.setAccessible(true);
-        return (String) m.invoke(aspect, event, project, cls, method, f1, f2, dur, traceId);
+                                     String f1, String f2, long dur, String traceId) {
+        // The renderer takes nanoseconds; -1 (entry events) is passed through unchanged
+        long nanos = dur < 0 ? dur : TimeUnit.MILLISECONDS.toNanos(dur);
+        LogEvent.Kind kind = LogEvent.Kind.valueOf(event.toUpperCase());
+        LogEvent logEvent = new LogEvent()
+                .fill(kind, LogLevel.INFO, project, cls, method, nanos, traceId, renderer)
+                .payload(f1, f2);
+        return logEvent.render();
     }
 }
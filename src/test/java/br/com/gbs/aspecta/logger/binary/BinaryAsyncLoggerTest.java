@@ -0,0 +1,124 @@
+package br.com.gbs.aspecta.logger.binary;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.aspect.LogEvent;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.service.AsyncLoggerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("BinaryAsyncLogger")
+class BinaryAsyncLoggerTest {
+
+    @TempDir
+    Path dir;
+
+    private AsyncLoggerService delegate;
+    private BinaryAsyncLogger binary;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        LoggerProperties props = new LoggerProperties();
+        props.getBinary().setDirectory(dir.resolve("segments").toString());
+        props.getBinary().setSegmentSizeMb(1);
+        props.getBinary().setMaxSegments(4);
+        delegate = mock(AsyncLoggerService.class);
+        binary = new BinaryAsyncLogger(props, delegate);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        binary.destroy();
+    }
+
+    private static LogEvent event(String payload) {
+        return new LogEvent().fill(LogEvent.Kind.ENTRY, LogLevel.INFO, "TEST", "OrderService", "find", -1, "t-1", e -> "")
+                .payload(payload, null);
+    }
+
+    private String decoded() throws IOException {
+        binary.destroy();
+        StringBuilder out = new StringBuilder();
+        try (var files = Files.list(dir.resolve("segments"))) {
+            for (Path segment : files.sorted().toList()) BinaryLogDecoder.decode(segment, out);
+        }
+        return out.toString();
+    }
+
+    @Test
+    @DisplayName("Quando evento registrado deve gravá-lo no segmento com o payload adiado resolvido")
+    void whenEventLoggedShouldWriteItToSegmentWithDeferredPayloadResolved() throws IOException {
+        binary.log(event("[\"a\"]"));
+        binary.log(new LogEvent().fill(LogEvent.Kind.ERROR, LogLevel.WARN, "TEST", "OrderService", "find", 5_000_000, null, e -> "")
+                .deferredPayload(() -> "IllegalStateException", () -> "boom"));
+
+        assertThat(decoded().lines()).satisfiesExactly(
+                line -> assertThat(line).contains("\"event\":\"entry\"", "\"args\":\"[\\\"a\\\"]\"", "\"traceId\":\"t-1\""),
+                line -> assertThat(line).contains("\"level\":\"WARN\"", "\"exception\":\"IllegalStateException\"",
+                        "\"message\":\"boom\"", "\"durationMs\":5"));
+        assertThat(binary.droppedEvents()).isZero();
+    }
+
+    @Test
+    @DisplayName("Quando mensagens simples deve repassá-las ao AsyncLoggerService")
+    void whenPlainMessagesShouldHandThemToAsyncLoggerService() {
+        Supplier<String> deferred = () -> "lento";
+        binary.logDebug("d {}", 1);
+        binary.logInfo("i {}", 2);
+        binary.logWarn("w {}", 3);
+        binary.logError("e {}", 4);
+        binary.logDeferred(LogLevel.WARN, deferred);
+
+        verify(delegate).logDebug("d {}", 1);
+        verify(delegate).logInfo("i {}", 2);
+        verify(delegate).logWarn("w {}", 3);
+        verify(delegate).logError("e {}", 4);
+        verify(delegate).logDeferred(LogLevel.WARN, deferred);
+    }
+
+    @Test
+    @DisplayName("Quando registro não cabe no segmento deve contá-lo como descartado")
+    void whenRecordDoesNotFitSegmentShouldCountItAsDropped() throws IOException {
+        when(delegate.droppedEvents()).thenReturn(2L);
+
+        binary.log(event("x".repeat(2 << 20)));
+        binary.log(event("ok"));
+
+        assertThat(binary.droppedEvents()).isEqualTo(3);
+        assertThat(decoded().lines()).singleElement().asString().contains("\"args\":\"ok\"");
+    }
+
+    @Test
+    @DisplayName("Quando rotação falha deve descartar o evento, avisar uma vez e seguir no próximo segmento")
+    void whenRotationFailsShouldDropEventWarnOnceAndContinueOnNextSegment() throws IOException {
+        String half = "x".repeat(600 << 10);
+        Path taken = Files.createFile(dir.resolve("segments").resolve("aspecta-000002.aspb"));
+
+        binary.log(event(half));
+        binary.log(event(half));
+        binary.log(event(half));
+        binary.log(event(half));
+
+        verify(delegate).logWarn(startsWith("Could not write to the binary log segments"), any(IOException.class));
+        verify(delegate).logInfo("Binary log segments are being written again");
+        assertThat(binary.droppedEvents()).isEqualTo(1);
+        assertThat(dir.resolve("segments").resolve("aspecta-000003.aspb")).exists();
+        Files.delete(taken);
+        assertThat(decoded().lines()).hasSize(3);
+    }
+}
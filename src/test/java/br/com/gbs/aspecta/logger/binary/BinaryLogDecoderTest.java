@@ -0,0 +1,181 @@
+package br.com.gbs.aspecta.logger.binary;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.aspect.LogEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BinaryLogDecoder")
+class BinaryLogDecoderTest {
+
+    @TempDir
+    Path dir;
+
+    /** A segment holding {@code body} right after a valid header, with no zero padding. */
+    private Path segment(String name, byte version, byte... body) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryFormat.HEADER_SIZE + body.length)
+                .putInt(BinaryFormat.MAGIC).put(version).put(new byte[3]).putLong(1_000L).put(body);
+        return Files.write(dir.resolve(name), buffer.array());
+    }
+
+    private Path segment(byte... body) throws IOException {
+        return segment("aspecta-000001.aspb", BinaryFormat.VERSION, body);
+    }
+
+    private static byte[] record(String... strings) {
+        ByteBuffer out = ByteBuffer.allocate(256);
+        for (int i = 0; i < strings.length; i++) {
+            out.put(BinaryFormat.STRING);
+            BinaryFormat.putVarLong(out, i + 1);
+            BinaryFormat.putBytes(out, strings[i].getBytes(StandardCharsets.UTF_8));
+        }
+        out.put(BinaryFormat.EVENT).put((byte) (LogEvent.Kind.EXIT.ordinal() | LogLevel.DEBUG.ordinal() << 2));
+        BinaryFormat.putZigZag(out, 7);
+        BinaryFormat.putVarLong(out, 1);
+        BinaryFormat.putVarLong(out, 2);
+        BinaryFormat.putVarLong(out, 3);
+        BinaryFormat.putVarLong(out, 2_000_001);
+        BinaryFormat.putBytes(out, null);
+        BinaryFormat.putBytes(out, "42".getBytes(StandardCharsets.UTF_8));
+        BinaryFormat.putBytes(out, null);
+        return Arrays.copyOf(out.array(), out.position());
+    }
+
+    private static String decode(Path segment) throws IOException {
+        StringBuilder out = new StringBuilder();
+        BinaryLogDecoder.decode(segment, out);
+        return out.toString();
+    }
+
+    @Test
+    @DisplayName("Quando segmento preenchido até o fim deve decodificar sem marcador final")
+    void whenSegmentFilledToTheEndShouldDecodeWithoutEndMarker() throws IOException {
+        Path segment = segment(record("P", "C", "m"));
+
+        assertThat(BinaryLogDecoder.decode(segment, new StringBuilder())).isEqualTo(1);
+        assertThat(decode(segment)).isEqualTo("{\"timestamp\":1007,\"level\":\"DEBUG\",\"event\":\"exit\","
+                + "\"project\":\"P\",\"class\":\"C\",\"method\":\"m\",\"result\":\"42\","
+                + "\"durationMs\":2,\"durationNanos\":2000000}\n");
+    }
+
+    @Test
+    @DisplayName("Quando arquivo não é segmento deve falhar")
+    void whenFileIsNotSegmentShouldFail() throws IOException {
+        Path small = Files.write(dir.resolve("small.aspb"), new byte[4]);
+        Path foreign = Files.write(dir.resolve("foreign.aspb"), new byte[64]);
+
+        assertThatThrownBy(() -> decode(small)).isInstanceOf(IOException.class).hasMessageContaining("not an Aspecta");
+        assertThatThrownBy(() -> decode(foreign)).isInstanceOf(IOException.class).hasMessageContaining("not an Aspecta");
+    }
+
+    @Test
+    @DisplayName("Quando versão desconhecida deve falhar")
+    void whenUnknownVersionShouldFail() throws IOException {
+        Path segment = segment("aspecta-000001.aspb", (byte) 9);
+
+        assertThatThrownBy(() -> decode(segment)).isInstanceOf(IOException.class).hasMessageContaining("version 9");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "7",              // unknown record type
+            "1,2,2,65",       // string id out of order
+            "1,1,0",          // null string
+            "2,3",            // unknown event kind
+            "2,12",           // unknown level
+            "2,0,0,5,0,0"     // project id never defined
+    })
+    @DisplayName("Quando registro corrompido deve falhar indicando o offset")
+    void whenCorruptRecordShouldFailWithOffset(String bytes) throws IOException {
+        String[] values = bytes.split(",");
+        byte[] body = new byte[values.length];
+        for (int i = 0; i < values.length; i++) body[i] = Byte.parseByte(values[i]);
+        Path segment = segment(body);
+
+        assertThatThrownBy(() -> decode(segment)).isInstanceOf(IOException.class)
+                .hasMessageContaining("corrupt record at offset 16");
+    }
+
+    @Test
+    @DisplayName("Quando registro truncado deve falhar após escrever os eventos anteriores")
+    void whenRecordTruncatedShouldFailAfterWritingPreviousEvents() throws IOException {
+        byte[] first = record("P", "C", "m");
+        byte[] second = record();
+        byte[] body = Arrays.copyOf(first, first.length + second.length - 1);
+        System.arraycopy(second, 0, body, first.length, second.length - 1);
+        Path partial = segment(body);
+        Path cut = segment("aspecta-000002.aspb", BinaryFormat.VERSION, Arrays.copyOf(first, first.length - 2));
+        StringBuilder out = new StringBuilder();
+
+        assertThatThrownBy(() -> BinaryLogDecoder.decode(partial, out)).isInstanceOf(IOException.class)
+                .hasMessageContaining("Truncated record at the end");
+        assertThat(out.toString()).contains("\"result\":\"42\"").hasLineCount(1);
+        assertThatThrownBy(() -> decode(cut)).isInstanceOf(IOException.class)
+                .hasMessageContaining("Truncated record at offset");
+    }
+
+    @Test
+    @DisplayName("Quando varint excede 64 bits deve falhar")
+    void whenVarintExceeds64BitsShouldFail() throws IOException {
+        byte[] body = new byte[12];
+        Arrays.fill(body, (byte) 0xFF);
+        body[0] = BinaryFormat.STRING;
+        Path segment = segment(body);
+
+        assertThatThrownBy(() -> decode(segment)).isInstanceOf(IOException.class).hasMessageContaining("Malformed varint");
+    }
+
+    @Test
+    @DisplayName("Quando executado com diretório deve decodificar os segmentos em ordem")
+    void whenRunWithDirectoryShouldDecodeSegmentsInOrder() throws IOException {
+        segment("aspecta-000010.aspb", BinaryFormat.VERSION, record("P", "C", "second"));
+        segment("aspecta-000009.aspb", BinaryFormat.VERSION, record("P", "C", "first"));
+        Files.writeString(dir.resolve("readme.txt"), "ignored");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        int status = BinaryLogDecoder.run(new String[]{dir.toString()}, new PrintStream(out), new PrintStream(err));
+
+        assertThat(status).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8).lines())
+                .extracting(line -> line.replaceAll(".*\"method\":\"(\\w+)\".*", "$1"))
+                .containsExactly("first", "second");
+        assertThat(err.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Quando executado sem argumentos ou com arquivo inexistente deve retornar erro")
+    void whenRunWithoutArgumentsOrMissingFileShouldReturnError() {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(new ByteArrayOutputStream());
+
+        assertThat(BinaryLogDecoder.run(new String[0], out, new PrintStream(err))).isEqualTo(2);
+        assertThat(err.toString(StandardCharsets.UTF_8)).startsWith("Usage: ");
+        assertThat(BinaryLogDecoder.run(new String[]{dir.resolve("missing.aspb").toString()}, out, new PrintStream(err)))
+                .isEqualTo(1);
+        assertThat(err.toString(StandardCharsets.UTF_8)).contains("missing.aspb");
+    }
+
+    @Test
+    @DisplayName("Quando main decodifica diretório vazio deve terminar sem sair do processo")
+    void whenMainDecodesEmptyDirectoryShouldReturnWithoutExiting() {
+        BinaryLogDecoder.main(new String[]{dir.toString()});
+
+        assertThat(dir).isEmptyDirectory();
+    }
+}
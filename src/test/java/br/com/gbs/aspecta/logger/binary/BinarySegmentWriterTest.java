@@ -0,0 +1,223 @@
+package br.com.gbs.aspecta.logger.binary;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.aspect.LogEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("BinarySegmentWriter")
+class BinarySegmentWriterTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @TempDir
+    Path dir;
+
+    private BinarySegmentWriter writer;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (writer != null) writer.close();
+    }
+
+    private static LogEvent event(LogEvent.Kind kind, String method, long durationNanos) {
+        return new LogEvent().fill(kind, LogLevel.INFO, "TEST", "OrderService", method, durationNanos, null, e -> "");
+    }
+
+    private boolean append(LogEvent event, long now, String traceId, String payload, String detail) throws IOException {
+        return writer.append(event, now, bytes(traceId), bytes(payload), bytes(detail));
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> decode(Path segment) throws IOException {
+        StringBuilder out = new StringBuilder();
+        BinaryLogDecoder.decode(segment, out);
+        return out.isEmpty() ? List.of() : List.of(out.toString().split("\n"));
+    }
+
+    private static int occurrences(Path file, String text) throws IOException {
+        String content = new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1);
+        int count = 0;
+        for (int i = content.indexOf(text); i >= 0; i = content.indexOf(text, i + 1)) count++;
+        return count;
+    }
+
+    @Test
+    @DisplayName("Quando eventos gravados deve decodificá-los como linhas JSON")
+    void whenEventsWrittenShouldDecodeThemAsJsonLines() throws IOException {
+        writer = new BinarySegmentWriter(dir, 4096, 4, NOW);
+
+        assertThat(append(event(LogEvent.Kind.ENTRY, "find", -1), NOW + 5, "t-1", "[\"ação\"]", null)).isTrue();
+        assertThat(append(event(LogEvent.Kind.EXIT, "find", 1_234_567), NOW + 6, " ", "ok", null)).isTrue();
+        LogEvent error = new LogEvent().fill(LogEvent.Kind.ERROR, LogLevel.WARN, null, "OrderService", "save",
+                3_000_000, "t-2", e -> "");
+        assertThat(append(error, NOW - 2, "t-2", "IllegalStateException", "boom \"x\"")).isTrue();
+        writer.close();
+
+        assertThat(decode(writer.segments().getFirst())).containsExactly(
+                "{\"timestamp\":1700000000005,\"level\":\"INFO\",\"event\":\"entry\",\"project\":\"TEST\","
+                        + "\"class\":\"OrderService\",\"method\":\"find\",\"args\":\"[\\\"ação\\\"]\",\"traceId\":\"t-1\"}",
+                "{\"timestamp\":1700000000006,\"level\":\"INFO\",\"event\":\"exit\",\"project\":\"TEST\","
+                        + "\"class\":\"OrderService\",\"method\":\"find\",\"result\":\"ok\","
+                        + "\"durationMs\":1,\"durationNanos\":1234567}",
+                "{\"timestamp\":1699999999998,\"level\":\"WARN\",\"event\":\"error\",\"project\":\"\","
+                        + "\"class\":\"OrderService\",\"method\":\"save\",\"exception\":\"IllegalStateException\","
+                        + "\"message\":\"boom \\\"x\\\"\",\"durationMs\":3,\"durationNanos\":3000000,\"traceId\":\"t-2\"}");
+    }
+
+    @Test
+    @DisplayName("Quando mesmo método repetido deve gravar os nomes uma vez por segmento")
+    void whenSameMethodRepeatedShouldWriteNamesOncePerSegment() throws IOException {
+        writer = new BinarySegmentWriter(dir, 4096, 4, NOW);
+        for (int i = 0; i < 10; i++) append(event(LogEvent.Kind.EXIT, "find", i), NOW, null, "ok", null);
+        writer.close();
+
+        Path segment = writer.segments().getFirst();
+        assertThat(occurrences(segment, "OrderService")).isEqualTo(1);
+        assertThat(decode(segment)).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("Quando segmento cheio deve rotacionar, manter os mais novos e decodificar cada um sozinho")
+    void whenSegmentFullShouldRotateKeepNewestAndDecodeEachOnItsOwn() throws IOException {
+        writer = new BinarySegmentWriter(dir, 256, 3, NOW);
+        for (int i = 0; i < 40; i++) {
+            assertThat(append(event(LogEvent.Kind.ENTRY, "find", -1), NOW, null, "call-" + i, null)).isTrue();
+        }
+        writer.close();
+
+        List<Path> kept = new ArrayList<>(writer.segments());
+        try (var files = Files.list(dir)) {
+            assertThat(files.toList()).containsExactlyInAnyOrderElementsOf(kept);
+        }
+        assertThat(kept).hasSize(3);
+        List<String> lines = new ArrayList<>();
+        for (Path segment : kept) {
+            assertThat(occurrences(segment, "OrderService")).isEqualTo(1);
+            lines.addAll(decode(segment));
+        }
+        assertThat(lines.get(lines.size() - 1)).contains("\"args\":\"call-39\"");
+        assertThat(kept.get(0).getFileName().toString()).isNotEqualTo("aspecta-000001.aspb");
+    }
+
+    @Test
+    @DisplayName("Quando reiniciado deve continuar a numeração após o último segmento")
+    void whenRestartedShouldContinueNumberingAfterLastSegment() throws IOException {
+        Files.createFile(dir.resolve("aspecta-000009.aspb"));
+        Files.createFile(dir.resolve("notes.txt"));
+        writer = new BinarySegmentWriter(dir, 1024, 2, NOW);
+
+        assertThat(writer.segments()).extracting(path -> path.getFileName().toString())
+                .containsExactly("aspecta-000009.aspb", "aspecta-000010.aspb");
+        assertThat(dir.resolve("notes.txt")).exists();
+    }
+
+    @Test
+    @DisplayName("Quando registro maior que o segmento deve descartá-lo sem afetar os seguintes")
+    void whenRecordLargerThanSegmentShouldDropItWithoutAffectingNextOnes() throws IOException {
+        writer = new BinarySegmentWriter(dir, 256, 4, NOW);
+        String huge = "x".repeat(300);
+
+        assertThat(append(event(LogEvent.Kind.ENTRY, "big", -1), NOW, null, huge, null)).isFalse();
+        assertThat(append(event(LogEvent.Kind.ENTRY, "find", -1), NOW, null, "a", null)).isTrue();
+        assertThat(append(event(LogEvent.Kind.ENTRY, "other", -1), NOW, null, huge, null)).isFalse();
+        assertThat(append(event(LogEvent.Kind.ENTRY, "last", -1), NOW, null, "b", null)).isTrue();
+        writer.close();
+
+        assertThat(writer.segments()).hasSize(2);
+        assertThat(decode(writer.segments().getFirst())).singleElement().asString().contains("\"method\":\"find\"");
+        assertThat(decode(writer.segments().getLast())).singleElement().asString().contains("\"method\":\"last\"");
+    }
+
+    @Test
+    @DisplayName("Quando mapear o próximo segmento falha deve apagá-lo e reutilizar o número na rotação seguinte")
+    void whenMappingNextSegmentFailsShouldDeleteItAndReuseNumberOnNextRotation() throws IOException {
+        writer = new BinarySegmentWriter(dir, 256, 4, NOW);
+        String filler = "x".repeat(150);
+        assertThat(append(event(LogEvent.Kind.ENTRY, "find", -1), NOW, null, filler, null)).isTrue();
+        FileChannel failing = mock(FileChannel.class);
+        when(failing.map(any(), anyLong(), anyLong())).thenThrow(new IOException("No space left on device"));
+
+        try (MockedStatic<FileChannel> channels = mockStatic(FileChannel.class, CALLS_REAL_METHODS)) {
+            channels.when(() -> FileChannel.open(any(Path.class), any(OpenOption[].class))).thenAnswer(invocation -> {
+                ((FileChannel) invocation.callRealMethod()).close();
+                return failing;
+            });
+            assertThatThrownBy(() -> append(event(LogEvent.Kind.ENTRY, "find", -1), NOW, null, filler, null))
+                    .isInstanceOf(IOException.class).hasMessageContaining("No space");
+        }
+
+        verify(failing).close();
+        assertThat(dir.resolve("aspecta-000002.aspb")).doesNotExist();
+        assertThat(writer.segments()).extracting(path -> path.getFileName().toString())
+                .containsExactly("aspecta-000001.aspb");
+        assertThat(append(event(LogEvent.Kind.ENTRY, "find", -1), NOW, null, filler, null)).isTrue();
+        assertThat(writer.segments()).extracting(path -> path.getFileName().toString())
+                .containsExactly("aspecta-000001.aspb", "aspecta-000002.aspb");
+    }
+
+    @Test
+    @DisplayName("Quando segmento antigo não pode ser apagado deve mantê-lo e tentar de novo na rotação seguinte")
+    void whenOldSegmentCannotBeDeletedShouldKeepItAndRetryOnNextRotation() throws IOException {
+        Path pinned = Files.createDirectory(dir.resolve("aspecta-000001.aspb"));
+        Files.createFile(pinned.resolve("pinned"));
+        writer = new BinarySegmentWriter(dir, 256, 2, NOW);
+        String filler = "x".repeat(150);
+        append(event(LogEvent.Kind.ENTRY, "find", -1), NOW, null, filler, null);
+        append(event(LogEvent.Kind.ENTRY, "find", -1), NOW, null, filler, null);
+
+        assertThat(pinned).exists();
+        assertThat(writer.segments()).extracting(path -> path.getFileName().toString())
+                .containsExactly("aspecta-000001.aspb", "aspecta-000002.aspb", "aspecta-000003.aspb");
+
+        Files.delete(pinned.resolve("pinned"));
+        append(event(LogEvent.Kind.ENTRY, "find", -1), NOW, null, filler, null);
+
+        assertThat(pinned).doesNotExist();
+        assertThat(writer.segments()).extracting(path -> path.getFileName().toString())
+                .containsExactly("aspecta-000003.aspb", "aspecta-000004.aspb");
+    }
+
+    @Test
+    @DisplayName("Quando fechado deve recusar novos eventos e tolerar novo fechamento")
+    void whenClosedShouldRejectNewEventsAndTolerateSecondClose() throws IOException {
+        writer = new BinarySegmentWriter(dir, 1024, 2, NOW);
+        writer.close();
+        writer.close();
+
+        assertThat(append(event(LogEvent.Kind.ENTRY, "find", -1), NOW, null, "a", null)).isFalse();
+        assertThat(decode(writer.segments().getFirst())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Quando segmento não comporta o cabeçalho deve falhar")
+    void whenSegmentCannotHoldHeaderShouldFail() {
+        assertThatThrownBy(() -> new BinarySegmentWriter(dir, BinaryFormat.HEADER_SIZE, 2, NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
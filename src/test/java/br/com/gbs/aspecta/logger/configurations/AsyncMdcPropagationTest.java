@@ -6,7 +6,10 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -83,4 +86,62 @@ class AsyncMdcPropagationTest {
         assertThat(future.get(2, TimeUnit.SECONDS)).isNull();
         exec.shutdown();
     }
+
+    @Test
+    @DisplayName("Quando captura por chaves deve propagar apenas as chaves configuradas")
+    void whenKeysCaptureShouldPropagateOnlyConfiguredKeys() throws Exception {
+        LoggerProperties props = new LoggerProperties();
+        props.getAsync().setMdcCapture(LoggerProperties.MdcCaptureMode.KEYS);
+        props.getAsync().setMdcKeys(List.of("traceId", "tenant"));
+        ThreadPoolTaskExecutor exec = new AsyncLoggerConfig(props).aspectaLoggerExecutor();
+        MDC.put("traceId", "t1");
+        MDC.put("tenant", "acme");
+        MDC.put("userId", "u42");
+        CompletableFuture<Map<String, String>> future = new CompletableFuture<>();
+        exec.execute(() -> future.complete(MDC.getCopyOfContextMap()));
+        assertThat(future.get(2, TimeUnit.SECONDS))
+                .containsOnly(Map.entry("traceId", "t1"), Map.entry("tenant", "acme"));
+        exec.shutdown();
+    }
+
+    @Test
+    @DisplayName("Quando overflow roda a tarefa na thread chamadora deve preservar o MDC do chamador")
+    void whenOverflowRunsTaskOnCallerThreadShouldKeepCallerMdc() throws Exception {
+        LoggerProperties props = new LoggerProperties();
+        props.getAsync().setCorePoolSize(1);
+        props.getAsync().setMaxPoolSize(1);
+        props.getAsync().setQueueCapacity(1);
+        ThreadPoolTaskExecutor exec = new AsyncLoggerConfig(props).aspectaLoggerExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        exec.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        exec.execute(() -> { });
+        MDC.put("traceId", "caller-trace");
+        CompletableFuture<String> future = new CompletableFuture<>();
+        exec.execute(() -> future.complete(Thread.currentThread().getName() + "|" + MDC.get("traceId")));
+        assertThat(future.get(2, TimeUnit.SECONDS)).isEqualTo(Thread.currentThread().getName() + "|caller-trace");
+        assertThat(MDC.get("traceId")).isEqualTo("caller-trace");
+        release.countDown();
+        exec.shutdown();
+    }
+
+    @Test
+    @DisplayName("Quando executor virtual deve propagar MDC para a thread virtual")
+    void whenVirtualExecutorShouldPropagateMdcToVirtualThread() throws Exception {
+        LoggerProperties props = new LoggerProperties();
+        props.getAsync().setExecutor(LoggerProperties.ExecutorType.VIRTUAL);
+        props.getAsync().setVirtualMaxConcurrency(4);
+        ThreadPoolTaskExecutor exec = new AsyncLoggerConfig(props).aspectaLoggerExecutor();
+        MDC.put("traceId", "virtual-trace");
+        CompletableFuture<String> future = new CompletableFuture<>();
+        exec.execute(() -> future.complete(Thread.currentThread().getName() + "|" + MDC.get("traceId")));
+        assertThat(future.get(2, TimeUnit.SECONDS)).startsWith("aspecta-logger-vt-").endsWith("|virtual-trace");
+        assertThat(exec.getMaxPoolSize()).isEqualTo(4);
+        exec.shutdown();
+    }
 }
@@ -95,6 +95,15 @@ class LoggerPropertiesValidationTest {
                            "privatekey", "creditcard");
     }
 
+    @ParameterizedTest
+    @ValueSource(doubles = {-0.1, 1.01, 2.0})
+    @DisplayName("Quando taxa de amostragem fora de 0..1 deve gerar violação de constraint")
+    void whenSamplingRateOutOfRangeShouldGenerateConstraintViolation(double value) {
+        LoggerProperties props = new LoggerProperties();
+        props.getSampling().setRate(value);
+        assertThat(validator.validate(props)).isNotEmpty();
+    }
+
     @Test
     @DisplayName("Quando criado o structuredOutput padrão deve ser false")
     void whenCreatedDefaultStructuredOutputShouldBeFalse() {
@@ -106,4 +115,64 @@ class LoggerPropertiesValidationTest {
     void whenCreatedDefaultExposeExceptionDetailsShouldBeFalse() {
         assertThat(new LoggerProperties().isExposeExceptionDetails()).isFalse();
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 10_001})
+    @DisplayName("Quando virtualMaxConcurrency inválido deve gerar violação de constraint")
+    void whenInvalidVirtualMaxConcurrencyShouldGenerateConstraintViolation(int value) {
+        LoggerProperties props = new LoggerProperties();
+        props.getAsync().setVirtualMaxConcurrency(value);
+        assertThat(validator.validate(props)).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Quando criado o executor padrão deve ser de threads de plataforma")
+    void whenCreatedDefaultExecutorShouldBePlatform() {
+        assertThat(new LoggerProperties().getAsync().getExecutor()).isEqualTo(LoggerProperties.ExecutorType.PLATFORM);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 5001})
+    @DisplayName("Quando batchSize inválido deve gerar violação de constraint")
+    void whenInvalidBatchSizeShouldGenerateConstraintViolation(int value) {
+        LoggerProperties props = new LoggerProperties();
+        props.getAsync().setBatchSize(value);
+        assertThat(validator.validate(props)).isNotEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, 1_000_001})
+    @DisplayName("Quando batchLingerMicros inválido deve gerar violação de constraint")
+    void whenInvalidBatchLingerMicrosShouldGenerateConstraintViolation(long value) {
+        LoggerProperties props = new LoggerProperties();
+        props.getAsync().setBatchLingerMicros(value);
+        assertThat(validator.validate(props)).isNotEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "  "})
+    @DisplayName("Quando template de mensagem em branco deve gerar violação de constraint")
+    void whenBlankMessageTemplateShouldGenerateConstraintViolation(String value) {
+        LoggerProperties props = new LoggerProperties();
+        props.getMessages().setEntry(value);
+        assertThat(validator.validate(props)).isNotEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1025})
+    @DisplayName("Quando segmentSizeMb inválido deve gerar violação de constraint")
+    void whenInvalidSegmentSizeMbShouldGenerateConstraintViolation(int value) {
+        LoggerProperties props = new LoggerProperties();
+        props.getBinary().setSegmentSizeMb(value);
+        assertThat(validator.validate(props)).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Quando diretório binário em branco ou sem segmentos deve gerar violações")
+    void whenBlankBinaryDirectoryOrNoSegmentsShouldGenerateViolations() {
+        LoggerProperties props = new LoggerProperties();
+        props.getBinary().setDirectory(" ");
+        props.getBinary().setMaxSegments(0);
+        assertThat(validator.validate(props)).hasSize(2);
+    }
 }
@@ -0,0 +1,53 @@
+package br.com.gbs.aspecta.logger.configurations;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConditionalOnAsyncMode")
+class OnAsyncModeConditionTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(ModeBeans.class);
+
+    @Configuration(proxyBeanMethods = false)
+    static class ModeBeans {
+
+        @Bean
+        @ConditionalOnAsyncMode(LoggerProperties.Mode.RING_BUFFER)
+        String ringBuffer() {
+            return "ring-buffer";
+        }
+
+        @Bean
+        @ConditionalOnAsyncMode(LoggerProperties.Mode.EXECUTOR)
+        Integer executor() {
+            return 0;
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ring-buffer", "ring_buffer", "RING_BUFFER", "ringBuffer"})
+    @DisplayName("Quando modo escrito em qualquer forma aceita pelo enum deve selecionar o bean")
+    void whenModeWrittenInAnyFormTheEnumAcceptsShouldSelectBean(String value) {
+        runner.withPropertyValues("logger.async.mode=" + value).run(context -> {
+            assertThat(context).hasSingleBean(String.class);
+            assertThat(context).doesNotHaveBean(Integer.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Quando modo ausente deve selecionar apenas o executor")
+    void whenModeMissingShouldSelectOnlyExecutor() {
+        runner.run(context -> {
+            assertThat(context).hasSingleBean(Integer.class);
+            assertThat(context).doesNotHaveBean(String.class);
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.gbs.aspecta.logger.masking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CardNumberMaskingStrategy")
+class CardNumberMaskingStrategyTest {
+
+    private final CardNumberMaskingStrategy strategy = new CardNumberMaskingStrategy();
+
+    @Test
+    @DisplayName("Quando número válido pelo Luhn deve manter apenas os quatro últimos dígitos")
+    void whenLuhnValidShouldKeepOnlyLastFourDigits() {
+        assertThat(strategy.apply("card 4111 1111 1111 1111 ok")).isEqualTo("card **** **** **** 1111 ok");
+        assertThat(strategy.apply("5500-0000-0000-0004")).isEqualTo("****-****-****-0004");
+        assertThat(strategy.apply("amex=378282246310005")).isEqualTo("amex=***********0005");
+    }
+
+    @Test
+    @DisplayName("Quando Luhn inválido não deve mascarar")
+    void whenLuhnInvalidShouldNotMask() {
+        String input = "card 4111 1111 1111 1112";
+        assertThat(strategy.apply(input)).isSameAs(input);
+    }
+
+    @Test
+    @DisplayName("Quando quantidade de dígitos fora de 13 a 19 não deve mascarar")
+    void whenDigitCountOutsideRangeShouldNotMask() {
+        // 12 and 20 digits, both passing the Luhn check
+        String input = "id 000000000000 and 00000000000000000000, 42 - 7";
+        assertThat(strategy.apply(input)).isSameAs(input);
+    }
+
+    @Test
+    @DisplayName("Quando separadores duplicados deve tratar os grupos como sequências distintas")
+    void whenDoubleSeparatorsShouldTreatGroupsAsSeparateRuns() {
+        String input = "4111  1111  1111  1111";
+        assertThat(strategy.apply(input)).isSameAs(input);
+    }
+
+    @Test
+    @DisplayName("Quando entrada mais curta que um cartão mightMatch deve ser falso")
+    void whenInputShorterThanCardMightMatchShouldBeFalse() {
+        assertThat(strategy.mightMatch("411111111111")).isFalse();
+        assertThat(strategy.mightMatch("4111111111111")).isTrue();
+    }
+}
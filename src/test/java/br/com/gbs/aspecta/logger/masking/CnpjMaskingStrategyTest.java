@@ -0,0 +1,40 @@
+package br.com.gbs.aspecta.logger.masking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CnpjMaskingStrategy")
+class CnpjMaskingStrategyTest {
+
+    private final CnpjMaskingStrategy strategy = new CnpjMaskingStrategy();
+
+    @Test
+    @DisplayName("Quando CNPJ válido formatado ou não deve mascarar")
+    void whenValidCnpjFormattedOrNotShouldMask() {
+        assertThat(strategy.apply("cnpj 11.222.333/0001-81.")).isEqualTo("cnpj **.***.***/****-**.");
+        assertThat(strategy.apply("11444777000161")).isEqualTo("**.***.***/****-**");
+    }
+
+    @Test
+    @DisplayName("Quando dígitos verificadores inválidos não deve mascarar")
+    void whenCheckDigitsInvalidShouldNotMask() {
+        String input = "11.222.333/0001-82 11222333000191";
+        assertThat(strategy.apply(input)).isSameAs(input);
+    }
+
+    @Test
+    @DisplayName("Quando dígitos repetidos ou sequência maior não deve mascarar")
+    void whenRepeatedDigitsOrLongerRunShouldNotMask() {
+        String input = "00000000000000 112223330001819";
+        assertThat(strategy.apply(input)).isSameAs(input);
+    }
+
+    @Test
+    @DisplayName("Quando entrada mais curta que um CNPJ mightMatch deve ser falso")
+    void whenInputShorterThanCnpjMightMatchShouldBeFalse() {
+        assertThat(strategy.mightMatch("1122233300018")).isFalse();
+        assertThat(strategy.mightMatch("11222333000181")).isTrue();
+    }
+}
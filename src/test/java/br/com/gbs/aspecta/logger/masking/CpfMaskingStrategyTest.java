@@ -0,0 +1,49 @@
+package br.com.gbs.aspecta.logger.masking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CpfMaskingStrategy")
+class CpfMaskingStrategyTest {
+
+    private final CpfMaskingStrategy strategy = new CpfMaskingStrategy();
+
+    @Test
+    @DisplayName("Quando CPF válido formatado ou não deve mascarar")
+    void whenValidCpfFormattedOrNotShouldMask() {
+        assertThat(strategy.apply("cpf 529.982.247-25 ok")).isEqualTo("cpf ***.***.***-** ok");
+        assertThat(strategy.apply("{\"doc\":\"11144477735\"}")).isEqualTo("{\"doc\":\"***.***.***-**\"}");
+        assertThat(strategy.apply("529982247-25,111.444.77735")).isEqualTo("***.***.***-**,***.***.***-**");
+    }
+
+    @Test
+    @DisplayName("Quando dígitos verificadores inválidos não deve mascarar")
+    void whenCheckDigitsInvalidShouldNotMask() {
+        String input = "cpf 529.982.247-26 and 52998224724";
+        assertThat(strategy.apply(input)).isSameAs(input);
+    }
+
+    @Test
+    @DisplayName("Quando dígitos repetidos não deve mascarar")
+    void whenRepeatedDigitsShouldNotMask() {
+        String input = "111.111.111-11 00000000000";
+        assertThat(strategy.apply(input)).isSameAs(input);
+    }
+
+    @Test
+    @DisplayName("Quando parte de uma sequência maior de dígitos não deve mascarar")
+    void whenPartOfLongerDigitRunShouldNotMask() {
+        String input = "order 1529982247250 and 952998224725";
+        assertThat(strategy.apply(input)).isSameAs(input);
+        assertThat(strategy.apply("52998224")).isEqualTo("52998224");
+    }
+
+    @Test
+    @DisplayName("Quando entrada mais curta que um CPF mightMatch deve ser falso")
+    void whenInputShorterThanCpfMightMatchShouldBeFalse() {
+        assertThat(strategy.mightMatch("1234567890")).isFalse();
+        assertThat(strategy.mightMatch("12345678901")).isTrue();
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.gbs.aspecta.logger.masking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EmailMaskingStrategy")
+class EmailMaskingStrategyTest {
+
+    private final EmailMaskingStrategy strategy = new EmailMaskingStrategy();
+
+    @Test
+    @DisplayName("Quando e-mail válido deve manter o primeiro caractere e o domínio")
+    void whenValidEmailShouldKeepFirstCharacterAndDomain() {
+        assertThat(strategy.apply("to john.doe+x@example.com.br, ok"))
+                .isEqualTo("to j***@example.com.br, ok");
+        assertThat(strategy.apply("{\"email\":\"a@mail.io\"}")).isEqualTo("{\"email\":\"***@mail.io\"}");
+        assertThat(strategy.apply(".ana@x.org.")).isEqualTo(".a***@x.org.");
+    }
+
+    @Test
+    @DisplayName("Quando domínio inválido ou parte local vazia não deve mascarar")
+    void whenInvalidDomainOrEmptyLocalPartShouldNotMask() {
+        String input = "@example.com user@localhost a@b.c1 x@host.c @ a@.com b@-";
+        assertThat(strategy.apply(input)).isSameAs(input);
+    }
+
+    @Test
+    @DisplayName("Quando vários e-mails deve mascarar todos")
+    void whenSeveralEmailsShouldMaskAll() {
+        assertThat(strategy.apply("ana@a.com;bob@b.com")).isEqualTo("a***@a.com;b***@b.com");
+    }
+
+    @Test
+    @DisplayName("Quando sem arroba mightMatch deve ser falso")
+    void whenNoAtSignMightMatchShouldBeFalse() {
+        assertThat(strategy.mightMatch("no mail here")).isFalse();
+        assertThat(strategy.mightMatch("a@b.com")).isTrue();
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.gbs.aspecta.logger.masking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MaskingPipeline")
+class MaskingPipelineTest {
+
+    private static final Pattern DIGITS = Pattern.compile("\\d{3,}");
+    private static final Pattern EMAIL = Pattern.compile("[\\w.]+@[\\w.]+");
+
+    /** Span strategy over a pattern, recording the inputs it was asked to scan. */
+    private static final class PatternSpans implements SpanMaskingStrategy {
+        private final Pattern pattern;
+        private final char hint;
+        private final String replacement;
+        private final List<String> scanned = new ArrayList<>();
+
+        PatternSpans(Pattern pattern, char hint, String replacement) {
+            this.pattern = pattern;
+            this.hint = hint;
+            this.replacement = replacement;
+        }
+
+        @Override
+        public boolean mightMatch(String input) {
+            return input.indexOf(hint) >= 0;
+        }
+
+        @Override
+        public void findMatches(String input, MaskingSpans spans) {
+            scanned.add(input);
+            Matcher m = pattern.matcher(input);
+            while (m.find()) spans.add(m.start(), m.end(), replacement);
+        }
+    }
+
+    @Test
+    @DisplayName("Quando sem estratégias deve retornar a mesma instância")
+    void whenNoStrategiesShouldReturnSameInstance() {
+        String input = "abc";
+        assertThat(MaskingPipeline.of(null).apply(input)).isSameAs(input);
+        assertThat(MaskingPipeline.of(List.of()).apply(input)).isSameAs(input);
+    }
+
+    @Test
+    @DisplayName("Quando estratégias de intervalo consecutivas deve mesclar as correspondências")
+    void whenConsecutiveSpanStrategiesShouldMergeMatches() {
+        PatternSpans digits = new PatternSpans(DIGITS, '1', "###");
+        PatternSpans email = new PatternSpans(EMAIL, '@', "***@***");
+        MaskingPipeline pipeline = MaskingPipeline.of(List.of(digits, email));
+        assertThat(pipeline.apply("user ana@x.com id 123456 phone 1199"))
+                .isEqualTo("user ***@*** id ### phone ###");
+        // Both scanned the original input, not each other's output
+        assertThat(digits.scanned).containsExactly("user ana@x.com id 123456 phone 1199");
+        assertThat(email.scanned).containsExactly("user ana@x.com id 123456 phone 1199");
+    }
+
+    @Test
+    @DisplayName("Quando mightMatch rejeita a entrada não deve executar a estratégia")
+    void whenMightMatchRejectsInputShouldSkipStrategy() {
+        PatternSpans digits = new PatternSpans(DIGITS, '1', "###");
+        PatternSpans email = new PatternSpans(EMAIL, '@', "***@***");
+        String input = "no numbers or mail";
+        assertThat(MaskingPipeline.of(List.of(digits, email)).apply(input)).isSameAs(input);
+        assertThat(digits.scanned).isEmpty();
+        assertThat(email.scanned).isEmpty();
+
+        MaskingStrategy rejecting = new MaskingStrategy() {
+            @Override
+            public String apply(String in) {
+                throw new AssertionError("should be skipped");
+            }
+
+            @Override
+            public boolean mightMatch(String in) {
+                return false;
+            }
+        };
+        assertThat(MaskingPipeline.of(List.of(rejecting)).apply(input)).isSameAs(input);
+    }
+
+    @Test
+    @DisplayName("Quando estratégias comuns entre grupos deve manter a ordem registrada")
+    void whenPlainStrategiesBetweenGroupsShouldKeepRegisteredOrder() {
+        MaskingStrategy toDigits = in -> in.replace("ONE", "111");
+        PatternSpans digits = new PatternSpans(DIGITS, '1', "###");
+        MaskingStrategy afterSpans = in -> in.replace("###", "[n]");
+        MaskingPipeline pipeline = MaskingPipeline.of(List.of(toDigits, digits, afterSpans));
+        assertThat(pipeline.apply("ONE and 2222")).isEqualTo("[n] and [n]");
+    }
+
+    @Test
+    @DisplayName("Quando estratégia de intervalo usada isoladamente deve aplicar via apply")
+    void whenSpanStrategyUsedAloneShouldApplyThroughApply() {
+        PatternSpans email = new PatternSpans(EMAIL, '@', "***@***");
+        assertThat(email.apply("mail ana@x.com")).isEqualTo("mail ***@***");
+        assertThat(MaskingPipeline.of(List.of(email)).apply("to bob@y.org")).isEqualTo("to ***@***");
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.gbs.aspecta.logger.masking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MaskingSpans")
+class MaskingSpansTest {
+
+    @Test
+    @DisplayName("Quando nenhum intervalo deve retornar a mesma instância")
+    void whenNoRangeShouldReturnSameInstance() {
+        String input = "nothing here";
+        assertThat(new MaskingSpans(input).applyTo(input)).isSameAs(input);
+    }
+
+    @Test
+    @DisplayName("Quando intervalos fora de ordem deve substituir todos em uma passada")
+    void whenRangesOutOfOrderShouldReplaceAllInOnePass() {
+        String input = "a=111 b=222 c=333";
+        MaskingSpans spans = new MaskingSpans(input);
+        spans.add(14, 17, "***");
+        spans.add(2, 5, "#");
+        spans.add(8, 11, "**");
+        assertThat(spans.applyTo(input)).isEqualTo("a=# b=** c=***");
+    }
+
+    @Test
+    @DisplayName("Quando intervalos se sobrepõem deve mesclar usando a substituição do primeiro")
+    void whenRangesOverlapShouldMergeUsingFirstReplacement() {
+        String input = "0123456789";
+        MaskingSpans spans = new MaskingSpans(input);
+        spans.add(4, 9, "B");
+        spans.add(2, 5, "A");
+        spans.add(2, 3, "C");
+        spans.add(8, 10, "D");
+        assertThat(spans.applyTo(input)).isEqualTo("01A");
+    }
+
+    @Test
+    @DisplayName("Quando intervalos adjacentes não deve mesclar")
+    void whenRangesAdjacentShouldNotMerge() {
+        String input = "abcd";
+        MaskingSpans spans = new MaskingSpans(input);
+        spans.add(0, 2, "X");
+        spans.add(2, 4, "Y");
+        assertThat(spans.applyTo(input)).isEqualTo("XY");
+    }
+
+    @Test
+    @DisplayName("Quando muitos intervalos deve crescer a capacidade")
+    void whenManyRangesShouldGrowCapacity() {
+        String input = "x".repeat(20);
+        MaskingSpans spans = new MaskingSpans(input);
+        for (int i = 0; i < 20; i++) {
+            spans.add(i, i + 1, String.valueOf(i % 10));
+        }
+        assertThat(spans.applyTo(input)).isEqualTo("01234567890123456789");
+    }
+
+    @Test
+    @DisplayName("Quando intervalo inválido deve lançar IllegalArgumentException")
+    void whenRangeInvalidShouldThrowIllegalArgumentException() {
+        MaskingSpans spans = new MaskingSpans("abc");
+        assertThatThrownBy(() -> spans.add(-1, 1, "*")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> spans.add(1, 1, "*")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> spans.add(1, 4, "*")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> spans.add(0, 1, null)).isInstanceOf(NullPointerException.class);
+    }
+}
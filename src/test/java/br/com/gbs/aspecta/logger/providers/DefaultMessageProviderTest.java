@@ -1,19 +1,23 @@
 package br.com.gbs.aspecta.logger.providers;
 
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("DefaultMessageProvider")
 class DefaultMessageProviderTest {
 
+    private LoggerProperties props;
     private DefaultMessageProvider provider;
 
     @BeforeEach
     void setUp() {
-        provider = new DefaultMessageProvider();
+        props = new LoggerProperties();
+        provider = new DefaultMessageProvider(props);
     }
 
     @Test
@@ -36,4 +40,48 @@ class DefaultMessageProviderTest {
         String message = provider.errorMessage("doSomething", "NullPointerException", "valor nulo");
         assertThat(message).contains("doSomething").contains("NullPointerException").contains("valor nulo");
     }
+
+    @Test
+    @DisplayName("Quando templates padrão deve manter o texto histórico das mensagens")
+    void whenDefaultTemplatesShouldKeepHistoricalMessageText() {
+        assertThat(provider.entryMessage("find", "[1]")).isEqualTo("Entrando no método: find() com | Args: [1]");
+        assertThat(provider.exitMessage("find", null)).isEqualTo("Saindo do método: find() retornou | Retorno: null");
+        assertThat(provider.exitMessage("find", 1234567)).isEqualTo("Saindo do método: find() retornou | Retorno: 1234567");
+        assertThat(provider.errorMessage("find", "IllegalStateException", "boom"))
+                .isEqualTo("Erro no método find: IllegalStateException - boom");
+    }
+
+    @Test
+    @DisplayName("Quando appends deve escrever o mesmo texto no buffer informado")
+    void whenAppendsShouldWriteSameTextIntoGivenBuffer() {
+        StringBuilder out = new StringBuilder();
+        provider.appendEntry(out, "find", "[1]");
+        out.append(" / ");
+        provider.appendExit(out, "find", 42);
+        out.append(" / ");
+        provider.appendError(out, "find", "IllegalStateException", "boom");
+        assertThat(out).hasToString(provider.entryMessage("find", "[1]") + " / "
+                + provider.exitMessage("find", 42) + " / "
+                + provider.errorMessage("find", "IllegalStateException", "boom"));
+    }
+
+    @Test
+    @DisplayName("Quando templates configurados deve usá-los")
+    void whenTemplatesConfiguredShouldUseThem() {
+        props.getMessages().setEntry("-> {0}({1})");
+        props.getMessages().setExit("<- {0} = {1}");
+        props.getMessages().setError("!! {0} '{'{1}'}' {2}");
+        DefaultMessageProvider custom = new DefaultMessageProvider(props);
+
+        assertThat(custom.entryMessage("find", "1")).isEqualTo("-> find(1)");
+        assertThat(custom.exitMessage("find", true)).isEqualTo("<- find = true");
+        assertThat(custom.errorMessage("find", "IOException", "disk")).isEqualTo("!! find {IOException} disk");
+    }
+
+    @Test
+    @DisplayName("Quando template inválido deve falhar na criação")
+    void whenTemplateInvalidShouldFailOnCreation() {
+        props.getMessages().setEntry("Entrando em {0");
+        assertThatThrownBy(() -> new DefaultMessageProvider(props)).isInstanceOf(IllegalArgumentException.class);
+    }
 }
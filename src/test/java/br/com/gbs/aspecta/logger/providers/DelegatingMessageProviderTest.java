@@ -1,14 +1,15 @@
 package br.com.gbs.aspecta.logger.providers;
 
 import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -19,17 +20,15 @@ class DelegatingMessageProviderTest {
     @Mock private I18nMessageProvider i18nProvider;
     @Mock private DefaultMessageProvider defaultProvider;
 
-    private DelegatingMessageProvider provider;
-
-    @BeforeEach
-    void setUp() {
-        provider = new DelegatingMessageProvider(loggerProperties, i18nProvider, defaultProvider);
+    private DelegatingMessageProvider provider(boolean i18n) {
+        when(loggerProperties.isEnableI18n()).thenReturn(i18n);
+        return new DelegatingMessageProvider(loggerProperties, i18nProvider, defaultProvider);
     }
 
     @Test
     @DisplayName("Quando i18n habilitado deve delegar entryMessage ao provedor i18n")
     void whenI18nEnabledShouldDelegateEntryMessageToI18nProvider() {
-        when(loggerProperties.isEnableI18n()).thenReturn(true);
+        DelegatingMessageProvider provider = provider(true);
         provider.entryMessage("method", "args");
         verify(i18nProvider).entryMessage("method", "args");
     }
@@ -37,7 +36,7 @@ class DelegatingMessageProviderTest {
     @Test
     @DisplayName("Quando i18n desabilitado deve delegar entryMessage ao provedor padrão")
     void whenI18nDisabledShouldDelegateEntryMessageToDefaultProvider() {
-        when(loggerProperties.isEnableI18n()).thenReturn(false);
+        DelegatingMessageProvider provider = provider(false);
         provider.entryMessage("method", "args");
         verify(defaultProvider).entryMessage("method", "args");
     }
@@ -45,7 +44,7 @@ class DelegatingMessageProviderTest {
     @Test
     @DisplayName("Quando i18n habilitado deve delegar exitMessage ao provedor i18n")
     void whenI18nEnabledShouldDelegateExitMessageToI18nProvider() {
-        when(loggerProperties.isEnableI18n()).thenReturn(true);
+        DelegatingMessageProvider provider = provider(true);
         provider.exitMessage("method", "result");
         verify(i18nProvider).exitMessage("method", "result");
     }
@@ -53,7 +52,7 @@ class DelegatingMessageProviderTest {
     @Test
     @DisplayName("Quando i18n desabilitado deve delegar exitMessage ao provedor padrão")
     void whenI18nDisabledShouldDelegateExitMessageToDefaultProvider() {
-        when(loggerProperties.isEnableI18n()).thenReturn(false);
+        DelegatingMessageProvider provider = provider(false);
         provider.exitMessage("method", "result");
         verify(defaultProvider).exitMessage("method", "result");
     }
@@ -61,7 +60,7 @@ class DelegatingMessageProviderTest {
     @Test
     @DisplayName("Quando i18n habilitado deve delegar errorMessage ao provedor i18n")
     void whenI18nEnabledShouldDelegateErrorMessageToI18nProvider() {
-        when(loggerProperties.isEnableI18n()).thenReturn(true);
+        DelegatingMessageProvider provider = provider(true);
         provider.errorMessage("method", "Exception", "msg");
         verify(i18nProvider).errorMessage("method", "Exception", "msg");
     }
@@ -69,8 +68,44 @@ class DelegatingMessageProviderTest {
     @Test
     @DisplayName("Quando i18n desabilitado deve delegar errorMessage ao provedor padrão")
     void whenI18nDisabledShouldDelegateErrorMessageToDefaultProvider() {
-        when(loggerProperties.isEnableI18n()).thenReturn(false);
+        DelegatingMessageProvider provider = provider(false);
         provider.errorMessage("method", "Exception", "msg");
         verify(defaultProvider).errorMessage("method", "Exception", "msg");
     }
+
+    @Test
+    @DisplayName("Quando i18n habilitado deve delegar os appends ao provedor i18n")
+    void whenI18nEnabledShouldDelegateAppendsToI18nProvider() {
+        DelegatingMessageProvider provider = provider(true);
+        StringBuilder out = new StringBuilder();
+        provider.appendEntry(out, "method", "args");
+        provider.appendExit(out, "method", "result");
+        provider.appendError(out, "method", "Exception", "msg");
+        verify(i18nProvider).appendEntry(out, "method", "args");
+        verify(i18nProvider).appendExit(out, "method", "result");
+        verify(i18nProvider).appendError(out, "method", "Exception", "msg");
+    }
+
+    @Test
+    @DisplayName("Quando i18n desabilitado deve delegar os appends ao provedor padrão")
+    void whenI18nDisabledShouldDelegateAppendsToDefaultProvider() {
+        DelegatingMessageProvider provider = provider(false);
+        StringBuilder out = new StringBuilder();
+        provider.appendEntry(out, "method", "args");
+        provider.appendExit(out, "method", "result");
+        provider.appendError(out, "method", "Exception", "msg");
+        verify(defaultProvider).appendEntry(out, "method", "args");
+        verify(defaultProvider).appendExit(out, "method", "result");
+        verify(defaultProvider).appendError(out, "method", "Exception", "msg");
+    }
+
+    @Test
+    @DisplayName("Quando criado deve consultar enableI18n uma única vez")
+    void whenCreatedShouldReadEnableI18nOnlyOnce() {
+        DelegatingMessageProvider provider = provider(false);
+        provider.entryMessage("method", "args");
+        provider.appendExit(new StringBuilder(), "method", "result");
+        verify(loggerProperties, times(1)).isEnableI18n();
+        verifyNoInteractions(i18nProvider);
+    }
 }
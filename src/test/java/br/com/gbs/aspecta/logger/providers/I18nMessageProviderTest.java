@@ -1,18 +1,22 @@
 package br.com.gbs.aspecta.logger.providers;
 
 import br.com.gbs.aspecta.logger.interfaces.I18nLogger;
+import br.com.gbs.aspecta.logger.service.I18NLoggerService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.support.ResourceBundleMessageSource;
 
 import java.util.Locale;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("I18nMessageProvider")
@@ -20,31 +24,95 @@ class I18nMessageProviderTest {
 
     @Mock private I18nLogger i18nLogger;
 
+    private final Locale originalLocale = Locale.getDefault();
     private I18nMessageProvider provider;
 
     @BeforeEach
     void setUp() {
         provider = new I18nMessageProvider(i18nLogger);
+        Locale.setDefault(Locale.ENGLISH);
+    }
+
+    @AfterEach
+    void restoreLocale() {
+        Locale.setDefault(originalLocale);
+    }
+
+    private void stubPatterns(Locale locale, String suffix) {
+        when(i18nLogger.getMessage("log.entry", null, locale)).thenReturn("entry{0}({1})" + suffix);
+        when(i18nLogger.getMessage("log.exit", null, locale)).thenReturn("exit{0}={1}" + suffix);
+        when(i18nLogger.getMessage("log.error", null, locale)).thenReturn("error{0}:{1}-{2}" + suffix);
+    }
+
+    @Test
+    @DisplayName("Quando mensagens renderizadas deve usar as chaves log.entry, log.exit e log.error")
+    void whenMessagesRenderedShouldUseLogEntryExitAndErrorKeys() {
+        stubPatterns(Locale.ENGLISH, "");
+        assertThat(provider.entryMessage("doSomething", "args")).isEqualTo("entrydoSomething(args)");
+        assertThat(provider.exitMessage("doSomething", "result")).isEqualTo("exitdoSomething=result");
+        assertThat(provider.errorMessage("doSomething", "RuntimeException", "falhou"))
+                .isEqualTo("errordoSomething:RuntimeException-falhou");
+    }
+
+    @Test
+    @DisplayName("Quando appends chamados deve escrever no buffer informado")
+    void whenAppendsCalledShouldWriteIntoGivenBuffer() {
+        stubPatterns(Locale.ENGLISH, "");
+        StringBuilder out = new StringBuilder("> ");
+        provider.appendEntry(out, "m", "a");
+        out.append(' ');
+        provider.appendExit(out, "m", "r");
+        out.append(' ');
+        provider.appendError(out, "m", "E", "x");
+        assertThat(out).hasToString("> entrym(a) exitm=r errorm:E-x");
     }
 
     @Test
-    @DisplayName("Quando entryMessage chamado deve usar chave log.entry no i18n")
-    void whenEntryMessageCalledShouldUseLogEntryKey() {
-        provider.entryMessage("doSomething", "args");
-        verify(i18nLogger).getMessage(eq("log.entry"), any(Object[].class), any(Locale.class));
+    @DisplayName("Quando chamado várias vezes deve resolver os padrões uma única vez por locale")
+    void whenCalledRepeatedlyShouldResolvePatternsOncePerLocale() {
+        stubPatterns(Locale.ENGLISH, "");
+        for (int i = 0; i < 5; i++) {
+            provider.entryMessage("m", "a");
+            provider.exitMessage("m", "r");
+            provider.errorMessage("m", "E", "x");
+        }
+        verify(i18nLogger, times(1)).getMessage("log.entry", null, Locale.ENGLISH);
+        verify(i18nLogger, times(1)).getMessage("log.exit", null, Locale.ENGLISH);
+        verify(i18nLogger, times(1)).getMessage("log.error", null, Locale.ENGLISH);
     }
 
     @Test
-    @DisplayName("Quando exitMessage chamado deve usar chave log.exit no i18n")
-    void whenExitMessageCalledShouldUseLogExitKey() {
-        provider.exitMessage("doSomething", "result");
-        verify(i18nLogger).getMessage(eq("log.exit"), any(Object[].class), any(Locale.class));
+    @DisplayName("Quando locale padrão muda deve usar os padrões do novo locale")
+    void whenDefaultLocaleChangesShouldUseNewLocalePatterns() {
+        stubPatterns(Locale.ENGLISH, " [en]");
+        Locale br = Locale.forLanguageTag("pt-BR");
+        when(i18nLogger.getMessage("log.entry", null, br)).thenReturn("entrada {0}");
+        when(i18nLogger.getMessage("log.exit", null, br)).thenReturn("saída {0}");
+        when(i18nLogger.getMessage("log.error", null, br)).thenReturn("erro {0}");
+
+        assertThat(provider.entryMessage("m", "a")).isEqualTo("entrym(a) [en]");
+        Locale.setDefault(br);
+        assertThat(provider.entryMessage("m", "a")).isEqualTo("entrada m");
     }
 
     @Test
-    @DisplayName("Quando errorMessage chamado deve usar chave log.error no i18n")
-    void whenErrorMessageCalledShouldUseLogErrorKey() {
-        provider.errorMessage("doSomething", "RuntimeException", "falhou");
-        verify(i18nLogger).getMessage(eq("log.error"), any(Object[].class), any(Locale.class));
+    @DisplayName("Quando usa os arquivos messages deve renderizar igual ao MessageSource")
+    void whenUsingBundledMessagesShouldRenderLikeMessageSource() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        I18NLoggerService service = new I18NLoggerService(messageSource);
+        I18nMessageProvider bundled = new I18nMessageProvider(service);
+
+        for (Locale locale : new Locale[]{Locale.ENGLISH, Locale.forLanguageTag("pt-BR")}) {
+            Locale.setDefault(locale);
+            assertThat(bundled.entryMessage("find", "order-42, 3"))
+                    .isEqualTo(messageSource.getMessage("log.entry", new Object[]{"find", "order-42, 3"}, locale));
+            assertThat(bundled.exitMessage("find", 1234))
+                    .isEqualTo(messageSource.getMessage("log.exit", new Object[]{"find", 1234}, locale));
+            assertThat(bundled.errorMessage("find", "IllegalStateException", null))
+                    .isEqualTo(messageSource.getMessage("log.error",
+                            new Object[]{"find", "IllegalStateException", null}, locale));
+        }
     }
 }
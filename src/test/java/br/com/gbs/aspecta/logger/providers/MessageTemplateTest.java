@@ -0,0 +1,101 @@
+package br.com.gbs.aspecta.logger.providers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.text.MessageFormat;
+import java.util.Date;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MessageTemplate")
+class MessageTemplateTest {
+
+    private static final Locale BR = Locale.forLanguageTag("pt-BR");
+
+    private static String expected(String pattern, Object... args) {
+        return new MessageFormat(pattern, BR).format(args);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Entrando no método: {0}() com | Args: {1}",
+            "{1} antes de {0}",
+            "sem argumentos",
+            "{0}{0}{1}",
+            "It''s {0}",
+            "literal '{0}' e {1}",
+            "aspas 'abertas {0}",
+            "chave } solta {0}",
+            "{00} com zero"
+    })
+    @DisplayName("Quando padrão simples deve renderizar igual ao MessageFormat")
+    void whenSimplePatternShouldRenderLikeMessageFormat(String pattern) {
+        MessageTemplate template = MessageTemplate.compile(pattern, BR);
+        assertThat(template.format("find", "order-42")).isEqualTo(expected(pattern, "find", "order-42"));
+    }
+
+    @Test
+    @DisplayName("Quando argumentos não textuais deve formatá-los como o MessageFormat")
+    void whenNonTextArgumentsShouldFormatThemLikeMessageFormat() {
+        String pattern = "{0} | {1} | {2} | {3}";
+        Date date = new Date(0);
+        Object[] args = {1234567.5, date, null, new StringBuilder("sb")};
+        assertThat(MessageTemplate.compile(pattern, BR).format(args)).isEqualTo(expected(pattern, args));
+    }
+
+    @Test
+    @DisplayName("Quando faltam argumentos deve manter o placeholder")
+    void whenArgumentsAreMissingShouldKeepPlaceholder() {
+        MessageTemplate template = MessageTemplate.compile("{0} e {2}", BR);
+        assertThat(template.format("a")).isEqualTo(expected("{0} e {2}", "a"));
+        assertThat(template.format((Object[]) null)).isEqualTo("{0} e {2}");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{0} -> {1}", "{1}{0}{1}", "{2} e {0}", "{3} sobra", "sem argumentos"})
+    @DisplayName("Quando appendTo com aridade fixa deve renderizar igual à versão varargs")
+    void whenFixedArityAppendToShouldRenderLikeVarargsVersion(String pattern) {
+        MessageTemplate template = MessageTemplate.compile(pattern, BR);
+        Object[] two = {"find", 42};
+        Object[] three = {"save", null, new Date(0)};
+        assertThat(template.appendTo(new StringBuilder(), "find", 42))
+                .hasToString(template.appendTo(new StringBuilder(), two).toString());
+        assertThat(template.appendTo(new StringBuilder(), "save", null, new Date(0)))
+                .hasToString(template.appendTo(new StringBuilder(), three).toString());
+    }
+
+    @Test
+    @DisplayName("Quando padrão usa tipo de formato deve delegar ao MessageFormat")
+    void whenPatternUsesFormatTypeShouldDelegateToMessageFormat() {
+        String pattern = "{0} custou {1,number,#.##} em {2,choice,0#nenhum|1#um|1<{2} itens}";
+        MessageTemplate template = MessageTemplate.compile(pattern, BR);
+        assertThat(template.format("pedido", 3.14159, 3)).isEqualTo(expected(pattern, "pedido", 3.14159, 3));
+        assertThat(template.appendTo(new StringBuilder(">"), "pedido", 1, 1))
+                .hasToString(">" + expected(pattern, "pedido", 1, 1));
+        assertThat(MessageTemplate.compile("{0} custou {1,number,#.##}", BR).appendTo(new StringBuilder(), "pedido", 2.5))
+                .hasToString(expected("{0} custou {1,number,#.##}", "pedido", 2.5));
+    }
+
+    @Test
+    @DisplayName("Quando appendTo deve escrever após o conteúdo existente")
+    void whenAppendToShouldWriteAfterExistingContent() {
+        MessageTemplate template = MessageTemplate.compile("[{0}]", BR);
+        StringBuilder out = new StringBuilder("x");
+        template.appendTo(out, "a");
+        template.appendTo(out, "b");
+        assertThat(out).hasToString("x[a][b]");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"aberto {0", "{ 0}", "{x}", "{12345678901}"})
+    @DisplayName("Quando padrão inválido deve falhar como o MessageFormat")
+    void whenPatternInvalidShouldFailLikeMessageFormat(String pattern) {
+        assertThatThrownBy(() -> new MessageFormat(pattern, BR)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MessageTemplate.compile(pattern, BR)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
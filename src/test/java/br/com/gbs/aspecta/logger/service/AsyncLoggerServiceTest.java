@@ -1,6 +1,9 @@
 package br.com.gbs.aspecta.logger.service;
 
 import br.com.gbs.aspecta.util.MemoryAppender;
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.aspect.LogEvent;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
@@ -8,8 +11,13 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("AsyncLoggerService")
@@ -21,7 +29,7 @@ class AsyncLoggerServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new AsyncLoggerService();
+        service = new AsyncLoggerService(Runnable::run, new OverflowPolicyHandler(new LoggerProperties().getAsync()));
         logger = (Logger) LoggerFactory.getLogger(AsyncLoggerService.class);
         logger.setLevel(Level.ALL);
         appender = new MemoryAppender();
@@ -63,4 +71,56 @@ class AsyncLoggerServiceTest {
         service.logError("mensagem error {}", "arg");
         assertThat(appender.contains("mensagem error arg", Level.ERROR)).isTrue();
     }
+
+    @ParameterizedTest
+    @EnumSource(LogLevel.class)
+    @DisplayName("Quando logDeferred chamado deve renderizar a mensagem e registrar no nível correspondente")
+    void whenLogDeferredCalledShouldRenderMessageAtMatchingLevel(LogLevel level) {
+        service.logDeferred(level, () -> "deferred {} " + level);
+        assertThat(appender.contains("deferred {} " + level, Level.toLevel(level.name()))).isTrue();
+    }
+
+    @ParameterizedTest
+    @EnumSource(LogLevel.class)
+    @DisplayName("Quando LogEvent submetido deve renderizar uma cópia no executor no nível correspondente")
+    void whenLogEventSubmittedShouldRenderCopyOnExecutorAtMatchingLevel(LogLevel level) {
+        List<Runnable> submitted = new ArrayList<>();
+        AsyncLoggerService queued = new AsyncLoggerService(submitted::add,
+                new OverflowPolicyHandler(new LoggerProperties().getAsync()));
+        LogEvent event = event(level, "payload");
+        queued.log(event);
+        // The caller reuses its event right away, as the aspect does
+        event.clear();
+        submitted.forEach(Runnable::run);
+        assertThat(appender.contains("payload@" + Thread.currentThread().getName(), Level.toLevel(level.name()))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Quando evento submetido deve informar o nível ao executor")
+    void whenEventSubmittedShouldExposeLevelToExecutor() {
+        List<Runnable> submitted = new ArrayList<>();
+        AsyncLoggerService queued = new AsyncLoggerService(submitted::add,
+                new OverflowPolicyHandler(new LoggerProperties().getAsync()));
+        queued.logDebug("d");
+        queued.logError("e");
+        queued.logDeferred(LogLevel.WARN, () -> "w");
+        assertThat(submitted).extracting(r -> ((OverflowPolicyHandler.Leveled) r).level())
+                .containsExactly(org.slf4j.event.Level.DEBUG, org.slf4j.event.Level.ERROR, org.slf4j.event.Level.WARN);
+        assertThat(appender.getEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Quando mensagem adiada lança exceção deve contá-la como descartada sem propagar para a thread do executor")
+    void whenDeferredMessageThrowsShouldCountItAsDroppedWithoutPropagatingToExecutorThread() {
+        service.logDeferred(LogLevel.INFO, () -> { throw new IllegalStateException("boom"); });
+        service.logInfo("still alive");
+        assertThat(appender.contains("still alive", Level.INFO)).isTrue();
+        assertThat(service.droppedEvents()).isEqualTo(1);
+    }
+
+    /** An event rendered as {@code payload@thread}, to show where rendering happens. */
+    private static LogEvent event(LogLevel level, String payload) {
+        return new LogEvent().fill(LogEvent.Kind.ENTRY, level, "P", "C", "m", -1, null,
+                e -> e.getPayload() + "@" + Thread.currentThread().getName()).payload(payload, null);
+    }
 }
@@ -0,0 +1,324 @@
+package br.com.gbs.aspecta.logger.service;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.aspect.LogEvent;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.util.MemoryAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BatchingAsyncLogger")
+class BatchingAsyncLoggerTest {
+
+    private Logger serviceLogger;
+    private MemoryAppender appender;
+    private BatchingAsyncLogger batching;
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final List<Long> latencies = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        serviceLogger = (Logger) LoggerFactory.getLogger(AsyncLoggerService.class);
+        serviceLogger.setLevel(Level.ALL);
+        appender = new MemoryAppender();
+        appender.setContext((LoggerContext) LoggerFactory.getILoggerFactory());
+        appender.start();
+        serviceLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (batching != null) batching.destroy();
+        appender.detachFrom(serviceLogger);
+        serviceLogger.setLevel(null);
+        MDC.clear();
+    }
+
+    private BatchingAsyncLogger newBatching(int batchSize, long lingerMicros) {
+        LoggerProperties props = new LoggerProperties();
+        props.getAsync().setBatchSize(batchSize);
+        props.getAsync().setBatchLingerMicros(lingerMicros);
+        BatchingAsyncLogger logger = new BatchingAsyncLogger(props);
+        logger.afterPropertiesSet();
+        logger.setBatchMetrics((size, latencyNanos) -> {
+            batchSizes.add(size);
+            latencies.add(latencyNanos);
+        });
+        return logger;
+    }
+
+    private List<String> messages() {
+        return appender.getEvents().stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+
+    /** Waits for the consumer to write {@code count} events while it is still running. */
+    private void awaitEvents(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (appender.getEvents().size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    @DisplayName("Quando cada nível publicado deve registrar no nível correspondente")
+    void whenEachLevelPublishedShouldLogAtMatchingLevel() throws InterruptedException {
+        batching = newBatching(128, 100);
+        batching.logDebug("debug {}", "a");
+        batching.logInfo("info {}", "b");
+        batching.logWarn("warn {}", "c");
+        batching.logError("error {}", "d");
+        batching.destroy();
+        assertThat(appender.contains("debug a", Level.DEBUG)).isTrue();
+        assertThat(appender.contains("info b", Level.INFO)).isTrue();
+        assertThat(appender.contains("warn c", Level.WARN)).isTrue();
+        assertThat(appender.contains("error d", Level.ERROR)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Quando logDeferred publicado deve renderizar a mensagem na thread consumidora")
+    void whenLogDeferredPublishedShouldRenderOnConsumerThread() throws InterruptedException {
+        batching = newBatching(128, 0);
+        batching.logDeferred(LogLevel.WARN, () -> Thread.currentThread().getName());
+        batching.logDeferred(LogLevel.DEBUG, () -> "debug");
+        batching.logDeferred(LogLevel.INFO, () -> "info");
+        batching.destroy();
+        assertThat(appender.contains("aspecta-logger-batch", Level.WARN)).isTrue();
+        assertThat(appender.contains("debug", Level.DEBUG)).isTrue();
+        assertThat(appender.contains("info", Level.INFO)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Quando LogEvent publicado deve enfileirar uma cópia e renderizar na thread consumidora")
+    void whenLogEventPublishedShouldQueueCopyAndRenderOnConsumerThread() throws InterruptedException {
+        batching = newBatching(128, 0);
+        LogEvent event = event(LogLevel.WARN, "first");
+        batching.log(event);
+        // The caller reuses its event right away, as the aspect does
+        event.clear();
+        batching.log(event(LogLevel.INFO, "second"));
+        batching.destroy();
+        assertThat(appender.contains("first@aspecta-logger-batch", Level.WARN)).isTrue();
+        assertThat(appender.contains("second@aspecta-logger-batch", Level.INFO)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Quando mensagem adiada lança exceção deve contá-la como descartada e continuar consumindo")
+    void whenDeferredMessageThrowsShouldCountItAsDroppedAndKeepConsuming() throws InterruptedException {
+        batching = newBatching(128, 0);
+        batching.logDeferred(LogLevel.INFO, () -> { throw new IllegalStateException("boom"); });
+        batching.logInfo("still alive");
+        batching.destroy();
+        assertThat(messages()).containsExactly("still alive");
+        assertThat(batching.droppedEvents()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Quando eventos do mesmo lote têm MDCs diferentes deve restaurar o MDC de cada um")
+    void whenEventsOfSameBatchHaveDifferentMdcShouldRestoreEachOne() throws InterruptedException {
+        batching = newBatching(128, 200_000);
+        MDC.put("traceId", "trace-1");
+        batching.logInfo("first");
+        batching.logInfo("second");
+        MDC.clear();
+        batching.logInfo("none");
+        MDC.put("traceId", "trace-2");
+        batching.logInfo("third");
+        MDC.clear();
+        awaitEvents(4);
+        batching.destroy();
+
+        assertThat(batchSizes).containsExactly(4);
+        List<ILoggingEvent> events = appender.getEvents();
+        assertThat(events.get(0).getMDCPropertyMap()).containsEntry("traceId", "trace-1");
+        assertThat(events.get(1).getMDCPropertyMap()).containsEntry("traceId", "trace-1");
+        assertThat(events.get(2).getMDCPropertyMap()).doesNotContainKey("traceId");
+        assertThat(events.get(3).getMDCPropertyMap()).containsEntry("traceId", "trace-2");
+    }
+
+    @Test
+    @DisplayName("Quando fila excede o tamanho do lote deve dividir em lotes limitados")
+    void whenQueueExceedsBatchSizeShouldSplitIntoBoundedBatches() throws InterruptedException {
+        batching = newBatching(3, 200_000);
+        for (int i = 0; i < 7; i++) batching.logInfo("seq {}", i);
+        awaitEvents(7);
+        batching.destroy();
+
+        assertThat(batchSizes).allSatisfy(size -> assertThat(size).isBetween(1, 3));
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(7);
+        assertThat(latencies).allSatisfy(latency -> assertThat(latency).isPositive());
+        assertThat(messages()).containsExactly(
+                "seq 0", "seq 1", "seq 2", "seq 3", "seq 4", "seq 5", "seq 6");
+    }
+
+    @Test
+    @DisplayName("Quando múltiplos produtores publicam não deve perder eventos")
+    void whenManyProducersPublishShouldNotLoseEvents() throws InterruptedException {
+        batching = newBatching(64, 50);
+        int producers = 4;
+        int perProducer = 500;
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) batching.logInfo("p{}-{}", id, i);
+                done.countDown();
+            }).start();
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        batching.destroy();
+        assertThat(batching.backlog()).isZero();
+        assertThat(appender.getEvents()).hasSize(producers * perProducer);
+        assertThat(batching.droppedEvents()).isZero();
+    }
+
+    @Test
+    @DisplayName("Quando thread consumidora é interrompida deve continuar consumindo")
+    void whenConsumerIsInterruptedShouldKeepConsuming() throws InterruptedException {
+        batching = newBatching(128, 0);
+        Thread consumer = Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.getName().equals("aspecta-logger-batch") && t.isAlive())
+                .findFirst().orElseThrow();
+        consumer.interrupt();
+        Thread.sleep(20);
+        batching.logInfo("after interrupt");
+        batching.destroy();
+        assertThat(messages()).containsExactly("after interrupt");
+    }
+
+    @Test
+    @DisplayName("Quando encerrado deve escrever novos eventos na thread chamadora")
+    void whenShutDownShouldWriteNewEventsOnCallerThread() throws InterruptedException {
+        batching = newBatching(128, 100);
+        batching.destroy();
+        MDC.put("traceId", "late");
+        batching.logWarn("after shutdown");
+        assertThat(MDC.get("traceId")).isEqualTo("late");
+        MDC.clear();
+        batching.logWarn("without mdc");
+        List<ILoggingEvent> events = appender.getEvents();
+        assertThat(events.get(0).getFormattedMessage()).isEqualTo("after shutdown");
+        assertThat(events.get(0).getThreadName()).isEqualTo(Thread.currentThread().getName());
+        assertThat(events.get(0).getMDCPropertyMap()).containsEntry("traceId", "late");
+        assertThat(events.get(1).getMDCPropertyMap()).doesNotContainKey("traceId");
+        assertThat(MDC.getCopyOfContextMap()).isNullOrEmpty();
+    }
+
+    @Test
+    @DisplayName("Quando encerrado durante publicações concorrentes não deve perder eventos")
+    void whenShutDownDuringConcurrentPublishingShouldNotLoseEvents() throws InterruptedException {
+        batching = newBatching(64, 0);
+        int producers = 4;
+        int perProducer = 2_000;
+        CountDownLatch started = new CountDownLatch(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < perProducer; i++) batching.logInfo("p{}-{}", id, i);
+                done.countDown();
+            }).start();
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        batching.destroy();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(batching.backlog()).isZero();
+        assertThat(appender.getEvents()).hasSize(producers * perProducer);
+    }
+
+    @Nested
+    @DisplayName("Política de overflow")
+    class Overflow {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private BatchingAsyncLogger fullQueue(LoggerProperties.OverflowPolicy policy) throws InterruptedException {
+            LoggerProperties props = new LoggerProperties();
+            props.getAsync().setQueueCapacity(4);
+            props.getAsync().setBatchLingerMicros(0);
+            props.getAsync().setOverflowPolicy(policy);
+            props.getAsync().setOverflowTimeoutMs(10);
+            BatchingAsyncLogger full = new BatchingAsyncLogger(props);
+            full.afterPropertiesSet();
+            // The consumer stays inside the first event until released; 4 more fill the queue
+            full.logDeferred(LogLevel.INFO, () -> {
+                entered.countDown();
+                awaitQuietly(release);
+                return "blocker";
+            });
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 4; i++) full.logInfo("queued {}", i);
+            return full;
+        }
+
+        private List<String> drainMessages() throws InterruptedException {
+            release.countDown();
+            batching.destroy();
+            return messages();
+        }
+
+        @Test
+        @DisplayName("Quando política não configurada deve escrever na thread chamadora")
+        void whenPolicyUnsetShouldWriteOnCallerThread() throws InterruptedException {
+            batching = fullQueue(null);
+            MDC.put("traceId", "caller-trace");
+            batching.logWarn("on caller");
+            ILoggingEvent event = appender.getEvents().get(0);
+            assertThat(event.getFormattedMessage()).isEqualTo("on caller");
+            assertThat(event.getThreadName()).isEqualTo(Thread.currentThread().getName());
+            assertThat(event.getMDCPropertyMap()).containsEntry("traceId", "caller-trace");
+            assertThat(MDC.get("traceId")).isEqualTo("caller-trace");
+            assertThat(drainMessages()).hasSize(6);
+            assertThat(batching.droppedEvents()).isZero();
+        }
+
+        @Test
+        @DisplayName("Quando drop-newest deve descartar os novos eventos e contar")
+        void whenDropNewestShouldDiscardNewEventsAndCount() throws InterruptedException {
+            batching = fullQueue(LoggerProperties.OverflowPolicy.DROP_NEWEST);
+            batching.logError("newest");
+            assertThat(batching.droppedEvents()).isEqualTo(1);
+            assertThat(drainMessages()).hasSize(5).doesNotContain("newest");
+        }
+
+        @Test
+        @DisplayName("Quando drop-oldest deve descartar o evento pendente mais antigo")
+        void whenDropOldestShouldDiscardOldestPendingEvent() throws InterruptedException {
+            batching = fullQueue(LoggerProperties.OverflowPolicy.DROP_OLDEST);
+            batching.logInfo("newest");
+            assertThat(batching.droppedEvents()).isEqualTo(1);
+            assertThat(drainMessages()).hasSize(5).contains("blocker", "newest").doesNotContain("queued 0");
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** An event rendered as {@code payload@thread}, to show where rendering happens. */
+    private static LogEvent event(LogLevel level, String payload) {
+        return new LogEvent().fill(LogEvent.Kind.ENTRY, level, "P", "C", "m", -1, null,
+                e -> e.getPayload() + "@" + Thread.currentThread().getName()).payload(payload, null);
+    }
+}
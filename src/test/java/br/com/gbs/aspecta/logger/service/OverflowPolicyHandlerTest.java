@@ -0,0 +1,168 @@
+package br.com.gbs.aspecta.logger.service;
+
+import br.com.gbs.aspecta.logger.configurations.AsyncLoggerConfig;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OverflowPolicyHandler")
+class OverflowPolicyHandlerTest {
+
+    /** Never started, so queued tasks stay queued. */
+    private final ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        Thread.interrupted();
+    }
+
+    private static OverflowPolicyHandler handler(LoggerProperties.OverflowPolicy policy) {
+        LoggerProperties.Async cfg = new LoggerProperties().getAsync();
+        cfg.setOverflowPolicy(policy);
+        cfg.setOverflowTimeoutMs(10);
+        return new OverflowPolicyHandler(cfg);
+    }
+
+    private static Runnable leveled(Level level, List<String> ran) {
+        return new AsyncLoggerService.LogTask(level, () -> ran.add(level.name()), new WriteFailures());
+    }
+
+    @Test
+    @DisplayName("Quando política não definida deve executar na thread chamadora")
+    void whenPolicyUnsetShouldRunOnCallerThread() {
+        List<String> ran = new ArrayList<>();
+        OverflowPolicyHandler handler = handler(null);
+        handler.rejectedExecution(leveled(Level.INFO, ran), executor);
+        assertThat(ran).containsExactly("INFO");
+        assertThat(handler.dropped()).isZero();
+    }
+
+    @Test
+    @DisplayName("Quando drop-newest deve descartar o evento rejeitado e contar")
+    void whenDropNewestShouldDiscardRejectedEventAndCount() {
+        List<String> ran = new ArrayList<>();
+        Runnable queued = () -> {};
+        executor.getQueue().add(queued);
+        OverflowPolicyHandler handler = handler(LoggerProperties.OverflowPolicy.DROP_NEWEST);
+        handler.rejectedExecution(leveled(Level.ERROR, ran), executor);
+        assertThat(ran).isEmpty();
+        assertThat(executor.getQueue()).containsExactly(queued);
+        assertThat(handler.dropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Quando drop-oldest deve descartar o evento mais antigo da fila")
+    void whenDropOldestShouldDiscardOldestQueuedEvent() {
+        executor.getQueue().add(() -> {});
+        Runnable newest = () -> {};
+        OverflowPolicyHandler handler = handler(LoggerProperties.OverflowPolicy.DROP_OLDEST);
+        handler.rejectedExecution(newest, executor);
+        assertThat(executor.getQueue()).containsExactly(newest);
+        assertThat(handler.dropped()).isEqualTo(1);
+
+        executor.getQueue().clear();
+        handler.rejectedExecution(newest, executor);
+        assertThat(handler.dropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Quando drop-below-level deve descartar apenas eventos abaixo do nível")
+    void whenDropBelowLevelShouldDiscardOnlyEventsBelowLevel() {
+        List<String> ran = new ArrayList<>();
+        OverflowPolicyHandler handler = handler(LoggerProperties.OverflowPolicy.DROP_BELOW_LEVEL);
+        handler.rejectedExecution(leveled(Level.INFO, ran), executor);
+        assertThat(handler.dropped()).isEqualTo(1);
+
+        Runnable warn = leveled(Level.WARN, ran);
+        handler.rejectedExecution(warn, executor);
+        Runnable plain = () -> {};
+        handler.rejectedExecution(plain, executor);
+        // WARN waited and found room; the unleveled task waited for the now full queue
+        assertThat(executor.getQueue()).containsExactly(warn);
+        assertThat(handler.dropped()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Quando block e a fila continua cheia deve descartar após o timeout")
+    void whenBlockAndQueueStaysFullShouldDiscardAfterTimeout() {
+        executor.getQueue().add(() -> {});
+        OverflowPolicyHandler handler = handler(LoggerProperties.OverflowPolicy.BLOCK);
+        long start = System.nanoTime();
+        handler.rejectedExecution(() -> {}, executor);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(handler.dropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Quando block interrompido deve descartar e preservar a interrupção")
+    void whenBlockInterruptedShouldDiscardAndKeepInterrupt() {
+        executor.getQueue().add(() -> {});
+        OverflowPolicyHandler handler = handler(LoggerProperties.OverflowPolicy.BLOCK);
+        Thread.currentThread().interrupt();
+        handler.rejectedExecution(() -> {}, executor);
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        assertThat(handler.dropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Quando executor encerrado deve descartar e contar")
+    void whenExecutorShutDownShouldDiscardAndCount() {
+        List<String> ran = new ArrayList<>();
+        executor.shutdown();
+        OverflowPolicyHandler handler = handler(LoggerProperties.OverflowPolicy.CALLER_RUNS);
+        handler.rejectedExecution(leveled(Level.ERROR, ran), executor);
+        assertThat(ran).isEmpty();
+        assertThat(handler.dropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Quando fila do aspectaLoggerExecutor cheia deve aplicar a política pelo nível do evento")
+    void whenAspectaExecutorQueueFullShouldApplyPolicyByEventLevel() throws InterruptedException {
+        LoggerProperties props = new LoggerProperties();
+        props.getAsync().setCorePoolSize(1);
+        props.getAsync().setMaxPoolSize(1);
+        props.getAsync().setQueueCapacity(1);
+        props.getAsync().setOverflowPolicy(LoggerProperties.OverflowPolicy.DROP_BELOW_LEVEL);
+        props.getAsync().setOverflowTimeoutMs(10);
+        AsyncLoggerConfig config = new AsyncLoggerConfig(props);
+        OverflowPolicyHandler handler = config.aspectaLoggerOverflowHandler();
+        ThreadPoolTaskExecutor pool = config.aspectaLoggerExecutor();
+        pool.getThreadPoolExecutor().setRejectedExecutionHandler(handler);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            AsyncLoggerService service = new AsyncLoggerService(pool, handler);
+            pool.execute(() -> awaitQuietly(release));
+            service.logInfo("queued");
+            service.logDebug("dropped");
+            assertThat(service.droppedEvents()).isEqualTo(1);
+            // Not a log event: treated as important, waits and is dropped only on timeout
+            pool.execute(() -> {});
+            assertThat(service.droppedEvents()).isEqualTo(2);
+        } finally {
+            release.countDown();
+            pool.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
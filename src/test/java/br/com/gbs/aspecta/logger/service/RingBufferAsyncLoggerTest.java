@@ -0,0 +1,337 @@
+package br.com.gbs.aspecta.logger.service;
+
+import br.com.gbs.aspecta.logger.anotations.LogLevel;
+import br.com.gbs.aspecta.logger.aspect.LogEvent;
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.util.MemoryAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RingBufferAsyncLogger")
+class RingBufferAsyncLoggerTest {
+
+    private Logger serviceLogger;
+    private MemoryAppender appender;
+    private RingBufferAsyncLogger ring;
+
+    @BeforeEach
+    void setUp() {
+        serviceLogger = (Logger) LoggerFactory.getLogger(AsyncLoggerService.class);
+        serviceLogger.setLevel(Level.ALL);
+        appender = new MemoryAppender();
+        appender.setContext((LoggerContext) LoggerFactory.getILoggerFactory());
+        appender.start();
+        serviceLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (ring != null) ring.destroy();
+        appender.detachFrom(serviceLogger);
+        serviceLogger.setLevel(null);
+        MDC.clear();
+    }
+
+    private RingBufferAsyncLogger newRing(int size, LoggerProperties.WaitStrategy strategy) {
+        LoggerProperties props = new LoggerProperties();
+        props.getAsync().setRingBufferSize(size);
+        props.getAsync().setWaitStrategy(strategy);
+        return started(new RingBufferAsyncLogger(props));
+    }
+
+    private static RingBufferAsyncLogger started(RingBufferAsyncLogger ring) {
+        ring.afterPropertiesSet();
+        return ring;
+    }
+
+    @Test
+    @DisplayName("Quando tamanho não é potência de dois deve arredondar para cima")
+    void whenSizeIsNotPowerOfTwoShouldRoundUp() {
+        ring = newRing(100, LoggerProperties.WaitStrategy.PARK);
+        assertThat(ring.capacity()).isEqualTo(128);
+    }
+
+    @Test
+    @DisplayName("Quando cada nível publicado deve registrar no nível correspondente")
+    void whenEachLevelPublishedShouldLogAtMatchingLevel() throws InterruptedException {
+        ring = newRing(16, LoggerProperties.WaitStrategy.PARK);
+        ring.logDebug("debug {}", "a");
+        ring.logInfo("info {}", "b");
+        ring.logWarn("warn {}", "c");
+        ring.logError("error {}", "d");
+        ring.destroy();
+        assertThat(appender.contains("debug a", Level.DEBUG)).isTrue();
+        assertThat(appender.contains("info b", Level.INFO)).isTrue();
+        assertThat(appender.contains("warn c", Level.WARN)).isTrue();
+        assertThat(appender.contains("error d", Level.ERROR)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Quando logDeferred publicado deve renderizar a mensagem na thread consumidora")
+    void whenLogDeferredPublishedShouldRenderOnConsumerThread() throws InterruptedException {
+        ring = newRing(16, LoggerProperties.WaitStrategy.PARK);
+        ring.logDeferred(LogLevel.WARN, () -> Thread.currentThread().getName());
+        ring.logDeferred(LogLevel.DEBUG, () -> "debug");
+        ring.logDeferred(LogLevel.INFO, () -> "info");
+        ring.destroy();
+        assertThat(appender.contains("aspecta-logger-ring", Level.WARN)).isTrue();
+        assertThat(appender.contains("debug", Level.DEBUG)).isTrue();
+        assertThat(appender.contains("info", Level.INFO)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Quando LogEvent publicado deve copiá-lo para o slot e renderizar na thread consumidora")
+    void whenLogEventPublishedShouldCopyIntoSlotAndRenderOnConsumerThread() throws InterruptedException {
+        ring = newRing(16, LoggerProperties.WaitStrategy.PARK);
+        LogEvent event = event(LogLevel.WARN, "first");
+        ring.log(event);
+        // The caller reuses its event right away, as the aspect does
+        event.clear();
+        ring.log(event(LogLevel.DEBUG, "second"));
+        ring.log(event(LogLevel.INFO, "third"));
+        ring.destroy();
+        assertThat(appender.contains("first@aspecta-logger-ring", Level.WARN)).isTrue();
+        assertThat(appender.contains("second@aspecta-logger-ring", Level.DEBUG)).isTrue();
+        assertThat(appender.contains("third@aspecta-logger-ring", Level.INFO)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Quando mensagem adiada lança exceção deve contá-la como descartada e continuar consumindo")
+    void whenDeferredMessageThrowsShouldCountItAsDroppedAndKeepConsuming() throws InterruptedException {
+        ring = newRing(16, LoggerProperties.WaitStrategy.PARK);
+        ring.logDeferred(LogLevel.INFO, () -> { throw new IllegalStateException("boom"); });
+        ring.logInfo("still alive");
+        ring.destroy();
+        assertThat(appender.getEvents()).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("still alive");
+        assertThat(ring.droppedEvents()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Quando MDC presente no produtor deve estar disponível ao escrever o evento")
+    void whenMdcPresentOnProducerShouldBeAvailableWhenWriting() throws InterruptedException {
+        ring = newRing(16, LoggerProperties.WaitStrategy.YIELD);
+        MDC.put("traceId", "ring-trace-1");
+        ring.logInfo("with mdc");
+        MDC.clear();
+        ring.logInfo("without mdc");
+        ring.destroy();
+        List<ILoggingEvent> events = appender.getEvents();
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getMDCPropertyMap()).containsEntry("traceId", "ring-trace-1");
+        assertThat(events.get(1).getMDCPropertyMap()).doesNotContainKey("traceId");
+    }
+
+    @ParameterizedTest
+    @EnumSource(LoggerProperties.WaitStrategy.class)
+    @DisplayName("Quando múltiplos produtores excedem a capacidade não deve perder eventos")
+    void whenManyProducersExceedCapacityShouldNotLoseEvents(LoggerProperties.WaitStrategy strategy)
+            throws InterruptedException {
+        ring = newRing(16, strategy);
+        int producers = 4;
+        int perProducer = 500;
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) ring.logInfo("p{}-{}", id, i);
+                done.countDown();
+            }).start();
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        ring.destroy();
+        assertThat(ring.backlog()).isZero();
+        assertThat(appender.getEvents()).hasSize(producers * perProducer);
+    }
+
+    @Test
+    @DisplayName("Quando eventos de um mesmo produtor deve preservar a ordem")
+    void whenSingleProducerShouldPreserveOrder() throws InterruptedException {
+        ring = newRing(16, LoggerProperties.WaitStrategy.SPIN);
+        for (int i = 0; i < 100; i++) ring.logInfo("seq {}", i);
+        ring.destroy();
+        List<ILoggingEvent> events = appender.getEvents();
+        for (int i = 0; i < 100; i++) {
+            assertThat(events.get(i).getFormattedMessage()).isEqualTo("seq " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Quando encerrado deve escrever novos eventos na thread chamadora preservando seu MDC")
+    void whenShutDownShouldWriteNewEventsOnCallerThreadKeepingItsMdc() throws InterruptedException {
+        ring = newRing(16, LoggerProperties.WaitStrategy.PARK);
+        ring.destroy();
+        MDC.put("traceId", "late");
+        ring.logWarn("after shutdown");
+        ILoggingEvent event = appender.getEvents().get(0);
+        assertThat(event.getFormattedMessage()).isEqualTo("after shutdown");
+        assertThat(event.getThreadName()).isEqualTo(Thread.currentThread().getName());
+        assertThat(event.getMDCPropertyMap()).containsEntry("traceId", "late");
+        assertThat(MDC.get("traceId")).isEqualTo("late");
+    }
+
+    @Nested
+    @DisplayName("Política de overflow")
+    class Overflow {
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private RingBufferAsyncLogger fullRing(LoggerProperties.OverflowPolicy policy) {
+            return fullRing(policy, 10);
+        }
+
+        private RingBufferAsyncLogger fullRing(LoggerProperties.OverflowPolicy policy, long timeoutMs) {
+            LoggerProperties props = new LoggerProperties();
+            props.getAsync().setRingBufferSize(16);
+            props.getAsync().setOverflowPolicy(policy);
+            props.getAsync().setOverflowTimeoutMs(timeoutMs);
+            RingBufferAsyncLogger full = started(new RingBufferAsyncLogger(props));
+            // The consumer stays inside the first event until released; 15 more fill the ring
+            full.logDeferred(LogLevel.INFO, () -> {
+                awaitQuietly(release);
+                return "blocker";
+            });
+            for (int i = 0; i < 15; i++) full.logInfo("queued {}", i);
+            return full;
+        }
+
+        private List<String> drainMessages() throws InterruptedException {
+            release.countDown();
+            ring.destroy();
+            return appender.getEvents().stream().map(ILoggingEvent::getFormattedMessage).toList();
+        }
+
+        @Test
+        @DisplayName("Quando drop-newest deve descartar os novos eventos e contar")
+        void whenDropNewestShouldDiscardNewEventsAndCount() throws InterruptedException {
+            ring = fullRing(LoggerProperties.OverflowPolicy.DROP_NEWEST);
+            ring.logError("newest 1");
+            ring.logError("newest 2");
+            assertThat(ring.droppedEvents()).isEqualTo(2);
+            assertThat(drainMessages()).hasSize(16).doesNotContain("newest 1", "newest 2");
+        }
+
+        @Test
+        @DisplayName("Quando caller-runs deve escrever na thread chamadora")
+        void whenCallerRunsShouldWriteOnCallerThread() throws InterruptedException {
+            ring = fullRing(LoggerProperties.OverflowPolicy.CALLER_RUNS);
+            MDC.put("traceId", "caller-trace");
+            ring.logWarn("on caller");
+            ILoggingEvent event = appender.getEvents().get(0);
+            assertThat(event.getFormattedMessage()).isEqualTo("on caller");
+            assertThat(event.getThreadName()).isEqualTo(Thread.currentThread().getName());
+            assertThat(MDC.get("traceId")).isEqualTo("caller-trace");
+            assertThat(drainMessages()).hasSize(17);
+            assertThat(ring.droppedEvents()).isZero();
+        }
+
+        @Test
+        @DisplayName("Quando block com o anel cheio deve descartar após o timeout")
+        void whenBlockWithFullRingShouldDiscardAfterTimeout() throws InterruptedException {
+            ring = fullRing(LoggerProperties.OverflowPolicy.BLOCK);
+            ring.logError("timed out");
+            assertThat(ring.droppedEvents()).isEqualTo(1);
+            assertThat(drainMessages()).hasSize(16).doesNotContain("timed out");
+        }
+
+        @Test
+        @DisplayName("Quando drop-below-level deve descartar eventos menores e aguardar os demais")
+        void whenDropBelowLevelShouldDiscardLowerEventsAndWaitForOthers() throws InterruptedException {
+            ring = fullRing(LoggerProperties.OverflowPolicy.DROP_BELOW_LEVEL, 5_000);
+            ring.logInfo("low");
+            assertThat(ring.droppedEvents()).isEqualTo(1);
+            Thread producer = new Thread(() -> ring.logError("high"));
+            producer.start();
+            release.countDown();
+            producer.join(5_000);
+            assertThat(drainMessages()).contains("high").doesNotContain("low");
+        }
+
+        @Test
+        @DisplayName("Quando encerrado com o anel cheio deve liberar o produtor em espera na thread chamadora")
+        void whenShutDownWithFullRingShouldReleaseWaitingProducerOnCallerThread() throws InterruptedException {
+            ring = fullRing(null);
+            Thread producer = new Thread(() -> ring.logWarn("stuck"), "waiting-producer");
+            producer.start();
+            Thread.sleep(50);
+            Thread destroyer = new Thread(this::destroyQuietly);
+            destroyer.start();
+            producer.join(5_000);
+            assertThat(producer.isAlive()).isFalse();
+            assertThat(appender.getEvents()).singleElement()
+                    .satisfies(event -> assertThat(event.getThreadName()).isEqualTo("waiting-producer"));
+            release.countDown();
+            destroyer.join(5_000);
+            assertThat(appender.getEvents()).hasSize(17);
+        }
+
+        @Test
+        @DisplayName("Quando encerrado com eventos pendentes deve escrevê-los antes de retornar")
+        void whenShutDownWithPendingEventsShouldWriteThemBeforeReturning() throws InterruptedException {
+            ring = fullRing(null);
+            Thread destroyer = new Thread(this::destroyQuietly);
+            destroyer.start();
+            // Let the consumer see the shutdown while it is still inside the blocker
+            Thread.sleep(50);
+            release.countDown();
+            destroyer.join(5_000);
+            assertThat(destroyer.isAlive()).isFalse();
+            assertThat(ring.backlog()).isZero();
+            assertThat(appender.getEvents()).hasSize(16);
+        }
+
+        private void destroyQuietly() {
+            try {
+                ring.destroy();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Test
+        @DisplayName("Quando drop-oldest deve pular o evento pendente mais antigo")
+        void whenDropOldestShouldSkipOldestPendingEvent() throws InterruptedException {
+            ring = fullRing(LoggerProperties.OverflowPolicy.DROP_OLDEST);
+            Thread producer = new Thread(() -> ring.logInfo("newest"));
+            producer.start();
+            // Wait for the producer to find the ring full and ask for a skip
+            Thread.sleep(50);
+            release.countDown();
+            producer.join(5_000);
+            List<String> messages = drainMessages();
+            assertThat(ring.droppedEvents()).isEqualTo(1);
+            assertThat(messages).hasSize(16).contains("blocker", "newest").doesNotContain("queued 0");
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** An event rendered as {@code payload@thread}, to show where rendering happens. */
+    private static LogEvent event(LogLevel level, String payload) {
+        return new LogEvent().fill(LogEvent.Kind.ENTRY, level, "P", "C", "m", -1, null,
+                e -> e.getPayload() + "@" + Thread.currentThread().getName()).payload(payload, null);
+    }
+}
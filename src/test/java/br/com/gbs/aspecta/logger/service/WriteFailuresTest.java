@@ -0,0 +1,68 @@
+package br.com.gbs.aspecta.logger.service;
+
+import br.com.gbs.aspecta.util.MemoryAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WriteFailures")
+class WriteFailuresTest {
+
+    private MemoryAppender appender;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(WriteFailures.class);
+        appender = new MemoryAppender();
+        appender.setContext((LoggerContext) LoggerFactory.getILoggerFactory());
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        appender.detachFrom(logger);
+    }
+
+    @Test
+    @DisplayName("Quando falhas seguidas deve contar todas e reportar só a primeira dentro do intervalo")
+    void whenRepeatedFailuresShouldCountAllAndReportOnlyFirstWithinInterval() {
+        WriteFailures failures = new WriteFailures();
+
+        failures.record(new IllegalStateException("boom"));
+        failures.record(new IllegalStateException("again"));
+
+        assertThat(failures.count()).isEqualTo(2);
+        assertThat(appender.getEvents()).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getFormattedMessage()).contains("1 lost since startup", "every 60 s");
+            assertThat(event.getThrowableProxy().getMessage()).isEqualTo("boom");
+        });
+    }
+
+    @Test
+    @DisplayName("Quando intervalo expirado deve reportar novamente com o total acumulado")
+    void whenIntervalElapsedShouldReportAgainWithRunningTotal() throws InterruptedException {
+        WriteFailures failures = new WriteFailures(TimeUnit.MILLISECONDS.toNanos(1));
+
+        failures.record(new IllegalStateException("boom"));
+        Thread.sleep(5);
+        failures.record(new IllegalStateException("again"));
+
+        assertThat(appender.getEvents()).extracting(ILoggingEvent::getFormattedMessage)
+                .satisfiesExactly(
+                        message -> assertThat(message).contains("1 lost"),
+                        message -> assertThat(message).contains("2 lost"));
+    }
+}
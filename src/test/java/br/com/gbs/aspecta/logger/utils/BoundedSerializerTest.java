@@ -0,0 +1,177 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import br.com.gbs.aspecta.logger.anotations.Sensitive;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoundedSerializer")
+class BoundedSerializerTest {
+
+    private static final SerializationLimits DEFAULTS = new SerializationLimits(10_000, 100, 8, true);
+
+    private static BoundedSerializer write(Object value, SerializationLimits limits) {
+        return new BoundedSerializer(limits).write(value);
+    }
+
+    private static String serialize(Object value) {
+        return write(value, DEFAULTS).toString();
+    }
+
+    @Test
+    @DisplayName("Quando dentro dos limites deve reproduzir deepToString e toString das coleções")
+    void whenWithinLimitsShouldMatchDeepToStringAndCollectionToString() {
+        Object[] nested = {"a", null, new int[]{1, 2}, new Object[]{1L, 'c'}};
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("k", List.of("x", "y"));
+        map.put("n", null);
+
+        assertThat(serialize(nested)).isEqualTo(Arrays.deepToString(nested));
+        assertThat(serialize(map)).isEqualTo(map.toString());
+        assertThat(serialize(List.of(1, 2))).isEqualTo("[1, 2]");
+        assertThat(serialize(new long[]{1L})).isEqualTo("[1]");
+        assertThat(serialize(new double[]{1.5})).isEqualTo("[1.5]");
+        assertThat(serialize(new float[]{2.5f})).isEqualTo("[2.5]");
+        assertThat(serialize(new boolean[]{true})).isEqualTo("[true]");
+        assertThat(serialize(new char[]{'a', 'b'})).isEqualTo("[a, b]");
+        assertThat(serialize(new short[]{7})).isEqualTo("[7]");
+        assertThat(serialize(42)).isEqualTo("42");
+        assertThat(serialize(null)).isEqualTo("null");
+    }
+
+    @Test
+    @DisplayName("Quando byte[] deve resumir pelo tamanho ou listar conforme configuração")
+    void whenByteArrayShouldSummarizeOrListAccordingToConfig() {
+        assertThat(serialize(new byte[1_048_576])).isEqualTo("byte[1048576]");
+        assertThat(write(new byte[]{1, 2}, new SerializationLimits(100, 100, 8, false)).toString())
+                .isEqualTo("[1, 2]");
+    }
+
+    @Test
+    @DisplayName("Quando texto excede maxChars deve cortar e sinalizar truncamento")
+    void whenTextExceedsMaxCharsShouldCutAndFlagTruncation() {
+        BoundedSerializer s = write("x".repeat(1000), new SerializationLimits(16, 100, 8, true));
+        assertThat(s.toString()).hasSize(16);
+        assertThat(s.truncated()).isTrue();
+
+        BoundedSerializer exact = write("x".repeat(16), new SerializationLimits(16, 100, 8, true));
+        assertThat(exact.toString()).hasSize(16);
+        assertThat(exact.truncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Quando coleção excede maxElements deve informar quantos elementos faltaram")
+    void whenCollectionExceedsMaxElementsShouldCountRemaining() {
+        SerializationLimits limits = new SerializationLimits(10_000, 2, 8, true);
+        assertThat(write(List.of(1, 2, 3, 4), limits).toString()).isEqualTo("[1, 2, ... (2 more)]");
+        assertThat(write(new int[]{1, 2, 3}, limits).toString()).isEqualTo("[1, 2, ... (1 more)]");
+        Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        assertThat(write(map, limits).toString()).isEqualTo("{a=1, b=2, ... (1 more)}");
+    }
+
+    @Test
+    @DisplayName("Quando aninhamento excede maxDepth deve substituir pelo marcador")
+    void whenNestingExceedsMaxDepthShouldWritePlaceholder() {
+        SerializationLimits limits = new SerializationLimits(10_000, 100, 2, true);
+        Object value = List.of(List.of(List.of(1), Map.of("k", 1)), new Object[]{Map.of("k", 1)});
+        assertThat(write(value, limits).toString()).isEqualTo("[[[...], {...}], [{...}]]");
+    }
+
+    @Test
+    @DisplayName("Quando referência cíclica deve escrever marcador em vez de recursão infinita")
+    void whenCyclicReferenceShouldWritePlaceholder() {
+        List<Object> list = new ArrayList<>();
+        list.add("a");
+        list.add(list);
+        Map<String, Object> map = new HashMap<>();
+        map.put("self", map);
+        Object[] array = new Object[1];
+        array[0] = array;
+
+        assertThat(serialize(list)).isEqualTo("[a, [...]]");
+        assertThat(serialize(map)).isEqualTo("{self={...}}");
+        assertThat(serialize(array)).isEqualTo("[[...]]");
+    }
+
+    @Test
+    @DisplayName("Quando orçamento esgotado deve parar de percorrer os elementos")
+    void whenBudgetExhaustedShouldStopWalkingElements() {
+        AtomicInteger visited = new AtomicInteger();
+        Collection<String> huge = new AbstractCollection<>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new Iterator<>() {
+                    @Override public boolean hasNext() { return true; }
+                    @Override public String next() { visited.incrementAndGet(); return "0123456789"; }
+                };
+            }
+
+            @Override
+            public int size() {
+                return Integer.MAX_VALUE;
+            }
+        };
+
+        BoundedSerializer s = write(huge, new SerializationLimits(50, 1_000_000, 8, true));
+
+        assertThat(s.truncated()).isTrue();
+        assertThat(s.toString()).hasSize(50).startsWith("[0123456789, ");
+        assertThat(visited.get()).isLessThan(10);
+    }
+
+    @Test
+    @DisplayName("Quando toString de objeto excede o orçamento deve copiar apenas o que cabe")
+    void whenObjectToStringExceedsBudgetShouldCopyOnlyWhatFits() {
+        Object big = new Object() {
+            @Override
+            public String toString() {
+                return "y".repeat(500);
+            }
+        };
+        BoundedSerializer s = write(new Object[]{big, "after"}, new SerializationLimits(20, 100, 8, true));
+        assertThat(s.toString()).isEqualTo("[" + "y".repeat(19));
+        assertThat(s.truncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Quando limites sem overrides deve retornar a mesma instância")
+    void whenNoOverridesShouldReturnSameLimits() {
+        assertThat(DEFAULTS.withOverrides(-1, -1, -1)).isSameAs(DEFAULTS);
+        assertThat(DEFAULTS.withOverrides(100, -1, 3))
+                .isEqualTo(new SerializationLimits(100, 100, 3, true));
+        assertThat(DEFAULTS.withOverrides(-1, 5, -1))
+                .isEqualTo(new SerializationLimits(10_000, 5, 8, true));
+    }
+
+    record Secret(@Sensitive String value, Object next) {
+    }
+
+    @Test
+    @DisplayName("Quando classe com @Sensitive e mascaramento ativo deve respeitar ciclos e profundidade")
+    void whenAnnotatedClassMaskedShouldHonorCyclesAndDepth() {
+        List<Object> holder = new ArrayList<>();
+        Secret secret = new Secret("s3cret", holder);
+        holder.add(secret);
+        assertThat(new BoundedSerializer(DEFAULTS, true).write(secret).toString())
+                .isEqualTo("Secret[value=***, next=[Secret[...]]]");
+        assertThat(new BoundedSerializer(new SerializationLimits(100, 100, 1, true), true)
+                .write(List.of(secret)).toString()).isEqualTo("[Secret[...]]");
+        assertThat(new BoundedSerializer(DEFAULTS).write(new Secret("s3cret", null)).toString())
+                .isEqualTo("Secret[value=s3cret, next=null]");
+    }
+}
@@ -0,0 +1,217 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JsonArgumentSerializer")
+class JsonArgumentSerializerTest {
+
+    private static final SerializationLimits DEFAULTS = new SerializationLimits(10_000, 100, 8, true);
+    private static final SensitiveKeyMatcher MATCHER = SensitiveKeyMatcher.compile(List.of("password", "cpf"));
+
+    private static String json(Object value) {
+        return new JsonArgumentSerializer(DEFAULTS, MATCHER).write(value).toString();
+    }
+
+    record Customer(String name, String cpf, Address address) {
+    }
+
+    record Address(String street, int number) {
+    }
+
+    static class Login {
+        private final String user;
+        private final String password;
+
+        Login(String user, String password) {
+            this.user = user;
+            this.password = password;
+        }
+
+        public String getUser() { return user; }
+        public String getPassword() { return password; }
+        @JsonProperty("hint") public String getReminder() { return "starts with a"; }
+        @JsonIgnore public String getInternal() { return "hidden"; }
+    }
+
+    static class Failing {
+        public String getBroken() { throw new IllegalStateException("lazy"); }
+    }
+
+    static class Node {
+        public Node getSelf() { return this; }
+    }
+
+    static class Conflicting {
+        @JsonProperty("value") public String getFirst() { return "a"; }
+        @JsonProperty("value") public String getSecond() { return "b"; }
+        @Override public String toString() { return "conflicting"; }
+    }
+
+    enum Status { ACTIVE }
+
+    @Test
+    @DisplayName("Quando bean com propriedade sensível deve mascarar pelo nome real da propriedade")
+    void whenBeanHasSensitivePropertyShouldMaskByRealName() {
+        assertThat(json(new Customer("Ana", "123.456.789-00", new Address("Rua A", 10))))
+                .isEqualTo("{\"name\":\"Ana\",\"cpf\":\"***\",\"address\":{\"street\":\"Rua A\",\"number\":10}}");
+        assertThat(json(new Login("ana", "s3cret")))
+                .isEqualTo("{\"user\":\"ana\",\"password\":\"***\",\"hint\":\"starts with a\"}");
+    }
+
+    @Test
+    @DisplayName("Quando mascaramento desligado deve escrever os valores originais")
+    void whenMaskingOffShouldWriteOriginalValues() {
+        String result = new JsonArgumentSerializer(DEFAULTS, null).write(new Login("ana", "s3cret")).toString();
+        assertThat(result).contains("\"password\":\"s3cret\"");
+    }
+
+    @Test
+    @DisplayName("Quando mapa com chave sensível deve mascarar o valor")
+    void whenMapHasSensitiveKeyShouldMaskValue() {
+        Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("Password", List.of("a", "b"));
+        map.put(1, null);
+        map.put("status", Status.ACTIVE);
+        assertThat(json(map)).isEqualTo("{\"Password\":\"***\",\"1\":null,\"status\":\"ACTIVE\"}");
+    }
+
+    @Test
+    @DisplayName("Quando arrays e escalares deve escrever tipos JSON nativos")
+    void whenArraysAndScalarsShouldWriteNativeJsonTypes() {
+        Object[] values = {1, 2L, (short) 3, (byte) 4, 1.5, 2.5f, new BigDecimal("9.90"), BigInteger.TEN,
+                new AtomicLong(7), true, 'c', LocalDate.of(2024, 1, 2), "text"};
+        assertThat(json(values)).isEqualTo(
+                "[1,2,3,4,1.5,2.5,9.90,10,\"7\",true,\"c\",\"2024-01-02\",\"text\"]");
+        assertThat(json(new int[]{1, 2})).isEqualTo("[1,2]");
+        assertThat(json(new long[]{3})).isEqualTo("[3]");
+        assertThat(json(new double[]{0.5})).isEqualTo("[0.5]");
+        assertThat(json(new float[]{1.5f})).isEqualTo("[1.5]");
+        assertThat(json(new boolean[]{false})).isEqualTo("[false]");
+        assertThat(json(new short[]{5})).isEqualTo("[5]");
+        assertThat(json(new char[]{'o', 'k'})).isEqualTo("\"ok\"");
+        assertThat(json(new byte[64])).isEqualTo("\"byte[64]\"");
+        assertThat(new JsonArgumentSerializer(new SerializationLimits(100, 100, 8, false), null)
+                .write(new byte[]{1, 2}).toString()).isEqualTo("[1,2]");
+    }
+
+    @Test
+    @DisplayName("Quando limites de elementos e profundidade excedidos deve resumir")
+    void whenElementAndDepthLimitsExceededShouldSummarize() {
+        SerializationLimits limits = new SerializationLimits(10_000, 2, 2, true);
+        Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        assertThat(new JsonArgumentSerializer(limits, MATCHER).write(List.of(1, 2, 3)).toString())
+                .isEqualTo("[1,2,\"... (1 more)\"]");
+        assertThat(new JsonArgumentSerializer(limits, MATCHER).write(new int[]{1, 2, 3, 4}).toString())
+                .isEqualTo("[1,2,\"... (2 more)\"]");
+        assertThat(new JsonArgumentSerializer(limits, MATCHER).write(map).toString())
+                .isEqualTo("{\"a\":1,\"b\":2,\"...\":\"(1 more)\"}");
+        assertThat(new JsonArgumentSerializer(limits, MATCHER).write(List.of(List.of(List.of(1)), Map.of())).toString())
+                .isEqualTo("[[\"[...]\"],{}]");
+    }
+
+    @Test
+    @DisplayName("Quando referência cíclica deve escrever marcador")
+    void whenCyclicReferenceShouldWritePlaceholder() {
+        List<Object> list = new ArrayList<>();
+        list.add(list);
+        assertThat(json(list)).isEqualTo("[\"[...]\"]");
+        assertThat(json(new Node())).isEqualTo("{\"self\":\"{...}\"}");
+    }
+
+    @Test
+    @DisplayName("Quando getter lança exceção deve registrar o tipo da exceção")
+    void whenGetterThrowsShouldWriteExceptionType() {
+        assertThat(json(new Failing())).isEqualTo("{\"broken\":\"<IllegalStateException>\"}");
+    }
+
+    @Test
+    @DisplayName("Quando saída excede maxChars deve cortar e parar de percorrer")
+    void whenOutputExceedsMaxCharsShouldCutAndStopWalking() {
+        List<String> big = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) big.add("value-" + i);
+        JsonArgumentSerializer s = new JsonArgumentSerializer(new SerializationLimits(32, 100_000, 8, true), null)
+                .write(big);
+        assertThat(s.truncated()).isTrue();
+        assertThat(s.toString()).hasSize(32).startsWith("[\"value-0\",\"value-1\"");
+
+        JsonArgumentSerializer text = new JsonArgumentSerializer(new SerializationLimits(20, 100, 8, true), null)
+                .write(List.of("x".repeat(1000)));
+        assertThat(text.truncated()).isTrue();
+        assertThat(text.toString()).isEqualTo("[\"" + "x".repeat(18));
+    }
+
+    @Test
+    @DisplayName("Quando valor escalar não deve ser tratado como estrutura")
+    void whenScalarShouldNotBeStructured() {
+        assertThat(JsonArgumentSerializer.isStructured(null)).isFalse();
+        assertThat(JsonArgumentSerializer.isStructured("{\"a\":1}")).isFalse();
+        assertThat(JsonArgumentSerializer.isStructured(Status.ACTIVE)).isFalse();
+        assertThat(JsonArgumentSerializer.isStructured(new Object())).isFalse();
+        assertThat(JsonArgumentSerializer.isStructured(List.of())).isTrue();
+        assertThat(JsonArgumentSerializer.isStructured(new Address("a", 1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Quando plano resolvido deve ser reutilizado e recalcular sensibilidade ao trocar chaves")
+    void whenPlanResolvedShouldBeReusedAndRecomputeSensitivityForNewKeys() {
+        SerializationPlan plan = SerializationPlan.of(Customer.class);
+        assertThat(SerializationPlan.of(Customer.class)).isSameAs(plan);
+        boolean[] flags = plan.sensitive(MATCHER);
+        assertThat(plan.sensitive(MATCHER)).isSameAs(flags).containsExactly(false, true, false);
+        assertThat(plan.sensitive(SensitiveKeyMatcher.compile(List.of("name"))))
+                .containsExactly(true, false, false);
+        // Each matcher keeps its own flags, so alternating exclusions do not recompute them
+        assertThat(plan.sensitive(MATCHER)).isSameAs(flags);
+    }
+
+    @Test
+    @DisplayName("Quando classe não introspectável deve ser escrita com toString")
+    void whenClassNotIntrospectableShouldBeWrittenWithToString() {
+        assertThat(SerializationPlan.of(Conflicting.class).kind).isEqualTo(SerializationPlan.Kind.SCALAR);
+        assertThat(json(List.of(new Conflicting()))).isEqualTo("[\"conflicting\"]");
+    }
+
+    @Test
+    @DisplayName("Quando escrita falha deve propagar UncheckedIOException")
+    void whenWriteFailsShouldThrowUncheckedIOException() {
+        JsonArgumentSerializer.BuilderWriter failing = new JsonArgumentSerializer.BuilderWriter(16) {
+            @Override
+            public void close() throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        assertThatThrownBy(() -> new JsonArgumentSerializer(DEFAULTS, null, failing).write(List.of(1)))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    @DisplayName("Quando escrito pela API de Writer deve acumular no StringBuilder")
+    void whenWrittenThroughWriterApiShouldAccumulateInStringBuilder() throws IOException {
+        JsonArgumentSerializer.BuilderWriter writer = new JsonArgumentSerializer.BuilderWriter(8);
+        writer.write("[abc]", 1, 3);
+        writer.write('!');
+        writer.append("?").flush();
+        writer.close();
+        assertThat(writer.buffer).hasToString("abc!?");
+    }
+}
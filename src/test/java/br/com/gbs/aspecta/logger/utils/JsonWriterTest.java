@@ -0,0 +1,109 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JsonWriter")
+class JsonWriterTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    @DisplayName("Quando campos de texto e número escritos deve gerar objeto JSON na ordem")
+    void whenStringAndNumberFieldsWrittenShouldProduceOrderedObject() {
+        String json = JsonWriter.local().beginObject()
+                .field("event", "exit")
+                .field("durationMs", 42L)
+                .field("result", (String) null)
+                .endObject().toString();
+        assertThat(json).isEqualTo("{\"event\":\"exit\",\"durationMs\":42,\"result\":\"\"}");
+    }
+
+    @Test
+    @DisplayName("Quando valor contém caracteres de controle deve escapar e gerar JSON válido")
+    void whenValueContainsControlCharactersShouldEscapeAndStayValid() throws IOException {
+        String raw = "line1\nline2\r\t\"quoted\" back\\slash \b\f\u0000\u001f end";
+        String json = JsonWriter.local().beginObject().field("args", raw).endObject().toString();
+
+        assertThat(json).doesNotContain("\n", "\r", "\t", "\u0000");
+        assertThat(json).contains("line1\\nline2\\r\\t\\\"quoted\\\" back\\\\slash \\b\\f\\u0000\\u001f end");
+        assertThat(MAPPER.readTree(json).get("args").asText()).isEqualTo(raw);
+    }
+
+    @Test
+    @DisplayName("Quando todos os caracteres de controle escritos deve ser lido de volta sem perdas")
+    void whenEveryControlCharacterWrittenShouldRoundTrip() throws IOException {
+        StringBuilder raw = new StringBuilder();
+        for (char c = 0; c < 0x80; c++) raw.append(c);
+        raw.append("é€😀");
+        String json = JsonWriter.local().beginObject().field("k\"ey", raw).endObject().toString();
+        JsonNode node = MAPPER.readTree(json);
+        assertThat(node.get("k\"ey").asText()).isEqualTo(raw.toString());
+    }
+
+    @Test
+    @DisplayName("Quando local chamado novamente na mesma thread deve reutilizar a instância vazia")
+    void whenLocalCalledAgainShouldReuseEmptiedInstance() {
+        JsonWriter first = JsonWriter.local().beginObject().field("a", 1L).endObject();
+        JsonWriter second = JsonWriter.local();
+        assertThat(second).isSameAs(first);
+        assertThat(second.length()).isZero();
+        assertThat(second.beginObject().field("b", 2L).endObject().toString()).isEqualTo("{\"b\":2}");
+    }
+
+    @Test
+    @DisplayName("Quando buffer cresce além do limite deve ser descartado no próximo uso")
+    void whenBufferGrowsBeyondLimitShouldBeDroppedOnNextUse() {
+        char[] big = new char[JsonWriter.MAX_RETAINED_CAPACITY * 2];
+        Arrays.fill(big, 'x');
+        JsonWriter writer = new JsonWriter().beginObject().field("args", new String(big)).endObject();
+        assertThat(writer.length()).isGreaterThan(JsonWriter.MAX_RETAINED_CAPACITY);
+        assertThat(writer.reset().beginObject().endObject().toString()).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("Quando writeTo Appendable deve copiar o JSON escrito")
+    void whenWriteToAppendableShouldCopyJson() {
+        StringBuilder out = new StringBuilder("prefix ");
+        new JsonWriter().beginObject().field("a", "b").endObject().writeTo(out);
+        assertThat(out).hasToString("prefix {\"a\":\"b\"}");
+    }
+
+    @Test
+    @DisplayName("Quando Appendable lança IOException deve propagar UncheckedIOException")
+    void whenAppendableThrowsShouldPropagateUncheckedIOException() {
+        Writer failing = new Writer() {
+            @Override public void write(char[] cbuf, int off, int len) throws IOException { throw new IOException("closed"); }
+            @Override public Writer append(CharSequence csq) throws IOException { throw new IOException("closed"); }
+            @Override public void flush() { }
+            @Override public void close() { }
+        };
+        JsonWriter writer = new JsonWriter().beginObject().endObject();
+        assertThatThrownBy(() -> writer.writeTo(failing))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("closed");
+    }
+
+    @Test
+    @DisplayName("Quando writeTo ByteBuffer deve codificar em UTF-8 igual a String.getBytes")
+    void whenWriteToByteBufferShouldEncodeUtf8LikeGetBytes() {
+        String value = "ascii é € 😀 lone\uD800 low\uDC00";
+        JsonWriter writer = new JsonWriter().beginObject().field("v", value).endObject();
+        ByteBuffer out = ByteBuffer.allocate(128);
+        writer.writeTo(out);
+        byte[] written = Arrays.copyOf(out.array(), out.position());
+        assertThat(written).isEqualTo(writer.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KeywordPrefilter")
+class KeywordPrefilterTest {
+
+    private static final List<String> KEYS = List.of("password", "pass", "token", "accesstoken", "cpf");
+
+    private final KeywordPrefilter prefilter = KeywordPrefilter.build(KEYS);
+
+    @Test
+    @DisplayName("Quando nenhuma chave presente deve retornar null")
+    void whenNoKeyPresentShouldReturnNull() {
+        assertThat(prefilter.find("{\"name\":\"Ana\",\"age\":30}")).isNull();
+        assertThat(prefilter.find("")).isNull();
+    }
+
+    @Test
+    @DisplayName("Quando chaves aninhadas deve retornar todos os inícios ordenados e distintos")
+    void whenNestedKeysShouldReturnAllStartsSortedAndDistinct() {
+        // "pass" and "password" share offset 1; "token" starts inside "accesstoken"
+        assertThat(prefilter.find("\"password\":\"x\",\"accessToken\":1"))
+                .containsExactly(1, 16, 22);
+    }
+
+    @Test
+    @DisplayName("Quando letras maiúsculas deve encontrar sem diferenciar caixa")
+    void whenUpperCaseShouldMatchIgnoringCase() {
+        assertThat(prefilter.find("CPF=1 PassWord=2")).containsExactly(0, 6);
+    }
+
+    @Test
+    @DisplayName("Quando chave com caractere não ASCII deve aceitar qualquer caractere não ASCII na posição")
+    void whenNonAsciiKeyShouldAcceptAnyNonAsciiCharacter() {
+        KeywordPrefilter accented = KeywordPrefilter.build(List.of("senha_cartão", ""));
+        assertThat(accented.find("senha_cartão=1")).containsExactly(0);
+        assertThat(accented.find("SENHA_CARTÉO=1")).containsExactly(0);
+        assertThat(accented.find("senha_cartao=1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Quando entradas aleatórias deve coincidir com a busca ingênua")
+    void whenRandomInputsShouldMatchNaiveSearch() {
+        String[] fragments = {"pass", "word", "PASS", "tok", "en", "access", "c", "p", "f", "x", " ", "\""};
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int parts = random.nextInt(16);
+            for (int j = 0; j < parts; j++) {
+                sb.append(fragments[random.nextInt(fragments.length)]);
+            }
+            String input = sb.toString();
+            int[] expected = naive(input);
+            int[] found = prefilter.find(input);
+            if (expected.length == 0) {
+                assertThat(found).as(input).isNull();
+            } else {
+                assertThat(found).as(input).containsExactly(expected);
+            }
+        }
+    }
+
+    private static int[] naive(String input) {
+        String lower = input.toLowerCase(Locale.ROOT);
+        TreeSet<Integer> starts = new TreeSet<>();
+        for (String key : KEYS) {
+            for (int i = lower.indexOf(key); i >= 0; i = lower.indexOf(key, i + 1)) {
+                starts.add(i);
+            }
+        }
+        return starts.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
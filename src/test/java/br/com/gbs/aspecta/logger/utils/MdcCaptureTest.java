@@ -0,0 +1,98 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.slf4j.helpers.BasicMDCAdapter;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MdcCapture")
+class MdcCaptureTest {
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    private static MdcCapture capture(LoggerProperties.MdcCaptureMode mode, String... keys) {
+        LoggerProperties.Async cfg = new LoggerProperties().getAsync();
+        cfg.setMdcCapture(mode);
+        if (keys.length > 0) cfg.setMdcKeys(List.of(keys));
+        return MdcCapture.of(cfg);
+    }
+
+    @Test
+    @DisplayName("Quando modo full deve copiar todo o MDC a cada captura")
+    void whenFullModeShouldCopyWholeMdcOnEveryCapture() {
+        MdcCapture full = capture(LoggerProperties.MdcCaptureMode.FULL);
+        MDC.put("traceId", "t1");
+        MDC.put("userId", "u1");
+
+        Map<String, String> first = full.capture();
+        Map<String, String> second = full.capture();
+
+        assertThat(first).containsOnly(Map.entry("traceId", "t1"), Map.entry("userId", "u1"));
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Quando modo keys deve copiar apenas as chaves configuradas presentes")
+    void whenKeysModeShouldCopyOnlyConfiguredKeysThatArePresent() {
+        MdcCapture keys = capture(LoggerProperties.MdcCaptureMode.KEYS, "traceId", "tenant", "spanId");
+        MDC.put("traceId", "t1");
+        MDC.put("tenant", "acme");
+        MDC.put("userId", "u1");
+
+        assertThat(keys.capture()).containsOnly(Map.entry("traceId", "t1"), Map.entry("tenant", "acme"));
+    }
+
+    @Test
+    @DisplayName("Quando modo keys e nenhuma chave presente deve retornar null")
+    void whenKeysModeAndNoKeyPresentShouldReturnNull() {
+        MdcCapture keys = capture(LoggerProperties.MdcCaptureMode.KEYS);
+        MDC.put("userId", "u1");
+
+        assertThat(keys.capture()).isNull();
+    }
+
+    @Test
+    @DisplayName("Quando modo shared deve reutilizar o snapshot até o MDC mudar")
+    void whenSharedModeShouldReuseSnapshotUntilMdcChanges() {
+        MdcCapture shared = capture(LoggerProperties.MdcCaptureMode.SHARED);
+        MDC.put("traceId", "t1");
+
+        Map<String, String> first = shared.capture();
+        assertThat(shared.capture()).isSameAs(first);
+
+        MDC.put("spanId", "s1");
+        Map<String, String> changed = shared.capture();
+        assertThat(changed).isNotSameAs(first)
+                .containsOnly(Map.entry("traceId", "t1"), Map.entry("spanId", "s1"));
+        assertThat(first).containsOnly(Map.entry("traceId", "t1"));
+        assertThatThrownBy(() -> changed.put("x", "y")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Quando modo shared e MDC vazio deve retornar null")
+    void whenSharedModeAndMdcEmptyShouldReturnNull() {
+        assertThat(capture(LoggerProperties.MdcCaptureMode.SHARED).capture()).isNull();
+    }
+
+    @Test
+    @DisplayName("Quando modo shared sem Logback deve copiar todo o MDC")
+    void whenSharedModeWithoutLogbackShouldCopyWholeMdc() {
+        MdcCapture shared = new MdcCapture(LoggerProperties.MdcCaptureMode.SHARED, List.of(), new BasicMDCAdapter());
+        MDC.put("traceId", "t1");
+
+        Map<String, String> first = shared.capture();
+        assertThat(first).containsOnly(Map.entry("traceId", "t1"));
+        assertThat(shared.capture()).isNotSameAs(first);
+    }
+}
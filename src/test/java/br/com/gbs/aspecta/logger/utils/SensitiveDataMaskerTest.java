@@ -1,5 +1,6 @@
 package br.com.gbs.aspecta.logger.utils;
 
+import br.com.gbs.aspecta.logger.anotations.Sensitive;
 import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
 import br.com.gbs.aspecta.logger.masking.MaskingStrategy;
 import org.junit.jupiter.api.BeforeEach;
@@ -151,6 +152,184 @@ class SensitiveDataMaskerTest {
         }
     }
 
+    @Nested
+    @DisplayName("sanitizeArgs - limites de serialização")
+    class SanitizeArgsLimits {
+
+        @Test
+        @DisplayName("Quando argumento excede maxChars deve cortar e marcar como truncado")
+        void whenArgExceedsMaxCharsShouldCutAndMarkTruncated() {
+            props.getSerialization().setMaxChars(20);
+            String result = masker.sanitizeArgs(new Object[]{"a".repeat(100), "short"}, false);
+            assertThat(result).isEqualTo("a".repeat(20) + SensitiveDataMasker.TRUNCATED + ", short");
+        }
+
+        @Test
+        @DisplayName("Quando corte ocorre dentro de valor sensível deve ainda mascará-lo")
+        void whenCutFallsInsideSensitiveValueShouldStillMaskIt() {
+            String json = "{\"name\":\"Ana\",\"password\":\"" + "s".repeat(100) + "\"}";
+            String result = masker.sanitizeArgs(new Object[]{json}, true, List.of(),
+                    new SerializationLimits(40, 100, 8, true));
+            assertThat(result).doesNotContain("sss").contains("\"password\":\"***").contains("Ana")
+                    .endsWith(SensitiveDataMasker.TRUNCATED);
+        }
+
+        @Test
+        @DisplayName("Quando limites informados devem prevalecer sobre logger.serialization")
+        void whenLimitsGivenShouldOverrideGlobalSerialization() {
+            SerializationLimits limits = new SerializationLimits(10_000, 1, 8, true);
+            assertThat(masker.sanitizeResult(List.of(1, 2, 3), false, List.of(), limits))
+                    .isEqualTo("[1, ... (2 more)]");
+            assertThat(masker.sanitizeResult(List.of(1, 2, 3), false)).isEqualTo("[1, 2, 3]");
+        }
+
+        @Test
+        @DisplayName("Quando logger.serialization alterado deve usar os novos limites")
+        void whenGlobalSerializationChangesShouldUseNewLimits() {
+            SerializationLimits before = masker.defaultLimits();
+            assertThat(masker.defaultLimits()).isSameAs(before);
+            props.getSerialization().setMaxElements(2);
+            props.getSerialization().setMaxDepth(3);
+            props.getSerialization().setSummarizeBinary(false);
+            assertThat(masker.defaultLimits()).isEqualTo(new SerializationLimits(10_000, 2, 3, false));
+        }
+
+        @Test
+        @DisplayName("Quando toStringArg excede maxChars deve marcar como truncado")
+        void whenToStringArgExceedsMaxCharsShouldMarkTruncated() {
+            props.getSerialization().setMaxChars(16);
+            assertThat(masker.toStringArg("b".repeat(40))).isEqualTo("b".repeat(16) + SensitiveDataMasker.TRUNCATED);
+        }
+    }
+
+    @Nested
+    @DisplayName("sanitizeArgs - formato JSON")
+    class SanitizeArgsJsonFormat {
+
+        record Credentials(String user, String password) {
+        }
+
+        @BeforeEach
+        void useJsonFormat() {
+            props.getSerialization().setFormat(LoggerProperties.SerializationFormat.JSON);
+        }
+
+        @Test
+        @DisplayName("Quando DTO com propriedade sensível deve mascarar pelo nome da propriedade")
+        void whenDtoHasSensitivePropertyShouldMaskByPropertyName() {
+            String result = masker.sanitizeArgs(new Object[]{new Credentials("ana", "pw"), "plain"}, true);
+            assertThat(result).isEqualTo("{\"user\":\"ana\",\"password\":\"***\"}, plain");
+        }
+
+        @Test
+        @DisplayName("Quando texto com JSON deve continuar mascarando pelas chaves")
+        void whenTextWithJsonShouldStillMaskByKeys() {
+            String result = masker.sanitizeArgs(new Object[]{"{\"token\":\"abc\"}"}, true);
+            assertThat(result).isEqualTo("{\"token\":\"***\"}");
+        }
+
+        @Test
+        @DisplayName("Quando mascaramento desabilitado deve escrever JSON sem mascarar")
+        void whenMaskingDisabledShouldWriteUnmaskedJson() {
+            String result = masker.sanitizeArgs(new Object[]{new Credentials("ana", "pw"), 1}, false);
+            assertThat(result).isEqualTo("{\"user\":\"ana\",\"password\":\"pw\"}, 1");
+        }
+
+        @Test
+        @DisplayName("Quando JSON excede maxChars deve marcar como truncado")
+        void whenJsonExceedsMaxCharsShouldMarkTruncated() {
+            SerializationLimits limits = new SerializationLimits(20, 100, 8, true);
+            List<String> values = List.of("a".repeat(50));
+            assertThat(masker.sanitizeArgs(new Object[]{values}, true, List.of(), limits))
+                    .isEqualTo("[\"" + "a".repeat(18) + SensitiveDataMasker.TRUNCATED);
+            assertThat(masker.sanitizeArgs(new Object[]{values}, false, List.of(), limits))
+                    .endsWith(SensitiveDataMasker.TRUNCATED);
+        }
+
+        @Test
+        @DisplayName("Quando estratégia registrada deve aplicá-la sobre o JSON gerado")
+        void whenStrategyRegisteredShouldApplyItToGeneratedJson() {
+            SensitiveDataMasker withStrategy = new SensitiveDataMasker(props,
+                    List.of((MaskingStrategy) input -> input.replace("ana", "a**")));
+            assertThat(withStrategy.sanitizeArgs(new Object[]{new Credentials("ana", "pw")}, true))
+                    .isEqualTo("{\"user\":\"a**\",\"password\":\"***\"}");
+        }
+    }
+
+    @Nested
+    @DisplayName("@Sensitive")
+    class SensitiveAnnotation {
+
+        record Card(String holder, @Sensitive(keepLast = 4) String number, @Sensitive String cvv) {
+        }
+
+        static class Account {
+            private final String owner;
+            @Sensitive(keepFirst = 2)
+            private final String iban;
+            private final String pin;
+
+            Account(String owner, String iban, String pin) {
+                this.owner = owner;
+                this.iban = iban;
+                this.pin = pin;
+            }
+
+            public String getOwner() { return owner; }
+            public String getIban() { return iban; }
+            @Sensitive public String getPin() { return pin; }
+            @Override public String toString() { return "Account " + owner + " " + iban + " " + pin; }
+        }
+
+        @Test
+        @DisplayName("Quando componente de record anotado deve mascarar mantendo os dígitos pedidos")
+        void whenRecordComponentAnnotatedShouldMaskKeepingRequestedDigits() {
+            String result = masker.sanitizeArgs(new Object[]{new Card("Ana", "4111111111111111", "123")}, true);
+            assertThat(result).isEqualTo("Card[holder=Ana, number=***1111, cvv=***]");
+        }
+
+        @Test
+        @DisplayName("Quando campo ou getter anotado deve ignorar o toString da classe")
+        void whenFieldOrGetterAnnotatedShouldBypassToString() {
+            String result = masker.sanitizeArgs(new Object[]{List.of(new Account("Bia", "BR1500000000", "9876"))}, true);
+            assertThat(result).isEqualTo("[Account[owner=Bia, iban=BR***, pin=***]]");
+        }
+
+        @Test
+        @DisplayName("Quando chave excluída do mask deve manter a anotação")
+        void whenKeyExcludedFromMaskShouldStillHonorAnnotation() {
+            String result = masker.sanitizeArgs(new Object[]{new Card("Ana", "4111111111111111", "123")}, true,
+                    List.of("cvv"));
+            assertThat(result).contains("cvv=***").doesNotContain("123,");
+        }
+
+        @Test
+        @DisplayName("Quando valores curtos ou nulos não deve revelá-los")
+        void whenValuesShortOrNullShouldNotRevealThem() {
+            String result = masker.sanitizeArgs(new Object[]{new Card(null, "411", null)}, true);
+            assertThat(result).isEqualTo("Card[holder=null, number=***, cvv=null]");
+        }
+
+        @Test
+        @DisplayName("Quando mascaramento desabilitado deve usar o toString original")
+        void whenMaskingDisabledShouldUseOriginalToString() {
+            Account account = new Account("Bia", "BR1500000000", "9876");
+            assertThat(masker.sanitizeArgs(new Object[]{account}, false)).isEqualTo(account.toString());
+        }
+
+        @Test
+        @DisplayName("Quando formato JSON deve aplicar a anotação antes das chaves sensíveis")
+        void whenJsonFormatShouldApplyAnnotationBeforeSensitiveKeys() {
+            props.getSerialization().setFormat(LoggerProperties.SerializationFormat.JSON);
+            assertThat(masker.sanitizeArgs(new Object[]{new Card("Ana", "4111111111111111", null)}, true))
+                    .isEqualTo("{\"holder\":\"Ana\",\"number\":\"***1111\",\"cvv\":null}");
+            assertThat(masker.sanitizeArgs(new Object[]{new Account("Bia", "BR1500000000", "9876")}, true))
+                    .isEqualTo("{\"owner\":\"Bia\",\"iban\":\"BR***\",\"pin\":\"***\"}");
+            assertThat(masker.sanitizeArgs(new Object[]{new Card("Ana", "4111111111111111", "1")}, false))
+                    .contains("\"number\":\"4111111111111111\"");
+        }
+    }
+
     @Nested
     @DisplayName("sanitizeResult")
     class SanitizeResult {
@@ -229,6 +408,15 @@ class SensitiveDataMaskerTest {
             assertThat(result).contains("abc123");
             assertThat(result).doesNotContain("secret");
         }
+
+        @Test
+        @DisplayName("Quando chaves sensíveis alteradas deve reconstruir o pré-filtro")
+        void whenSensitiveKeysChangeShouldRebuildPrefilter() {
+            String msg = "apiKey=k1 password=p1";
+            assertThat(masker.sanitizeMessage(msg, true, List.of())).isEqualTo("apiKey=k1 password=***");
+            props.setSensitiveKeys(List.of("apiKey"));
+            assertThat(masker.sanitizeMessage(msg, true, List.of())).isEqualTo("apiKey=*** password=p1");
+        }
     }
 
     @Nested
@@ -284,7 +472,7 @@ class SensitiveDataMaskerTest {
         @Test
         @DisplayName("Quando array de bytes deve serializar corretamente")
         void whenByteArrayShouldSerializeCorrectly() {
-            assertThat(masker.toStringArg(new byte[]{1, 2})).isNotBlank();
+            assertThat(masker.toStringArg(new byte[]{1, 2})).isEqualTo("byte[2]");
         }
 
         @Test
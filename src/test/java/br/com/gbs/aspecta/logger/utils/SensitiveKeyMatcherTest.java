@@ -0,0 +1,188 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SensitiveKeyMatcher")
+class SensitiveKeyMatcherTest {
+
+    private static final List<String> KEYS = List.of("password", "token", "cpf", "pass", "TOKEN");
+
+    private final SensitiveKeyMatcher matcher = SensitiveKeyMatcher.compile(KEYS);
+
+    @Nested
+    @DisplayName("maskJson")
+    class MaskJson {
+
+        @Test
+        @DisplayName("Quando valor string de chave sensível deve mascarar mantendo a formatação")
+        void whenStringValueShouldMaskKeepingFormatting() {
+            assertThat(matcher.maskJson("{\"Password\" :  \"abc\",\"name\":\"x\"}"))
+                    .isEqualTo("{\"Password\" :  \"***\",\"name\":\"x\"}");
+        }
+
+        @Test
+        @DisplayName("Quando valor numérico de chave sensível deve mascarar entre aspas")
+        void whenNumericValueShouldMaskBetweenQuotes() {
+            assertThat(matcher.maskJson("{\"cpf\":-123.45,\"age\":3}"))
+                    .isEqualTo("{\"cpf\":\"***\",\"age\":3}");
+        }
+
+        @Test
+        @DisplayName("Quando nenhuma chave presente deve retornar a mesma instância")
+        void whenNoKeyPresentShouldReturnSameInstance() {
+            String input = "{\"name\":\"Ana\",\"age\":30}";
+            assertThat(matcher.maskJson(input)).isSameAs(input);
+        }
+
+        @Test
+        @DisplayName("Quando chaves se sobrepõem deve preservar o resultado da cadeia original")
+        void whenKeysOverlapShouldPreserveOriginalChainResult() {
+            String input = "{\"password\":\"token\":\"x\",\"cpf\":1token\":\"y\"}";
+            assertThat(matcher.maskJson(input)).isEqualTo(reference(KEYS, input, false));
+            String numberThenKey = "{\"cpf\":1token\":\"y\"}";
+            assertThat(matcher.maskJson(numberThenKey)).isEqualTo(reference(KEYS, numberThenKey, false));
+        }
+    }
+
+    @Nested
+    @DisplayName("maskPlainText")
+    class MaskPlainText {
+
+        @Test
+        @DisplayName("Quando chave=valor deve usar a última grafia configurada da chave")
+        void whenKeyValueShouldUseLastConfiguredSpelling() {
+            assertThat(matcher.maskPlainText("token=abc and password: hunter2 end"))
+                    .isEqualTo("TOKEN=*** and password=*** end");
+        }
+
+        @Test
+        @DisplayName("Quando chave faz parte de outra palavra não deve mascarar")
+        void whenKeyIsPartOfAnotherWordShouldNotMask() {
+            String input = "mytoken=abc tokens=1 passwordx=2";
+            assertThat(matcher.maskPlainText(input)).isSameAs(input);
+        }
+
+        @Test
+        @DisplayName("Quando valor de uma chave contém outra chave deve preservar o resultado da cadeia original")
+        void whenValueContainsAnotherKeyShouldPreserveOriginalChainResult() {
+            String input = "token=password = secret rest";
+            assertThat(matcher.maskPlainText(input)).isEqualTo(reference(KEYS, input, true));
+        }
+    }
+
+    @Nested
+    @DisplayName("isSensitiveKey")
+    class IsSensitiveKey {
+
+        @Test
+        @DisplayName("Quando nome igual a uma chave ignorando caixa deve ser sensível")
+        void whenNameEqualsKeyIgnoringCaseShouldBeSensitive() {
+            assertThat(matcher.isSensitiveKey("Password")).isTrue();
+            assertThat(matcher.isSensitiveKey("pass")).isTrue();
+            assertThat(matcher.isSensitiveKey("passwordHint")).isFalse();
+            assertThat(matcher.isSensitiveKey("pas")).isFalse();
+            assertThat(matcher.isSensitiveKey("páss")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Quando chaves com caracteres especiais deve comparar ignorando caixa")
+        void whenNonWordKeysShouldCompareIgnoringCase() {
+            SensitiveKeyMatcher legacy = SensitiveKeyMatcher.compile(List.of("api-key", "cpf"));
+            assertThat(legacy.isSensitiveKey("API-KEY")).isTrue();
+            assertThat(legacy.isSensitiveKey("cpf")).isTrue();
+            assertThat(legacy.isSensitiveKey("name")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Chaves com caracteres não alfanuméricos")
+    class NonWordKeys {
+
+        @Test
+        @DisplayName("Quando chave contém hífen deve mascarar como a cadeia original")
+        void whenKeyContainsHyphenShouldMaskAsOriginalChain() {
+            List<String> keys = List.of("api-key", "token");
+            SensitiveKeyMatcher m = SensitiveKeyMatcher.compile(keys);
+            String json = "{\"api-key\":\"k1\",\"token\":2}";
+            String plain = "api-key=k1 token: t";
+            assertThat(m.maskJson(json)).isEqualTo(reference(keys, json, false));
+            assertThat(m.maskPlainText(plain)).isEqualTo(reference(keys, plain, true));
+        }
+    }
+
+    @Nested
+    @DisplayName("Pré-filtro de chaves")
+    class Prefilter {
+
+        @Test
+        @DisplayName("Quando nenhuma chave presente deve retornar offsets nulos e a mesma instância")
+        void whenNoKeyPresentShouldReturnNullOffsetsAndSameInstance() {
+            String input = "name=Ana age: 30";
+            assertThat(matcher.keyOffsets(input)).isNull();
+            assertThat(matcher.maskPlainText(input)).isSameAs(input);
+        }
+
+        @Test
+        @DisplayName("Quando offsets compartilhados deve mascarar como sem offsets")
+        void whenOffsetsSharedShouldMaskAsWithoutOffsets() {
+            String input = "{\"token\":\"t\"} password=p";
+            int[] offsets = matcher.keyOffsets(input);
+            assertThat(matcher.maskJson(input, offsets)).isEqualTo(matcher.maskJson(input));
+            assertThat(matcher.maskPlainText(input, offsets)).isEqualTo(matcher.maskPlainText(input));
+        }
+
+        @Test
+        @DisplayName("Quando chave vazia configurada deve ignorar o pré-filtro")
+        void whenEmptyKeyConfiguredShouldSkipPrefilter() {
+            List<String> keys = List.of("", "token");
+            SensitiveKeyMatcher m = SensitiveKeyMatcher.compile(keys);
+            String json = "{\"\":1,\"token\":\"t\"}";
+            assertThat(m.keyOffsets(json)).isEmpty();
+            assertThat(m.maskJson(json)).isEqualTo(reference(keys, json, false));
+        }
+    }
+
+    @Test
+    @DisplayName("Quando entradas aleatórias deve produzir exatamente a saída da cadeia de regex original")
+    void whenRandomInputsShouldProduceExactlyOriginalRegexChainOutput() {
+        String[] fragments = {
+                "password", "PassWord", "token", "Token", "cpf", "pass", "x", "_", "1", "-", ".",
+                "\"", "\"", "\"", ":", ":", "=", " ", " ", "\t", "\n", ",", "{", "}", "'", "*", "e\u0301", "\u0301"
+        };
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int parts = 1 + random.nextInt(24);
+            for (int j = 0; j < parts; j++) {
+                sb.append(fragments[random.nextInt(fragments.length)]);
+            }
+            String input = sb.toString();
+            assertThat(matcher.maskJson(input)).as("json: %s", input).isEqualTo(reference(KEYS, input, false));
+            assertThat(matcher.maskPlainText(input)).as("plain: %s", input).isEqualTo(reference(KEYS, input, true));
+        }
+    }
+
+    /** The per-key regex chain that {@link SensitiveKeyMatcher} replaces. */
+    private static String reference(List<String> keys, String input, boolean plainText) {
+        String result = input;
+        for (String key : keys) {
+            String qk = Pattern.quote(key);
+            if (plainText) {
+                result = result.replaceAll("(?i)\\b" + qk + "\\s*[=:]\\s*\\S+", key + "=***");
+                result = result.replaceAll("(?i)\\b" + qk + "\\s*[=:]\\s*['\"][^'\"]*['\"]", key + "=***");
+            } else {
+                result = result.replaceAll("(?i)(\"" + qk + "\"\\s*:\\s*\")[^\"]*\"", "$1***\"");
+                result = result.replaceAll("(?i)(\"" + qk + "\"\\s*:\\s*)(-?\\d+(?:\\.\\d+)?)", "$1\"***\"");
+            }
+        }
+        return result;
+    }
+}
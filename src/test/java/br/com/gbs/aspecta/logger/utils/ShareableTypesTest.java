@@ -0,0 +1,77 @@
+package br.com.gbs.aspecta.logger.utils;
+
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.masking.MaskingStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SensitiveDataMasker - isShareable")
+class ShareableTypesTest {
+
+    private LoggerProperties props;
+    private SensitiveDataMasker masker;
+
+    @BeforeEach
+    void setUp() {
+        props = new LoggerProperties();
+        masker = new SensitiveDataMasker(props, (List<MaskingStrategy>) null);
+    }
+
+    @Test
+    @DisplayName("Quando valores imutáveis do JDK devem ser compartilháveis")
+    void whenImmutableJdkValuesShouldBeShareable() {
+        assertThat(masker.isShareable(new Object[]{
+                "s", 1, 2L, 3.0, true, 'c', null, BigDecimal.ONE, UUID.randomUUID(),
+                LocalDate.now(), Instant.now(), TimeUnit.SECONDS})).isTrue();
+    }
+
+    @Test
+    @DisplayName("Quando record de tipos imutáveis deve ser compartilhável")
+    void whenRecordOfImmutableTypesShouldBeShareable() {
+        assertThat(masker.isShareable(new Money("BRL", BigDecimal.TEN, new Money("USD", BigDecimal.ONE, null))))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("Quando valores mutáveis não devem ser compartilháveis")
+    void whenMutableValuesShouldNotBeShareable() {
+        assertThat(masker.isShareable(new int[]{1})).isFalse();
+        assertThat(masker.isShareable(new ArrayList<>(List.of("a")))).isFalse();
+        assertThat(masker.isShareable(new StringBuilder("x"))).isFalse();
+        assertThat(masker.isShareable(new Bean())).isFalse();
+        assertThat(masker.isShareable(new Order(List.of("a")))).isFalse();
+        assertThat(masker.isShareable("ok", new Bean())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Quando tipo configurado em safe-types deve ser compartilhável junto com seus subtipos")
+    void whenTypeConfiguredInSafeTypesShouldBeShareableWithSubtypes() {
+        props.setSafeTypes(List.of(Snapshot.class.getName()));
+        assertThat(masker.isShareable(new Bean())).isTrue();
+        assertThat(masker.isShareable(new Order(List.of("a")))).isFalse();
+    }
+
+    record Money(String currency, BigDecimal amount, Money converted) {
+    }
+
+    record Order(List<String> items) {
+    }
+
+    interface Snapshot {
+    }
+
+    static class Bean implements Snapshot {
+        String name = "n";
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.gbs.aspecta.metrics;
+
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MicrometerBatchMetrics")
+class MicrometerBatchMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Quando lote registrado deve alimentar o resumo de tamanho e o timer de latência")
+    void whenBatchRecordedShouldFeedSizeSummaryAndLatencyTimer() {
+        MicrometerBatchMetrics metrics = new MicrometerBatchMetrics(registry, new LoggerProperties());
+        metrics.recordBatch(10, TimeUnit.MICROSECONDS.toNanos(300));
+        metrics.recordBatch(2, TimeUnit.MICROSECONDS.toNanos(100));
+
+        DistributionSummary size = registry.get(MicrometerBatchMetrics.BATCH_SIZE).summary();
+        Timer latency = registry.get(MicrometerBatchMetrics.BATCH_LATENCY).timer();
+        assertThat(size.count()).isEqualTo(2);
+        assertThat(size.totalAmount()).isEqualTo(12.0);
+        assertThat(size.max()).isEqualTo(10.0);
+        assertThat(latency.count()).isEqualTo(2);
+        assertThat(latency.totalTime(TimeUnit.MICROSECONDS)).isEqualTo(400.0);
+    }
+
+    @Test
+    @DisplayName("Quando histograma de percentis desabilitado não deve publicá-lo")
+    void whenPercentileHistogramDisabledShouldNotPublishIt() {
+        Map<String, Boolean> histogramByMeter = new HashMap<>();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                histogramByMeter.put(id.getName(), config.isPercentileHistogram());
+                return config;
+            }
+        });
+        LoggerProperties props = new LoggerProperties();
+        props.getMetrics().setPercentileHistogram(false);
+
+        new MicrometerBatchMetrics(registry, props);
+
+        assertThat(histogramByMeter)
+                .containsEntry(MicrometerBatchMetrics.BATCH_SIZE, false)
+                .containsEntry(MicrometerBatchMetrics.BATCH_LATENCY, false);
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.gbs.aspecta.metrics;
+
+import br.com.gbs.aspecta.logger.configurations.LoggerProperties;
+import br.com.gbs.aspecta.logger.interfaces.CallMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MicrometerCallMetrics")
+class MicrometerCallMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private LoggerProperties props;
+    private MicrometerCallMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        props = new LoggerProperties();
+        metrics = new MicrometerCallMetrics(registry, props);
+    }
+
+    @Test
+    @DisplayName("Quando chamada bem-sucedida deve registrar no timer de sucesso do método")
+    void whenCallSucceedsShouldRecordOnMethodSuccessTimer() {
+        CallMetrics.Recorder recorder = metrics.forMethod("OrderService", "find");
+        recorder.recordSuccess(TimeUnit.MILLISECONDS.toNanos(12));
+        recorder.recordSuccess(TimeUnit.MILLISECONDS.toNanos(8));
+
+        Timer success = timer("find", "success");
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(success.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(20.0);
+        assertThat(timer("find", "error").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Quando chamada falha deve registrar no timer de erro e contar por tipo de exceção")
+    void whenCallFailsShouldRecordErrorTimerAndCountByExceptionType() {
+        CallMetrics.Recorder recorder = metrics.forMethod("OrderService", "save");
+        recorder.recordFailure(1_000, new IllegalStateException());
+        recorder.recordFailure(1_000, new IllegalStateException());
+        recorder.recordFailure(1_000, new IllegalArgumentException());
+
+        assertThat(timer("save", "error").count()).isEqualTo(3);
+        assertThat(counter("save", "IllegalStateException").count()).isEqualTo(2.0);
+        assertThat(counter("save", "IllegalArgumentException").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Quando histograma de percentis configurado deve repassá-lo ao timer")
+    void whenPercentileHistogramConfiguredShouldApplyItToTimer() {
+        Map<String, Boolean> histogramByMethod = new HashMap<>();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                histogramByMethod.put(id.getTag("method"), config.isPercentileHistogram());
+                return config;
+            }
+        });
+
+        metrics.forMethod("OrderService", "find");
+        props.getMetrics().setPercentileHistogram(false);
+        metrics.forMethod("OrderService", "list");
+
+        assertThat(histogramByMethod).containsEntry("find", true).containsEntry("list", false);
+    }
+
+    private Timer timer(String method, String outcome) {
+        return registry.get(MicrometerCallMetrics.CALLS)
+                .tags("class", "OrderService", "method", method, "outcome", outcome)
+                .timer();
+    }
+
+    private Counter counter(String method, String exception) {
+        return registry.get(MicrometerCallMetrics.EXCEPTIONS)
+                .tags("class", "OrderService", "method", method, "exception", exception)
+                .counter();
+    }
+}
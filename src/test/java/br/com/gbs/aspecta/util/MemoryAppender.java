@@ -28,6 +28,8 @@ public class MemoryAppender extends AppenderBase<ILoggingEvent> {
 
     @Override
     protected void append(ILoggingEvent event) {
+        // Snapshot MDC and message now: the logging thread clears its MDC right after
+        event.prepareForDeferredProcessing();
         events.add(event);
     }
 